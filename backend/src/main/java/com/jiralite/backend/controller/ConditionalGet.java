@@ -0,0 +1,29 @@
+package com.jiralite.backend.controller;
+
+import java.util.function.Supplier;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * If-None-Match handling for read endpoints. The ETag is computed first (from
+ * row versions, see ResourceVersionService) and the body supplier only runs when
+ * the client's copy is stale.
+ */
+final class ConditionalGet {
+
+    // Clients may keep the body but must revalidate; private because bodies are tenant data.
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ConditionalGet() {
+    }
+
+    static <T> ResponseEntity<T> respond(WebRequest request, String etag, Supplier<T> body) {
+        if (request.checkNotModified(etag)) {
+            // checkNotModified already set 304 and the ETag header on the response.
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(body.get());
+    }
+}
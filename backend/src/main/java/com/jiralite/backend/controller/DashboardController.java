@@ -5,23 +5,27 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.jiralite.backend.dto.DashboardMetricsResponse;
 import com.jiralite.backend.service.DashboardService;
+import com.jiralite.backend.service.ResourceVersionService;
 
 @RestController
 @RequestMapping("/dashboard")
 public class DashboardController {
 
     private final DashboardService dashboardService;
+    private final ResourceVersionService resourceVersionService;
 
-    public DashboardController(DashboardService dashboardService) {
+    public DashboardController(DashboardService dashboardService, ResourceVersionService resourceVersionService) {
         this.dashboardService = dashboardService;
+        this.resourceVersionService = resourceVersionService;
     }
 
     @GetMapping("/metrics")
     @PreAuthorize("hasAnyRole('ADMIN','MEMBER')")
-    public ResponseEntity<DashboardMetricsResponse> metrics() {
-        return ResponseEntity.ok(dashboardService.metrics());
+    public ResponseEntity<DashboardMetricsResponse> metrics(WebRequest webRequest) {
+        return ConditionalGet.respond(webRequest, resourceVersionService.dashboardTag(), dashboardService::metrics);
     }
 }
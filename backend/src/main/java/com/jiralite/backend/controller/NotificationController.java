@@ -9,15 +9,25 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import com.jiralite.backend.entity.NotificationEntity;
 import com.jiralite.backend.service.NotificationService;
 import com.jiralite.backend.dto.PageMeta;
+import com.jiralite.backend.dto.MarkNotificationsReadRequest;
+import com.jiralite.backend.dto.NotificationPreferencesRequest;
+import com.jiralite.backend.dto.NotificationPreferencesResponse;
+import com.jiralite.backend.dto.NotificationResponse;
 import com.jiralite.backend.dto.PagedResponse;
+import com.jiralite.backend.dto.UnreadCountResponse;
+
+import jakarta.validation.Valid;
 
 @RestController
 @RequestMapping("/notifications")
@@ -30,19 +40,35 @@ public class NotificationController {
     }
 
     @GetMapping
-    public ResponseEntity<PagedResponse<NotificationEntity>> list(
+    public ResponseEntity<PagedResponse<NotificationResponse>> list(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "50") int size) {
         PageRequest pr = PageRequest.of(Math.max(page, 0), Math.max(1, Math.min(size, 100)));
-        Page<NotificationEntity> result = notificationService.listForCurrentUser(pr);
+        Page<NotificationResponse> result = notificationService.listForCurrentUser(pr);
         PageMeta meta = new PageMeta(result.getNumber(), result.getSize(), result.getTotalElements(),
                 result.getTotalPages());
         return ResponseEntity.ok(new PagedResponse<>(result.getContent(), meta));
     }
 
+    @GetMapping("/unread-count")
+    public ResponseEntity<UnreadCountResponse> unreadCount() {
+        return ResponseEntity.ok(new UnreadCountResponse(notificationService.unreadCount()));
+    }
+
+    @GetMapping("/preferences")
+    public ResponseEntity<NotificationPreferencesResponse> preferences() {
+        return ResponseEntity.ok(notificationService.preferencesForCurrentUser());
+    }
+
+    @PutMapping("/preferences")
+    public ResponseEntity<NotificationPreferencesResponse> updatePreferences(
+            @Valid @RequestBody NotificationPreferencesRequest request) {
+        return ResponseEntity.ok(notificationService.updatePreferences(request));
+    }
+
     @GetMapping(path = "/stream", produces = "text/event-stream")
-    public SseEmitter stream() {
-        return notificationService.subscribeCurrentUser();
+    public SseEmitter stream(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return notificationService.subscribeCurrentUser(lastEventId);
     }
 
     @PatchMapping("/{id}/read")
@@ -50,4 +76,14 @@ public class NotificationController {
         notificationService.markRead(id);
         return ResponseEntity.noContent().build();
     }
+
+    @PostMapping("/read")
+    public ResponseEntity<UnreadCountResponse> markRead(@Valid @RequestBody MarkNotificationsReadRequest request) {
+        return ResponseEntity.ok(new UnreadCountResponse(notificationService.markRead(request.getIds())));
+    }
+
+    @PostMapping("/read-all")
+    public ResponseEntity<UnreadCountResponse> markAllRead() {
+        return ResponseEntity.ok(new UnreadCountResponse(notificationService.markAllRead()));
+    }
 }
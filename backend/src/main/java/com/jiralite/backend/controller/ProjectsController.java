@@ -15,11 +15,13 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.jiralite.backend.dto.CreateProjectRequest;
 import com.jiralite.backend.dto.ProjectResponse;
 import com.jiralite.backend.dto.UpdateProjectRequest;
 import com.jiralite.backend.service.ProjectService;
+import com.jiralite.backend.service.ResourceVersionService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -35,23 +37,28 @@ import jakarta.validation.Valid;
 public class ProjectsController {
 
     private final ProjectService projectService;
+    private final ResourceVersionService resourceVersionService;
 
-    public ProjectsController(ProjectService projectService) {
+    public ProjectsController(ProjectService projectService, ResourceVersionService resourceVersionService) {
         this.projectService = projectService;
+        this.resourceVersionService = resourceVersionService;
     }
 
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN','MEMBER')")
     @Operation(summary = "List projects in current org")
-    public ResponseEntity<List<ProjectResponse>> listProjects() {
-        return ResponseEntity.ok(projectService.listProjects());
+    public ResponseEntity<List<ProjectResponse>> listProjects(WebRequest webRequest) {
+        return ConditionalGet.respond(webRequest, resourceVersionService.projectListTag("all"),
+                projectService::listProjects);
     }
 
     @GetMapping("/{projectId}")
     @PreAuthorize("hasAnyRole('ADMIN','MEMBER')")
     @Operation(summary = "Get project in current org")
-    public ResponseEntity<ProjectResponse> getProject(@PathVariable UUID projectId) {
-        return ResponseEntity.ok(projectService.getProject(projectId));
+    public ResponseEntity<ProjectResponse> getProject(@PathVariable UUID projectId, WebRequest webRequest) {
+        ProjectResponse project = projectService.getProject(projectId);
+        String etag = resourceVersionService.entityTag("project", project.id(), project.updatedAt());
+        return ConditionalGet.respond(webRequest, etag, () -> project);
     }
 
     @PostMapping
@@ -103,15 +110,17 @@ public class ProjectsController {
     @GetMapping("/active")
     @PreAuthorize("hasAnyRole('ADMIN','MEMBER')")
     @Operation(summary = "List active (not archived, not deleted) projects")
-    public ResponseEntity<List<ProjectResponse>> listActiveProjects() {
-        return ResponseEntity.ok(projectService.listActiveProjects());
+    public ResponseEntity<List<ProjectResponse>> listActiveProjects(WebRequest webRequest) {
+        return ConditionalGet.respond(webRequest, resourceVersionService.projectListTag("active"),
+                projectService::listActiveProjects);
     }
 
     @GetMapping("/archived")
     @PreAuthorize("hasAnyRole('ADMIN','MEMBER')")
     @Operation(summary = "List archived projects")
-    public ResponseEntity<List<ProjectResponse>> listArchivedProjects() {
-        return ResponseEntity.ok(projectService.listArchivedProjects());
+    public ResponseEntity<List<ProjectResponse>> listArchivedProjects(WebRequest webRequest) {
+        return ConditionalGet.respond(webRequest, resourceVersionService.projectListTag("archived"),
+                projectService::listArchivedProjects);
     }
 
     @GetMapping("/trash")
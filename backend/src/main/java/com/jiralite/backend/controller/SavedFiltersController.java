@@ -0,0 +1,75 @@
+package com.jiralite.backend.controller;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.jiralite.backend.dto.CreateSavedFilterRequest;
+import com.jiralite.backend.dto.SavedFilterResponse;
+import com.jiralite.backend.dto.UpdateSavedFilterRequest;
+import com.jiralite.backend.service.SavedFilterService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+
+/**
+ * The current user's saved ticket filters.
+ */
+@RestController
+@RequestMapping("/saved-filters")
+@Tag(name = "Saved filters", description = "Saved ticket queries with cached counts")
+@Validated
+public class SavedFiltersController {
+
+    private final SavedFilterService savedFilterService;
+
+    public SavedFiltersController(SavedFilterService savedFilterService) {
+        this.savedFilterService = savedFilterService;
+    }
+
+    @GetMapping
+    @PreAuthorize("hasAnyRole('ADMIN','MEMBER')")
+    @Operation(summary = "List my saved filters with cached ticket counts",
+            description = "Counts are maintained as tickets change; no per-filter COUNT is run.")
+    public ResponseEntity<List<SavedFilterResponse>> listFilters() {
+        return ResponseEntity.ok(savedFilterService.listFilters());
+    }
+
+    @PostMapping
+    @PreAuthorize("hasAnyRole('ADMIN','MEMBER')")
+    @Operation(summary = "Save a ticket filter",
+            description = "`query` uses the GET /tickets `q` language; `me` is the filter's owner.")
+    public ResponseEntity<SavedFilterResponse> createFilter(@Valid @RequestBody CreateSavedFilterRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(savedFilterService.createFilter(request));
+    }
+
+    @PatchMapping("/{filterId}")
+    @PreAuthorize("hasAnyRole('ADMIN','MEMBER')")
+    @Operation(summary = "Rename a saved filter or change its query")
+    public ResponseEntity<SavedFilterResponse> updateFilter(
+            @PathVariable UUID filterId,
+            @Valid @RequestBody UpdateSavedFilterRequest request) {
+        return ResponseEntity.ok(savedFilterService.updateFilter(filterId, request));
+    }
+
+    @DeleteMapping("/{filterId}")
+    @PreAuthorize("hasAnyRole('ADMIN','MEMBER')")
+    @Operation(summary = "Delete a saved filter")
+    public ResponseEntity<Void> deleteFilter(@PathVariable UUID filterId) {
+        savedFilterService.deleteFilter(filterId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,56 @@
+package com.jiralite.backend.controller;
+
+import java.util.UUID;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.jiralite.backend.dto.TicketImportJobResponse;
+import com.jiralite.backend.service.TicketImportService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * Bulk ticket import endpoints (ADMIN only).
+ */
+@RestController
+@RequestMapping("/tickets/imports")
+@Tag(name = "Ticket Imports", description = "Bulk import of tickets, comments and attachments")
+public class TicketImportsController {
+
+    private final TicketImportService ticketImportService;
+
+    public TicketImportsController(TicketImportService ticketImportService) {
+        this.ticketImportService = ticketImportService;
+    }
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Start a ticket import from a CSV or NDJSON file (ADMIN only)",
+            description = "Each record has a `type` (ticket, comment, attachment; default ticket). Comments and "
+                    + "attachments reference a ticket from the same file by `ticketRef` = its `ref`. "
+                    + "Returns 202 with the job; poll GET /tickets/imports/{jobId} for progress.")
+    public ResponseEntity<TicketImportJobResponse> startImport(
+            @RequestParam UUID projectId,
+            @RequestParam(required = false) String format,
+            @RequestPart("file") MultipartFile file) {
+        return ResponseEntity.accepted().body(ticketImportService.startImport(projectId, file, format));
+    }
+
+    @GetMapping("/{jobId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Import job status and progress")
+    public ResponseEntity<TicketImportJobResponse> getImport(@PathVariable UUID jobId) {
+        return ResponseEntity.ok(ticketImportService.getJob(jobId));
+    }
+}
@@ -1,10 +1,14 @@
 package com.jiralite.backend.controller;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
@@ -16,16 +20,30 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.jiralite.backend.dto.BulkCreateTicketsRequest;
+import com.jiralite.backend.dto.BulkTicketResult;
+import com.jiralite.backend.dto.BulkTransitionTicketsRequest;
 import com.jiralite.backend.dto.CreateTicketRequest;
 import com.jiralite.backend.dto.PagedResponse;
+import com.jiralite.backend.dto.TicketBoardResponse;
+import com.jiralite.backend.dto.TicketBundleResponse;
+import com.jiralite.backend.dto.TicketChangesResponse;
 import com.jiralite.backend.dto.TicketResponse;
+import com.jiralite.backend.dto.TicketSearchResult;
 import com.jiralite.backend.dto.TransitionTicketRequest;
 import com.jiralite.backend.dto.UpdateTicketRequest;
+import com.jiralite.backend.service.ResourceVersionService;
+import com.jiralite.backend.service.TicketBundleService;
+import com.jiralite.backend.service.TicketExportService;
+import com.jiralite.backend.service.TicketQueryPlanner;
 import com.jiralite.backend.service.TicketService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springdoc.core.annotations.ParameterObject;
 
@@ -39,34 +57,119 @@ import org.springdoc.core.annotations.ParameterObject;
 public class TicketsController {
 
     private final TicketService ticketService;
-
-    public TicketsController(TicketService ticketService) {
+    private final ResourceVersionService resourceVersionService;
+    private final TicketExportService ticketExportService;
+    private final TicketQueryPlanner ticketQueryPlanner;
+    private final TicketBundleService ticketBundleService;
+
+    public TicketsController(
+            TicketService ticketService,
+            ResourceVersionService resourceVersionService,
+            TicketExportService ticketExportService,
+            TicketQueryPlanner ticketQueryPlanner,
+            TicketBundleService ticketBundleService) {
         this.ticketService = ticketService;
+        this.resourceVersionService = resourceVersionService;
+        this.ticketExportService = ticketExportService;
+        this.ticketQueryPlanner = ticketQueryPlanner;
+        this.ticketBundleService = ticketBundleService;
     }
 
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN','MEMBER')")
-    @Operation(summary = "List tickets in current org (paged)")
+    @Operation(summary = "List tickets in current org (paged)",
+            description = "Offset paging by default. Pass `after` (empty for the first page, then page.nextCursor) "
+                    + "for keyset paging sorted by createdAt. `withTotal=false` skips the total count. "
+                    + "`summary=true` truncates description for list views. `q` takes a query such as "
+                    + "`status in (OPEN, IN_PROGRESS) and assignee = me and created >= -7d order by priority desc`; "
+                    + "fields: status, priority, project, assignee, reporter, created, updated, key, title.")
     public ResponseEntity<PagedResponse<TicketResponse>> listTickets(
             @RequestParam(required = false) String status,
             @RequestParam(required = false) String priority,
             @RequestParam(required = false) UUID projectId,
-            @ParameterObject Pageable pageable) {
-        return ResponseEntity.ok(ticketService.listTickets(status, priority, projectId, pageable));
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "true") boolean withTotal,
+            @RequestParam(defaultValue = "false") boolean summary,
+            @ParameterObject Pageable pageable,
+            HttpServletRequest httpRequest,
+            WebRequest webRequest) {
+        // Keyset and withTotal=false pages skip the org-wide count, which the version stamp would
+        // reintroduce; "created >= -7d" moves with the clock, so the data version alone can't validate it.
+        if (after != null || !withTotal || (q != null && ticketQueryPlanner.isTimeRelative(q))) {
+            return ResponseEntity.ok(
+                    ticketService.listTickets(status, priority, projectId, q, pageable, after, withTotal, summary));
+        }
+        String etag = resourceVersionService.ticketListTag(httpRequest.getQueryString(),
+                q != null && ticketQueryPlanner.isUserRelative(q));
+        return ConditionalGet.respond(webRequest, etag,
+                () -> ticketService.listTickets(status, priority, projectId, q, pageable, after, withTotal, summary));
     }
 
     @GetMapping("/search")
     @PreAuthorize("hasAnyRole('ADMIN','MEMBER')")
-    @Operation(summary = "Search tickets by keyword in current org")
-    public ResponseEntity<List<TicketResponse>> searchTickets(@RequestParam String keyword) {
-        return ResponseEntity.ok(ticketService.search(keyword));
+    @Operation(summary = "Full-text search tickets in current org (ranked, paged)")
+    public ResponseEntity<PagedResponse<TicketSearchResult>> searchTickets(
+            @RequestParam String keyword,
+            @ParameterObject Pageable pageable) {
+        return ResponseEntity.ok(ticketService.search(keyword, pageable));
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Stream all tickets matching the list filters as CSV or NDJSON (ADMIN only)",
+            description = "`format` is csv or ndjson; `gzip=true` returns a .gz file.")
+    public ResponseEntity<StreamingResponseBody> exportTickets(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String priority,
+            @RequestParam(required = false) UUID projectId,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        TicketExportService.Format exportFormat = TicketExportService.parseFormat(format);
+        StreamingResponseBody body = ticketExportService.export(status, priority, projectId, exportFormat, gzip);
+        String filename = "tickets-" + LocalDate.now() + "." + exportFormat.extension() + (gzip ? ".gz" : "");
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(gzip ? "application/gzip" : exportFormat.contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
+    @GetMapping("/board")
+    @PreAuthorize("hasAnyRole('ADMIN','MEMBER')")
+    @Operation(summary = "Kanban board for a project: newest tickets per status with column totals")
+    public ResponseEntity<TicketBoardResponse> board(
+            @RequestParam UUID projectId,
+            @RequestParam(defaultValue = "50") int perColumn) {
+        return ResponseEntity.ok(ticketService.board(projectId, perColumn));
+    }
+
+    @GetMapping("/changes")
+    @PreAuthorize("hasAnyRole('ADMIN','MEMBER')")
+    @Operation(summary = "Tickets changed since a sync token (tombstones for deletions)",
+            description = "Call without `since` to get the current token, then poll with the returned nextToken. "
+                    + "`stalled` means a long-running write is delaying the feed.")
+    public ResponseEntity<TicketChangesResponse> ticketChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(ticketService.changesSince(since, limit));
     }
 
     @GetMapping("/{ticketId}")
     @PreAuthorize("hasAnyRole('ADMIN','MEMBER')")
     @Operation(summary = "Get ticket detail in current org")
-    public ResponseEntity<TicketResponse> getTicket(@PathVariable UUID ticketId) {
-        return ResponseEntity.ok(ticketService.getTicket(ticketId));
+    public ResponseEntity<TicketResponse> getTicket(@PathVariable UUID ticketId, WebRequest webRequest) {
+        TicketResponse ticket = ticketService.getTicket(ticketId);
+        String etag = resourceVersionService.entityTag("ticket", ticket.id(), ticket.updatedAt());
+        return ConditionalGet.respond(webRequest, etag, () -> ticket);
+    }
+
+    @GetMapping("/{ticketId}/bundle")
+    @PreAuthorize("hasAnyRole('ADMIN','MEMBER')")
+    @Operation(summary = "Get ticket with comments, attachments (with download URLs) and referenced users",
+            description = "One round trip for the ticket view; the parts are loaded concurrently.")
+    public ResponseEntity<TicketBundleResponse> getTicketBundle(@PathVariable UUID ticketId) {
+        return ResponseEntity.ok(ticketBundleService.getBundle(ticketId));
     }
 
     @PostMapping
@@ -77,6 +180,22 @@ public class TicketsController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/bulk")
+    @PreAuthorize("hasAnyRole('ADMIN','MEMBER')")
+    @Operation(summary = "Create many tickets in one project (all-or-nothing)")
+    public ResponseEntity<List<TicketResponse>> createTickets(@Valid @RequestBody BulkCreateTicketsRequest request) {
+        List<TicketResponse> response = ticketService.createTickets(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @PostMapping("/bulk/transition")
+    @PreAuthorize("hasAnyRole('ADMIN','MEMBER')")
+    @Operation(summary = "Transition many tickets to one status (per-ticket results)")
+    public ResponseEntity<List<BulkTicketResult>> transitionTickets(
+            @Valid @RequestBody BulkTransitionTicketsRequest request) {
+        return ResponseEntity.ok(ticketService.transitionTickets(request));
+    }
+
     @PatchMapping("/{ticketId}")
     @PreAuthorize("hasAnyRole('ADMIN','MEMBER')")
     @Operation(summary = "Update ticket in current org")
@@ -0,0 +1,87 @@
+package com.jiralite.backend.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Create many tickets in one project with a single request.
+ */
+public class BulkCreateTicketsRequest {
+
+    public static final int MAX_TICKETS = 10_000;
+
+    @NotNull
+    private UUID projectId;
+
+    @NotEmpty
+    @Size(max = MAX_TICKETS)
+    @Valid
+    private List<Item> tickets;
+
+    public UUID getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(UUID projectId) {
+        this.projectId = projectId;
+    }
+
+    public List<Item> getTickets() {
+        return tickets;
+    }
+
+    public void setTickets(List<Item> tickets) {
+        this.tickets = tickets;
+    }
+
+    public static class Item {
+
+        @NotBlank
+        private String title;
+
+        private String description;
+
+        @NotBlank
+        private String priority;
+
+        private UUID assigneeId;
+
+        public String getTitle() {
+            return title;
+        }
+
+        public void setTitle(String title) {
+            this.title = title;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public void setDescription(String description) {
+            this.description = description;
+        }
+
+        public String getPriority() {
+            return priority;
+        }
+
+        public void setPriority(String priority) {
+            this.priority = priority;
+        }
+
+        public UUID getAssigneeId() {
+            return assigneeId;
+        }
+
+        public void setAssigneeId(UUID assigneeId) {
+            this.assigneeId = assigneeId;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.jiralite.backend.dto;
+
+import java.util.UUID;
+
+/**
+ * Per-ticket outcome of a bulk operation. {@code key} and {@code status} are
+ * null when the ticket was not found.
+ */
+public record BulkTicketResult(
+        UUID ticketId,
+        String key,
+        Outcome outcome,
+        String status
+) {
+
+    public enum Outcome {
+        UPDATED,
+        UNCHANGED,
+        NOT_FOUND,
+        INVALID_TRANSITION
+    }
+}
@@ -0,0 +1,39 @@
+package com.jiralite.backend.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Move many tickets to the same status (multi-select board operations).
+ */
+public class BulkTransitionTicketsRequest {
+
+    public static final int MAX_TICKETS = 1_000;
+
+    @NotEmpty
+    @Size(max = MAX_TICKETS)
+    private List<UUID> ticketIds;
+
+    @NotBlank
+    private String status;
+
+    public List<UUID> getTicketIds() {
+        return ticketIds;
+    }
+
+    public void setTicketIds(List<UUID> ticketIds) {
+        this.ticketIds = ticketIds;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+}
@@ -0,0 +1,27 @@
+package com.jiralite.backend.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Mark several of the current user's notifications read in one call.
+ */
+public class MarkNotificationsReadRequest {
+
+    public static final int MAX_IDS = 500;
+
+    @NotEmpty
+    @Size(max = MAX_IDS)
+    private List<UUID> ids;
+
+    public List<UUID> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<UUID> ids) {
+        this.ids = ids;
+    }
+}
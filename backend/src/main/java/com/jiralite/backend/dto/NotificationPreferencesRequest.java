@@ -0,0 +1,51 @@
+package com.jiralite.backend.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Replaces the current user's notification preferences in the current
+ * organization. Types are notification type codes, e.g. TICKET_UPDATED.
+ */
+public class NotificationPreferencesRequest {
+
+    public static final int MAX_MUTED_PROJECTS = 200;
+
+    @NotNull
+    private List<String> mutedTypes = new ArrayList<>();
+
+    @NotNull
+    private List<String> digestTypes = new ArrayList<>();
+
+    @NotNull
+    @Size(max = MAX_MUTED_PROJECTS)
+    private List<UUID> mutedProjectIds = new ArrayList<>();
+
+    public List<String> getMutedTypes() {
+        return mutedTypes;
+    }
+
+    public void setMutedTypes(List<String> mutedTypes) {
+        this.mutedTypes = mutedTypes;
+    }
+
+    public List<String> getDigestTypes() {
+        return digestTypes;
+    }
+
+    public void setDigestTypes(List<String> digestTypes) {
+        this.digestTypes = digestTypes;
+    }
+
+    public List<UUID> getMutedProjectIds() {
+        return mutedProjectIds;
+    }
+
+    public void setMutedProjectIds(List<UUID> mutedProjectIds) {
+        this.mutedProjectIds = mutedProjectIds;
+    }
+}
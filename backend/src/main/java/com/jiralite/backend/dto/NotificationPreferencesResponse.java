@@ -0,0 +1,16 @@
+package com.jiralite.backend.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The current user's notification preferences in the current organization;
+ * {@code types} lists every type that can be muted or made digest-only.
+ */
+public record NotificationPreferencesResponse(
+        List<String> mutedTypes,
+        List<String> digestTypes,
+        List<UUID> mutedProjectIds,
+        List<String> types
+) {
+}
@@ -0,0 +1,18 @@
+package com.jiralite.backend.dto;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * A notification with its text rendered for the reader's locale.
+ */
+public record NotificationResponse(
+        UUID id,
+        String type,
+        String content,
+        boolean read,
+        OffsetDateTime createdAt,
+        UUID ticketId,
+        int eventCount
+) {
+}
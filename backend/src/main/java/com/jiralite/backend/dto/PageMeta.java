@@ -1,9 +1,22 @@
 package com.jiralite.backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Paging metadata. Fields that were not computed (e.g. totals when the client
+ * opted out of counting, or the page number in cursor mode) are reported as -1.
+ */
 public record PageMeta(
         int number,
         int size,
         long totalElements,
-        int totalPages
+        int totalPages,
+        @JsonInclude(JsonInclude.Include.NON_NULL) String nextCursor
 ) {
+
+    public static final int NOT_COMPUTED = -1;
+
+    public PageMeta(int number, int size, long totalElements, int totalPages) {
+        this(number, size, totalElements, totalPages, null);
+    }
 }
@@ -0,0 +1,19 @@
+package com.jiralite.backend.dto;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Saved ticket filter. {@code count} is the cached number of matching live
+ * tickets; {@code countedAt} is when it was last recounted from scratch.
+ */
+public record SavedFilterResponse(
+        UUID id,
+        String name,
+        String query,
+        long count,
+        OffsetDateTime countedAt,
+        OffsetDateTime createdAt,
+        OffsetDateTime updatedAt
+) {
+}
@@ -0,0 +1,24 @@
+package com.jiralite.backend.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Kanban board for a project: one column per ticket status, in workflow order.
+ */
+public record TicketBoardResponse(
+        UUID projectId,
+        List<Column> columns
+) {
+
+    /**
+     * {@code total} counts every active ticket in the column; {@code tickets}
+     * holds only the newest ones (descriptions truncated).
+     */
+    public record Column(
+            String status,
+            long total,
+            List<TicketResponse> tickets
+    ) {
+    }
+}
@@ -0,0 +1,41 @@
+package com.jiralite.backend.dto;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Everything the ticket view needs in one document: the ticket, its comments,
+ * its attachments with download URLs, and the users they reference.
+ */
+public record TicketBundleResponse(
+        TicketResponse ticket,
+        List<CommentResponse> comments,
+        List<Attachment> attachments,
+        List<User> users
+) {
+
+    /**
+     * {@code downloadUrl} is presigned for uploaded attachments and null while
+     * an upload is still pending.
+     */
+    public record Attachment(
+            UUID id,
+            String fileName,
+            String contentType,
+            long fileSize,
+            String status,
+            UUID uploadedBy,
+            OffsetDateTime createdAt,
+            String downloadUrl,
+            OffsetDateTime downloadExpiresAt
+    ) {
+    }
+
+    public record User(
+            UUID id,
+            String displayName,
+            String avatarUrl
+    ) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.jiralite.backend.dto;
+
+import java.util.UUID;
+
+/**
+ * One entry of the ticket change feed. Deleted tickets are tombstones: only
+ * {@code id} is set and {@code ticket} is null.
+ */
+public record TicketChange(
+        UUID id,
+        boolean deleted,
+        TicketResponse ticket
+) {
+}
@@ -0,0 +1,17 @@
+package com.jiralite.backend.dto;
+
+import java.util.List;
+
+/**
+ * A page of the ticket change feed. Pass {@code nextToken} as {@code since} on
+ * the next call; {@code hasMore} means another page is ready immediately.
+ * {@code stalled} means a long-running write is holding the feed back, so an
+ * empty page does not mean nothing changed.
+ */
+public record TicketChangesResponse(
+        List<TicketChange> changes,
+        String nextToken,
+        boolean hasMore,
+        boolean stalled
+) {
+}
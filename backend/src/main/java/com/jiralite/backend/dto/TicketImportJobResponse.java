@@ -0,0 +1,28 @@
+package com.jiralite.backend.dto;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Status of a ticket import job. Imported counts grow as each chunk of the
+ * load commits and are kept if the job fails; {@code errors} holds the first
+ * rejected rows by line number.
+ */
+public record TicketImportJobResponse(
+        UUID id,
+        UUID projectId,
+        String format,
+        String fileName,
+        String status,
+        long rowsRead,
+        long rowsRejected,
+        long ticketsImported,
+        long commentsImported,
+        long attachmentsImported,
+        List<String> errors,
+        OffsetDateTime createdAt,
+        OffsetDateTime startedAt,
+        OffsetDateTime finishedAt
+) {
+}
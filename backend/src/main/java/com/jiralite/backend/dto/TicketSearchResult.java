@@ -0,0 +1,14 @@
+package com.jiralite.backend.dto;
+
+/**
+ * Ranked full-text search hit. Highlighted fragments are HTML-escaped and
+ * wrap matches in &lt;mark&gt; tags, their only markup, so they can be
+ * rendered as HTML.
+ */
+public record TicketSearchResult(
+        TicketResponse ticket,
+        double rank,
+        String highlightedTitle,
+        String snippet
+) {
+}
@@ -0,0 +1,7 @@
+package com.jiralite.backend.dto;
+
+/**
+ * The current user's unread notification count in the current organization.
+ */
+public record UnreadCountResponse(long unread) {
+}
@@ -0,0 +1,28 @@
+package com.jiralite.backend.dto;
+
+import jakarta.validation.constraints.Size;
+
+public class UpdateSavedFilterRequest {
+
+    @Size(max = 100)
+    private String name;
+
+    @Size(max = 2000)
+    private String query;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public void setQuery(String query) {
+        this.query = query;
+    }
+}
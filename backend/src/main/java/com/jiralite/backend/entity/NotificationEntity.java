@@ -1,9 +1,11 @@
 package com.jiralite.backend.entity;
 
 import java.time.OffsetDateTime;
+import java.util.Map;
 import java.util.UUID;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
@@ -24,15 +26,29 @@ public class NotificationEntity {
     @Column(nullable = false)
     private String type;
 
-    @Column(nullable = false, columnDefinition = "TEXT")
+    // Pre-V28 rows only; newer ones are rendered from type + params
+    @Column(columnDefinition = "TEXT")
     private String content;
 
+    @Convert(converter = NotificationParamsConverter.class)
+    @Column(columnDefinition = "TEXT")
+    private Map<String, String> params;
+
     @Column(name = "is_read", nullable = false)
     private boolean isRead;
 
     @Column(name = "created_at", nullable = false)
     private OffsetDateTime createdAt;
 
+    @Column(name = "ticket_id")
+    private UUID ticketId;
+
+    @Column(name = "event_count", nullable = false)
+    private int eventCount = 1;
+
+    @Column(name = "pushed_at")
+    private OffsetDateTime pushedAt;
+
     public UUID getId() {
         return id;
     }
@@ -73,6 +89,14 @@ public class NotificationEntity {
         this.content = content;
     }
 
+    public Map<String, String> getParams() {
+        return params;
+    }
+
+    public void setParams(Map<String, String> params) {
+        this.params = params;
+    }
+
     public boolean isRead() {
         return isRead;
     }
@@ -88,4 +112,28 @@ public class NotificationEntity {
     public void setCreatedAt(OffsetDateTime createdAt) {
         this.createdAt = createdAt;
     }
+
+    public UUID getTicketId() {
+        return ticketId;
+    }
+
+    public void setTicketId(UUID ticketId) {
+        this.ticketId = ticketId;
+    }
+
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    public void setEventCount(int eventCount) {
+        this.eventCount = eventCount;
+    }
+
+    public OffsetDateTime getPushedAt() {
+        return pushedAt;
+    }
+
+    public void setPushedAt(OffsetDateTime pushedAt) {
+        this.pushedAt = pushedAt;
+    }
 }
@@ -27,6 +27,10 @@ public class OrgEntity {
     @Column(name = "updated_at", nullable = false)
     private OffsetDateTime updatedAt;
 
+    // Days notifications are kept; null means the default (NotificationRetention)
+    @Column(name = "notification_retention_days")
+    private Integer notificationRetentionDays;
+
     public UUID getId() {
         return id;
     }
@@ -58,4 +62,12 @@ public class OrgEntity {
     public void setUpdatedAt(OffsetDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    public Integer getNotificationRetentionDays() {
+        return notificationRetentionDays;
+    }
+
+    public void setNotificationRetentionDays(Integer notificationRetentionDays) {
+        this.notificationRetentionDays = notificationRetentionDays;
+    }
 }
@@ -1,6 +1,11 @@
 package com.jiralite.backend.entity;
 
 import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.EmbeddedId;
@@ -29,6 +34,24 @@ public class OrgMembershipEntity {
     @Column(name = "updated_at", nullable = false)
     private OffsetDateTime updatedAt;
 
+    // Maintained by SQL only (NotificationUnreadCounter); never written from the entity
+    @ColumnDefault("0")
+    @Column(name = "unread_notifications", nullable = false, insertable = false, updatable = false)
+    private int unreadNotifications;
+
+    // Bitmasks over NotificationPreferences.TYPES
+    @ColumnDefault("0")
+    @Column(name = "notification_muted_types", nullable = false)
+    private long notificationMutedTypes;
+
+    @ColumnDefault("0")
+    @Column(name = "notification_digest_types", nullable = false)
+    private long notificationDigestTypes;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "notification_muted_projects")
+    private UUID[] notificationMutedProjects;
+
     public OrgMembershipId getId() {
         return id;
     }
@@ -68,4 +91,32 @@ public class OrgMembershipEntity {
     public void setUpdatedAt(OffsetDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    public int getUnreadNotifications() {
+        return unreadNotifications;
+    }
+
+    public long getNotificationMutedTypes() {
+        return notificationMutedTypes;
+    }
+
+    public void setNotificationMutedTypes(long notificationMutedTypes) {
+        this.notificationMutedTypes = notificationMutedTypes;
+    }
+
+    public long getNotificationDigestTypes() {
+        return notificationDigestTypes;
+    }
+
+    public void setNotificationDigestTypes(long notificationDigestTypes) {
+        this.notificationDigestTypes = notificationDigestTypes;
+    }
+
+    public UUID[] getNotificationMutedProjects() {
+        return notificationMutedProjects;
+    }
+
+    public void setNotificationMutedProjects(UUID[] notificationMutedProjects) {
+        this.notificationMutedProjects = notificationMutedProjects;
+    }
 }
@@ -42,6 +42,10 @@ public class ProjectEntity {
     @Column(name = "updated_at", nullable = false)
     private OffsetDateTime updatedAt;
 
+    // Advanced only by TicketKeyAllocator via an atomic UPDATE; never written back by dirty checking.
+    @Column(name = "next_ticket_number", nullable = false, updatable = false)
+    private long nextTicketNumber = 1;
+
     public UUID getId() {
         return id;
     }
@@ -114,6 +118,14 @@ public class ProjectEntity {
         this.updatedAt = updatedAt;
     }
 
+    public long getNextTicketNumber() {
+        return nextTicketNumber;
+    }
+
+    public void setNextTicketNumber(long nextTicketNumber) {
+        this.nextTicketNumber = nextTicketNumber;
+    }
+
     // --- Soft Delete / Archive Fields ---
 
     @Column(name = "archived_at")
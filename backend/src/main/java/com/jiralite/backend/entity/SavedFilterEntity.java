@@ -0,0 +1,127 @@
+package com.jiralite.backend.entity;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * A user's saved ticket query and its cached result count.
+ */
+@Entity
+@Table(name = "saved_filters")
+public class SavedFilterEntity {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "org_id", nullable = false)
+    private UUID orgId;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String query;
+
+    @Column(name = "time_relative", nullable = false)
+    private boolean timeRelative;
+
+    @Column(name = "match_count", nullable = false)
+    private long matchCount;
+
+    @Column(name = "counted_at")
+    private OffsetDateTime countedAt;
+
+    @Column(name = "created_at", nullable = false)
+    private OffsetDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private OffsetDateTime updatedAt;
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getOrgId() {
+        return orgId;
+    }
+
+    public void setOrgId(UUID orgId) {
+        this.orgId = orgId;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public void setUserId(UUID userId) {
+        this.userId = userId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public void setQuery(String query) {
+        this.query = query;
+    }
+
+    public boolean isTimeRelative() {
+        return timeRelative;
+    }
+
+    public void setTimeRelative(boolean timeRelative) {
+        this.timeRelative = timeRelative;
+    }
+
+    public long getMatchCount() {
+        return matchCount;
+    }
+
+    public void setMatchCount(long matchCount) {
+        this.matchCount = matchCount;
+    }
+
+    public OffsetDateTime getCountedAt() {
+        return countedAt;
+    }
+
+    public void setCountedAt(OffsetDateTime countedAt) {
+        this.countedAt = countedAt;
+    }
+
+    public OffsetDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(OffsetDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public OffsetDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(OffsetDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -4,6 +4,7 @@ import java.time.OffsetDateTime;
 import java.util.UUID;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
@@ -33,10 +34,12 @@ public class TicketEntity {
     @Column(columnDefinition = "TEXT")
     private String description;
 
-    @Column(nullable = false)
+    @Convert(converter = TicketStatusConverter.class)
+    @Column(name = "status_rank", nullable = false)
     private String status;
 
-    @Column(nullable = false)
+    @Convert(converter = TicketPriorityConverter.class)
+    @Column(name = "priority_rank", nullable = false)
     private String priority;
 
     @Column(name = "created_by")
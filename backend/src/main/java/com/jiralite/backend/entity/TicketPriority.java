@@ -0,0 +1,31 @@
+package com.jiralite.backend.entity;
+
+/**
+ * Ticket priority and the smallint rank stored in tickets.priority_rank.
+ * Ascending urgency, so sorting by rank sorts the way users expect.
+ */
+public enum TicketPriority {
+    LOW(1),
+    MEDIUM(2),
+    HIGH(3),
+    URGENT(4);
+
+    private final short rank;
+
+    TicketPriority(int rank) {
+        this.rank = (short) rank;
+    }
+
+    public short rank() {
+        return rank;
+    }
+
+    public static TicketPriority fromRank(short rank) {
+        for (TicketPriority value : values()) {
+            if (value.rank == rank) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Unknown priority rank " + rank);
+    }
+}
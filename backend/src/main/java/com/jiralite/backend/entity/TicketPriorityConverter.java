@@ -0,0 +1,21 @@
+package com.jiralite.backend.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Maps the priority name used by the API to its smallint rank column.
+ */
+@Converter
+public class TicketPriorityConverter implements AttributeConverter<String, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(String attribute) {
+        return attribute == null ? null : TicketPriority.valueOf(attribute).rank();
+    }
+
+    @Override
+    public String convertToEntityAttribute(Short dbData) {
+        return dbData == null ? null : TicketPriority.fromRank(dbData).name();
+    }
+}
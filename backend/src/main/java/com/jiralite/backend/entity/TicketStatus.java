@@ -0,0 +1,31 @@
+package com.jiralite.backend.entity;
+
+/**
+ * Ticket status and the smallint rank stored in tickets.status_rank.
+ * Workflow order, so sorting by rank sorts the way users expect.
+ */
+public enum TicketStatus {
+    OPEN(1),
+    IN_PROGRESS(2),
+    DONE(3),
+    CANCELLED(4);
+
+    private final short rank;
+
+    TicketStatus(int rank) {
+        this.rank = (short) rank;
+    }
+
+    public short rank() {
+        return rank;
+    }
+
+    public static TicketStatus fromRank(short rank) {
+        for (TicketStatus value : values()) {
+            if (value.rank == rank) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Unknown status rank " + rank);
+    }
+}
@@ -0,0 +1,21 @@
+package com.jiralite.backend.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Maps the status name used by the API to its smallint rank column.
+ */
+@Converter
+public class TicketStatusConverter implements AttributeConverter<String, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(String attribute) {
+        return attribute == null ? null : TicketStatus.valueOf(attribute).rank();
+    }
+
+    @Override
+    public String convertToEntityAttribute(Short dbData) {
+        return dbData == null ? null : TicketStatus.fromRank(dbData).name();
+    }
+}
@@ -7,7 +7,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.jiralite.backend.entity.AuditLogEntity;
 
-public interface AuditLogRepository extends JpaRepository<AuditLogEntity, UUID> {
+public interface AuditLogRepository extends JpaRepository<AuditLogEntity, UUID>, BatchInsertRepository<AuditLogEntity> {
     List<AuditLogEntity> findTop50ByTenantIdOrderByCreatedAtDesc(UUID tenantId);
 
     org.springframework.data.domain.Page<AuditLogEntity> findByTenantIdOrderByCreatedAtDesc(
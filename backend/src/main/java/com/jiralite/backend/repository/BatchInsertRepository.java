@@ -0,0 +1,18 @@
+package com.jiralite.backend.repository;
+
+import java.util.Collection;
+
+/**
+ * Repository fragment for inserting many new entities in JDBC batches.
+ */
+public interface BatchInsertRepository<T> {
+
+    /**
+     * Persist entities that are known to be new (assigned ids, no merge SELECT),
+     * flushing every {@code hibernate.jdbc.batch_size} rows. The inserted
+     * entities are detached after each flush; other managed entities are
+     * untouched. A failed flush marks the surrounding transaction
+     * rollback-only, so callers should let the exception propagate.
+     */
+    void insertAll(Collection<? extends T> entities);
+}
@@ -0,0 +1,46 @@
+package com.jiralite.backend.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+class BatchInsertRepositoryImpl<T> implements BatchInsertRepository<T> {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final int batchSize;
+
+    BatchInsertRepositoryImpl(@Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @Override
+    @Transactional
+    public void insertAll(Collection<? extends T> entities) {
+        List<T> pending = new ArrayList<>(batchSize);
+        for (T entity : entities) {
+            entityManager.persist(entity);
+            pending.add(entity);
+            if (pending.size() == batchSize) {
+                flushAndDetach(pending);
+            }
+        }
+        if (!pending.isEmpty()) {
+            flushAndDetach(pending);
+        }
+    }
+
+    // Detach only what this call persisted; entities the caller loaded stay managed
+    private void flushAndDetach(List<T> batch) {
+        entityManager.flush();
+        batch.forEach(entityManager::detach);
+        batch.clear();
+    }
+}
@@ -0,0 +1,39 @@
+package com.jiralite.backend.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import com.jiralite.backend.entity.NotificationOutboxEntity;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutboxEntity, Long> {
+
+    /**
+     * One outbox row per notification, copied in a single statement. Must run
+     * in the transaction that inserted or updated the notifications. A
+     * coalesced notification still waiting in the outbox is not added twice.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO notification_outbox (notification_id, user_id, created_at) "
+            + "SELECT n.id, n.user_id, n.created_at FROM notifications n WHERE n.id IN (:ids) "
+            + "AND NOT EXISTS (SELECT 1 FROM notification_outbox o WHERE o.notification_id = n.id)",
+            nativeQuery = true)
+    int enqueue(@Param("ids") Collection<UUID> ids);
+
+    // Lock timeout -2 is SKIP LOCKED: concurrent dispatchers claim disjoint batches
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM NotificationOutboxEntity o ORDER BY o.id")
+    List<NotificationOutboxEntity> claimBatch(Pageable pageable);
+}
@@ -0,0 +1,38 @@
+package com.jiralite.backend.repository;
+
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Maintenance of the monthly notifications partitions (V27), Postgres only.
+ * Anything that removes rows also lowers the unread counters on
+ * org_memberships by the unread rows it removed, in the same transaction.
+ */
+public interface NotificationPartitionRepository {
+
+    /**
+     * Months that have a partition, oldest first (the default partition excluded).
+     */
+    List<YearMonth> findPartitionMonths();
+
+    void createPartition(YearMonth month);
+
+    /**
+     * Drops the month's partition. Blocks writes to it while its unread rows
+     * are subtracted from the counters.
+     */
+    void dropPartition(YearMonth month);
+
+    /**
+     * Deletes up to {@code limit} of the org's notifications created before
+     * {@code cutoff}; returns how many.
+     */
+    int deleteExpired(UUID tenantId, OffsetDateTime cutoff, int limit);
+
+    /**
+     * True if rows fell outside every monthly partition.
+     */
+    boolean hasRowsInDefaultPartition();
+}
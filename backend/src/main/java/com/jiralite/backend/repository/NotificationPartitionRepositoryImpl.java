@@ -0,0 +1,121 @@
+package com.jiralite.backend.repository;
+
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+class NotificationPartitionRepositoryImpl implements NotificationPartitionRepository {
+
+    private static final String PARTITION_PREFIX = "notifications_p";
+    private static final DateTimeFormatter MONTH_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private static final String PARTITIONS_SQL = """
+            SELECT c.relname
+            FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            JOIN pg_class p ON p.oid = i.inhparent
+            WHERE p.relname = 'notifications' AND p.relnamespace = current_schema()::regnamespace
+            """;
+
+    // Counter adjustment for the rows of one partition, taken while writes to it are blocked
+    private static final String DISCOUNT_PARTITION_SQL = """
+            UPDATE org_memberships m
+            SET unread_notifications = m.unread_notifications - d.unread
+            FROM (SELECT tenant_id, user_id, COUNT(*) AS unread FROM %s
+                  WHERE is_read = FALSE GROUP BY tenant_id, user_id) d
+            WHERE m.org_id = d.tenant_id AND m.user_id = d.user_id
+            """;
+
+    // RETURNING reports is_read as deleted, so the counters stay exact under concurrent mark-read
+    private static final String DELETE_EXPIRED_SQL = """
+            WITH expired AS (
+                DELETE FROM notifications
+                WHERE (id, created_at) IN (
+                    SELECT id, created_at FROM notifications
+                    WHERE tenant_id = :tenantId AND created_at < :cutoff
+                    LIMIT :limit)
+                RETURNING user_id, is_read
+            ), unread AS (
+                SELECT user_id, COUNT(*) AS n FROM expired WHERE is_read = FALSE GROUP BY user_id
+            ), discounted AS (
+                UPDATE org_memberships m
+                SET unread_notifications = m.unread_notifications - u.n
+                FROM unread u
+                WHERE m.org_id = :tenantId AND m.user_id = u.user_id
+            )
+            SELECT COUNT(*) FROM expired
+            """;
+
+    private final JdbcClient jdbcClient;
+
+    NotificationPartitionRepositoryImpl(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
+    }
+
+    @Override
+    public List<YearMonth> findPartitionMonths() {
+        return jdbcClient.sql(PARTITIONS_SQL)
+                .query(String.class)
+                .list()
+                .stream()
+                .map(NotificationPartitionRepositoryImpl::month)
+                .filter(Objects::nonNull)
+                .sorted()
+                .toList();
+    }
+
+    @Override
+    public void createPartition(YearMonth month) {
+        // DDL takes no bind parameters; the name and UTC bounds come from a YearMonth
+        jdbcClient.sql("CREATE TABLE IF NOT EXISTS " + partitionName(month)
+                + " PARTITION OF notifications FOR VALUES FROM ('" + month.atDay(1) + " 00:00:00+00') TO ('"
+                + month.plusMonths(1).atDay(1) + " 00:00:00+00')")
+                .update();
+    }
+
+    @Override
+    public void dropPartition(YearMonth month) {
+        String partition = partitionName(month);
+        jdbcClient.sql("LOCK TABLE " + partition + " IN SHARE MODE").update();
+        jdbcClient.sql(DISCOUNT_PARTITION_SQL.formatted(partition)).update();
+        jdbcClient.sql("DROP TABLE " + partition).update();
+    }
+
+    @Override
+    public int deleteExpired(UUID tenantId, OffsetDateTime cutoff, int limit) {
+        return jdbcClient.sql(DELETE_EXPIRED_SQL)
+                .param("tenantId", tenantId)
+                .param("cutoff", cutoff)
+                .param("limit", limit)
+                .query(Integer.class)
+                .single();
+    }
+
+    @Override
+    public boolean hasRowsInDefaultPartition() {
+        return jdbcClient.sql("SELECT EXISTS (SELECT 1 FROM notifications_default)")
+                .query(Boolean.class)
+                .single();
+    }
+
+    static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(MONTH_SUFFIX);
+    }
+
+    private static YearMonth month(String partitionName) {
+        if (!partitionName.startsWith(PARTITION_PREFIX)) {
+            return null;
+        }
+        try {
+            return YearMonth.parse(partitionName.substring(PARTITION_PREFIX.length()), MONTH_SUFFIX);
+        } catch (DateTimeParseException ex) {
+            return null;
+        }
+    }
+}
@@ -1,18 +1,107 @@
 package com.jiralite.backend.repository;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.jiralite.backend.entity.NotificationEntity;
 
-public interface NotificationRepository extends JpaRepository<NotificationEntity, UUID> {
+import jakarta.persistence.LockModeType;
+
+public interface NotificationRepository extends JpaRepository<NotificationEntity, UUID>, BatchInsertRepository<NotificationEntity>,
+        NotificationPartitionRepository {
     List<NotificationEntity> findTop50ByTenantIdAndUserIdOrderByCreatedAtDesc(UUID tenantId, UUID userId);
 
     Optional<NotificationEntity> findByIdAndTenantIdAndUserId(UUID id, UUID tenantId, UUID userId);
 
-    org.springframework.data.domain.Page<NotificationEntity> findByTenantIdAndUserIdOrderByCreatedAtDesc(
-            UUID tenantId, UUID userId, org.springframework.data.domain.Pageable pageable);
+    /**
+     * A user's notifications newest first. The created_at lower bound (the
+     * org's retention cutoff) limits the scan to the monthly partitions it
+     * covers.
+     */
+    org.springframework.data.domain.Page<NotificationEntity>
+            findByTenantIdAndUserIdAndCreatedAtGreaterThanEqualOrderByCreatedAtDesc(
+                    UUID tenantId, UUID userId, OffsetDateTime notBefore,
+                    org.springframework.data.domain.Pageable pageable);
+
+    /**
+     * Keyset page of a user's notifications after (createdAt, id), oldest
+     * first, no older than {@code notBefore}. Used for SSE Last-Event-ID replay.
+     */
+    @Query("SELECT n FROM NotificationEntity n WHERE n.tenantId = :tenantId AND n.userId = :userId "
+            + "AND n.createdAt >= :notBefore "
+            + "AND (n.createdAt > :createdAt OR (n.createdAt = :createdAt AND n.id > :id)) "
+            + "ORDER BY n.createdAt ASC, n.id ASC")
+    List<NotificationEntity> findAfter(
+            @Param("tenantId") UUID tenantId,
+            @Param("userId") UUID userId,
+            @Param("createdAt") OffsetDateTime createdAt,
+            @Param("id") UUID id,
+            @Param("notBefore") OffsetDateTime notBefore,
+            Pageable pageable);
+
+    /**
+     * Marks the user's unread notifications among {@code ids} read; like
+     * {@link #markAllRead}, only partitions from {@code notBefore} on are
+     * touched.
+     */
+    @Modifying
+    @Query("UPDATE NotificationEntity n SET n.isRead = true WHERE n.tenantId = :tenantId AND n.userId = :userId "
+            + "AND n.isRead = false AND n.createdAt >= :notBefore AND n.id IN :ids")
+    int markRead(@Param("tenantId") UUID tenantId, @Param("userId") UUID userId,
+            @Param("notBefore") OffsetDateTime notBefore, @Param("ids") Collection<UUID> ids);
+
+    @Modifying
+    @Query("UPDATE NotificationEntity n SET n.isRead = true WHERE n.tenantId = :tenantId AND n.userId = :userId "
+            + "AND n.isRead = false AND n.createdAt >= :notBefore")
+    int markAllRead(@Param("tenantId") UUID tenantId, @Param("userId") UUID userId,
+            @Param("notBefore") OffsetDateTime notBefore);
+
+    interface DigestCandidate {
+        UUID getId();
+
+        UUID getUserId();
+
+        UUID getTicketId();
+
+        String getType();
+    }
+
+    /**
+     * Unread ticket notifications touched since {@code since}, newest first,
+     * unlocked; the caller picks the rows it coalesces into and locks those
+     * with {@link #lockOpenDigests}.
+     */
+    @Query("SELECT n.id AS id, n.userId AS userId, n.ticketId AS ticketId, n.type AS type "
+            + "FROM NotificationEntity n WHERE n.tenantId = :tenantId AND n.userId IN :userIds "
+            + "AND n.ticketId IN :ticketIds AND n.type IN :types AND n.isRead = false AND n.createdAt >= :since "
+            + "ORDER BY n.createdAt DESC")
+    List<DigestCandidate> findOpenDigests(
+            @Param("tenantId") UUID tenantId,
+            @Param("userIds") Collection<UUID> userIds,
+            @Param("ticketIds") Collection<UUID> ticketIds,
+            @Param("types") Collection<String> types,
+            @Param("since") OffsetDateTime since);
+
+    /**
+     * Locks the given digests in id order, so concurrent writers coalescing
+     * into overlapping rows take their locks in the same order. Rows read or
+     * aged out since {@link #findOpenDigests} are not returned.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT n FROM NotificationEntity n WHERE n.tenantId = :tenantId AND n.id IN :ids "
+            + "AND n.isRead = false AND n.createdAt >= :since ORDER BY n.id")
+    List<NotificationEntity> lockOpenDigests(
+            @Param("tenantId") UUID tenantId,
+            @Param("ids") Collection<UUID> ids,
+            @Param("since") OffsetDateTime since);
 }
@@ -1,10 +1,14 @@
 package com.jiralite.backend.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.jiralite.backend.entity.OrgMembershipEntity;
 import com.jiralite.backend.entity.OrgMembershipId;
@@ -16,7 +20,49 @@ public interface OrgMembershipRepository extends JpaRepository<OrgMembershipEnti
 
     Optional<OrgMembershipEntity> findByIdOrgIdAndIdUserId(UUID orgId, UUID userId);
 
+    List<OrgMembershipEntity> findAllByIdOrgIdAndIdUserIdIn(UUID orgId, Collection<UUID> userIds);
+
     long countByIdOrgId(UUID orgId);
 
     long countByIdOrgIdAndRole(UUID orgId, String role);
+
+    // --- Unread notification counter (see NotificationUnreadCounter) ---
+    interface UnreadCount {
+        UUID getUserId();
+
+        int getUnread();
+    }
+
+    @Query("SELECT m.id.userId AS userId, m.unreadNotifications AS unread FROM OrgMembershipEntity m "
+            + "WHERE m.id.orgId = :orgId AND m.id.userId IN :userIds")
+    List<UnreadCount> findUnreadNotifications(@Param("orgId") UUID orgId, @Param("userIds") Collection<UUID> userIds);
+
+    @Modifying
+    @Query(value = "UPDATE org_memberships SET unread_notifications = unread_notifications + :delta "
+            + "WHERE org_id = :orgId AND user_id = :userId", nativeQuery = true)
+    int adjustUnreadNotifications(@Param("orgId") UUID orgId, @Param("userId") UUID userId,
+            @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = "UPDATE org_memberships SET unread_notifications = (SELECT COUNT(*) FROM notifications n "
+            + "WHERE n.user_id = :userId AND n.is_read = FALSE AND n.tenant_id = :orgId) "
+            + "WHERE org_id = :orgId AND user_id = :userId", nativeQuery = true)
+    int reconcileUnreadNotifications(@Param("orgId") UUID orgId, @Param("userId") UUID userId);
+
+    // --- Notification preferences (see NotificationPreferences) ---
+    interface NotificationPreferenceRow {
+        UUID getUserId();
+
+        long getMutedTypes();
+
+        long getDigestTypes();
+
+        UUID[] getMutedProjects();
+    }
+
+    @Query("SELECT m.id.userId AS userId, m.notificationMutedTypes AS mutedTypes, "
+            + "m.notificationDigestTypes AS digestTypes, m.notificationMutedProjects AS mutedProjects "
+            + "FROM OrgMembershipEntity m WHERE m.id.orgId = :orgId AND (m.notificationMutedTypes <> 0 "
+            + "OR m.notificationDigestTypes <> 0 OR m.notificationMutedProjects IS NOT NULL)")
+    List<NotificationPreferenceRow> findNotificationPreferences(@Param("orgId") UUID orgId);
 }
@@ -1,10 +1,22 @@
 package com.jiralite.backend.repository;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import com.jiralite.backend.entity.OrgEntity;
 
 public interface OrgRepository extends JpaRepository<OrgEntity, UUID> {
+
+    interface RetentionOverride {
+        UUID getOrgId();
+
+        int getDays();
+    }
+
+    @Query("SELECT o.id AS orgId, o.notificationRetentionDays AS days FROM OrgEntity o "
+            + "WHERE o.notificationRetentionDays IS NOT NULL")
+    List<RetentionOverride> findNotificationRetentionOverrides();
 }
@@ -6,6 +6,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -22,6 +23,9 @@ public interface ProjectRepository extends JpaRepository<ProjectEntity, UUID> {
 
     long countByOrgId(UUID orgId);
 
+    @Query("SELECT COUNT(p) AS count, MAX(p.updatedAt) AS lastModified FROM ProjectEntity p WHERE p.orgId = :orgId")
+    VersionStamp versionByOrgId(@Param("orgId") UUID orgId);
+
     // --- Active projects (not archived, not deleted) ---
     @Query("SELECT p FROM ProjectEntity p WHERE p.orgId = :orgId AND p.deletedAt IS NULL AND p.archivedAt IS NULL")
     List<ProjectEntity> findActiveByOrgId(@Param("orgId") UUID orgId);
@@ -48,4 +52,12 @@ public interface ProjectRepository extends JpaRepository<ProjectEntity, UUID> {
     // --- Check for key conflict on restore ---
     @Query("SELECT COUNT(p) > 0 FROM ProjectEntity p WHERE p.orgId = :orgId AND p.projectKey = :key AND p.deletedAt IS NULL")
     boolean existsActiveByOrgIdAndProjectKey(@Param("orgId") UUID orgId, @Param("key") String key);
+
+    // --- Ticket number counter (see TicketKeyAllocator) ---
+    @Modifying
+    @Query(value = "UPDATE projects SET next_ticket_number = next_ticket_number + :count WHERE id = :id AND org_id = :orgId", nativeQuery = true)
+    int advanceNextTicketNumber(@Param("orgId") UUID orgId, @Param("id") UUID id, @Param("count") long count);
+
+    @Query(value = "SELECT next_ticket_number FROM projects WHERE id = :id", nativeQuery = true)
+    long findNextTicketNumber(@Param("id") UUID id);
 }
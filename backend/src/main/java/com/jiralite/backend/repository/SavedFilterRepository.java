@@ -0,0 +1,44 @@
+package com.jiralite.backend.repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.jiralite.backend.entity.SavedFilterEntity;
+
+public interface SavedFilterRepository extends JpaRepository<SavedFilterEntity, UUID> {
+
+    List<SavedFilterEntity> findAllByOrgIdAndUserIdOrderByNameAsc(UUID orgId, UUID userId);
+
+    List<SavedFilterEntity> findAllByOrgId(UUID orgId);
+
+    Optional<SavedFilterEntity> findByIdAndOrgIdAndUserId(UUID id, UUID orgId, UUID userId);
+
+    boolean existsByOrgIdAndUserIdAndName(UUID orgId, UUID userId, String name);
+
+    long countByOrgIdAndUserId(UUID orgId, UUID userId);
+
+    // --- Counter cache (see SavedFilterCounter) ---
+    @Modifying
+    @Query(value = "UPDATE saved_filters SET match_count = match_count + :delta WHERE id = :id", nativeQuery = true)
+    int adjustCount(@Param("id") UUID id, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = "UPDATE saved_filters SET match_count = :count, counted_at = :countedAt WHERE id = :id",
+            nativeQuery = true)
+    int updateCount(@Param("id") UUID id, @Param("count") long count, @Param("countedAt") OffsetDateTime countedAt);
+
+    @Query("SELECT f.id FROM SavedFilterEntity f WHERE f.countedAt IS NULL OR f.countedAt < :staleBefore "
+            + "OR (f.timeRelative = true AND f.countedAt < :relativeStaleBefore) ORDER BY f.countedAt ASC NULLS FIRST")
+    List<UUID> findDueForRecount(
+            @Param("staleBefore") OffsetDateTime staleBefore,
+            @Param("relativeStaleBefore") OffsetDateTime relativeStaleBefore,
+            Pageable pageable);
+}
@@ -0,0 +1,22 @@
+package com.jiralite.backend.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.jiralite.backend.dto.TicketResponse;
+
+/**
+ * Kanban board read: newest tickets per status column plus column totals.
+ */
+public interface TicketBoardRepository {
+
+    /**
+     * Up to {@code perColumn} active tickets per status for the project, newest
+     * first, each row carrying its column's total. One statement; uses
+     * idx_tickets_board (V18).
+     */
+    List<BoardRow> findBoard(UUID orgId, UUID projectId, int perColumn);
+
+    record BoardRow(TicketResponse ticket, long columnTotal) {
+    }
+}
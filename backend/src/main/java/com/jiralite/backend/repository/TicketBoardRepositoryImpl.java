@@ -0,0 +1,58 @@
+package com.jiralite.backend.repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+import com.jiralite.backend.dto.TicketResponse;
+import com.jiralite.backend.entity.TicketPriority;
+import com.jiralite.backend.entity.TicketStatus;
+
+class TicketBoardRepositoryImpl implements TicketBoardRepository {
+
+    // count(*) OVER is evaluated before the rn filter, so it is the full column size.
+    private static final String BOARD_SQL = """
+            SELECT b.* FROM (
+                SELECT t.id, t.project_id, t.ticket_key, t.title,
+                       SUBSTRING(t.description, 1, %d) AS description,
+                       t.status_rank, t.priority_rank, t.assignee_id, t.created_by, t.created_at, t.updated_at,
+                       ROW_NUMBER() OVER (PARTITION BY t.status_rank ORDER BY t.created_at DESC, t.id) AS rn,
+                       COUNT(*) OVER (PARTITION BY t.status_rank) AS column_total
+                FROM tickets t
+                WHERE t.org_id = :orgId AND t.project_id = :projectId AND t.deleted_at IS NULL
+            ) b
+            WHERE b.rn <= :perColumn
+            ORDER BY b.status_rank, b.rn
+            """.formatted(TicketProjectionRepository.SUMMARY_DESCRIPTION_LENGTH);
+
+    private final JdbcClient jdbcClient;
+
+    TicketBoardRepositoryImpl(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
+    }
+
+    @Override
+    public List<BoardRow> findBoard(UUID orgId, UUID projectId, int perColumn) {
+        return jdbcClient.sql(BOARD_SQL)
+                .param("orgId", orgId)
+                .param("projectId", projectId)
+                .param("perColumn", perColumn)
+                .query((rs, rowNum) -> new BoardRow(
+                        new TicketResponse(
+                                rs.getObject("id", UUID.class),
+                                rs.getObject("project_id", UUID.class),
+                                rs.getString("ticket_key"),
+                                rs.getString("title"),
+                                rs.getString("description"),
+                                TicketStatus.fromRank(rs.getShort("status_rank")).name(),
+                                TicketPriority.fromRank(rs.getShort("priority_rank")).name(),
+                                rs.getObject("assignee_id", UUID.class),
+                                rs.getObject("created_by", UUID.class),
+                                rs.getObject("created_at", OffsetDateTime.class),
+                                rs.getObject("updated_at", OffsetDateTime.class)),
+                        rs.getLong("column_total")))
+                .list();
+    }
+}
@@ -0,0 +1,26 @@
+package com.jiralite.backend.repository;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.jiralite.backend.entity.TicketImportJobEntity;
+
+public interface TicketImportJobRepository extends JpaRepository<TicketImportJobEntity, UUID> {
+
+    Optional<TicketImportJobEntity> findByIdAndOrgId(UUID id, UUID orgId);
+
+    // Jobs whose worker died (crash, restart) stop touching updated_at; the message goes first in errors
+    @Modifying
+    @Query(value = "UPDATE ticket_import_jobs SET status = 'FAILED', "
+            + "errors = CASE WHEN errors IS NULL THEN :message ELSE :message || chr(10) || errors END, "
+            + "finished_at = :now, updated_at = :now "
+            + "WHERE status IN ('PENDING', 'RUNNING') AND updated_at < :cutoff", nativeQuery = true)
+    int failStale(@Param("cutoff") OffsetDateTime cutoff, @Param("now") OffsetDateTime now,
+            @Param("message") String message);
+}
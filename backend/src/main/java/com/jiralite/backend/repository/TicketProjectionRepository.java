@@ -0,0 +1,32 @@
+package com.jiralite.backend.repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.jiralite.backend.dto.TicketResponse;
+import com.jiralite.backend.entity.TicketEntity;
+
+/**
+ * Read-only ticket queries that select straight into {@link TicketResponse}
+ * instead of hydrating managed entities.
+ */
+public interface TicketProjectionRepository {
+
+    int SUMMARY_DESCRIPTION_LENGTH = 200;
+
+    /**
+     * Rows matching {@code spec}, ordered by {@code sort}. In summary mode the
+     * description is cut to {@link #SUMMARY_DESCRIPTION_LENGTH} characters in SQL.
+     */
+    List<TicketResponse> findResponses(Specification<TicketEntity> spec, Sort sort, long offset, int limit,
+            boolean summary);
+
+    /**
+     * All rows matching {@code spec}, read forward-only with the given JDBC fetch
+     * size. Must be consumed (and closed) inside a transaction.
+     */
+    Stream<TicketResponse> streamResponses(Specification<TicketEntity> spec, Sort sort, int fetchSize);
+}
@@ -0,0 +1,74 @@
+package com.jiralite.backend.repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import com.jiralite.backend.dto.TicketResponse;
+import com.jiralite.backend.entity.TicketEntity;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+class TicketProjectionRepositoryImpl implements TicketProjectionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TicketResponse> findResponses(Specification<TicketEntity> spec, Sort sort, long offset, int limit,
+            boolean summary) {
+        return entityManager.createQuery(responseQuery(spec, sort, summary))
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Stream<TicketResponse> streamResponses(Specification<TicketEntity> spec, Sort sort, int fetchSize) {
+        return entityManager.createQuery(responseQuery(spec, sort, false))
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private CriteriaQuery<TicketResponse> responseQuery(Specification<TicketEntity> spec, Sort sort,
+            boolean summary) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TicketResponse> query = cb.createQuery(TicketResponse.class);
+        Root<TicketEntity> root = query.from(TicketEntity.class);
+
+        Expression<String> description = summary
+                ? cb.substring(root.get("description"), 1, SUMMARY_DESCRIPTION_LENGTH)
+                : root.get("description");
+        query.select(cb.construct(TicketResponse.class,
+                root.get("id"),
+                root.get("projectId"),
+                root.get("ticketKey"),
+                root.get("title"),
+                description,
+                root.get("status"),
+                root.get("priority"),
+                root.get("assigneeId"),
+                root.get("createdBy"),
+                root.get("createdAt"),
+                root.get("updatedAt")));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+        return query;
+    }
+}
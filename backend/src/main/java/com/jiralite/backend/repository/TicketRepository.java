@@ -1,31 +1,128 @@
 package com.jiralite.backend.repository;
 
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.jiralite.backend.entity.TicketEntity;
 
-public interface TicketRepository extends JpaRepository<TicketEntity, UUID>, JpaSpecificationExecutor<TicketEntity> {
+import jakarta.persistence.LockModeType;
 
-        Optional<TicketEntity> findByIdAndOrgId(UUID id, UUID orgId);
+public interface TicketRepository extends JpaRepository<TicketEntity, UUID>, JpaSpecificationExecutor<TicketEntity>,
+        BatchInsertRepository<TicketEntity>, TicketProjectionRepository, TicketBoardRepository {
 
-        long countByOrgIdAndProjectId(UUID orgId, UUID projectId);
+        Optional<TicketEntity> findByIdAndOrgId(UUID id, UUID orgId);
 
         long countByOrgIdAndAssigneeId(UUID orgId, UUID assigneeId);
 
         boolean existsByOrgIdAndProjectId(UUID orgId, UUID projectId);
 
-        @Query("select t from TicketEntity t where t.orgId = :orgId and t.deletedAt IS NULL and " +
-                        "(lower(t.title) like lower(concat('%', :keyword, '%')) or lower(t.description) like lower(concat('%', :keyword, '%')))")
-        List<TicketEntity> searchTickets(@Param("orgId") UUID orgId, @Param("keyword") String keyword);
+        // --- Conditional GET (ETag) version for list endpoints; idx_tickets_org_updated_at ---
+        @Query("SELECT COUNT(t) AS count, MAX(t.updatedAt) AS lastModified FROM TicketEntity t WHERE t.orgId = :orgId")
+        VersionStamp versionByOrgId(@Param("orgId") UUID orgId);
+
+        // --- Latest ticket write in the org (dashboard ETag): one backward probe of
+        // idx_tickets_org_change_xid instead of counting the org's tickets ---
+        @Query(value = "SELECT CAST(t.change_xid AS text) FROM tickets t WHERE t.org_id = :orgId "
+                        + "ORDER BY t.change_xid DESC LIMIT 1", nativeQuery = true)
+        Optional<String> findLatestChangeXid(@Param("orgId") UUID orgId);
+
+        // --- Org size probe for the query planner; stops after :limit rows instead of counting all ---
+        @Query(value = "SELECT count(*) FROM (SELECT 1 FROM tickets t WHERE t.org_id = :orgId "
+                        + "AND t.deleted_at IS NULL LIMIT :limit) capped", nativeQuery = true)
+        long countActiveCapped(@Param("orgId") UUID orgId, @Param("limit") int limit);
+
+        // --- Full-text search (tickets.search_vector, GIN index from V14) ---
+        // Only the requested page is ranked and highlighted; ts_headline runs on the outer rows.
+        // Matches are delimited by chr(2)/chr(3), stripped from the text first, so the service can
+        // HTML-escape the raw text and then turn only those delimiters into <mark> tags.
+        @Query(value = "SELECT hits.id AS id, hits.rank AS rank, "
+                        + "ts_headline('english', translate(t.title, chr(2) || chr(3), ''), hits.query, "
+                        + "'StartSel=' || chr(2) || ', StopSel=' || chr(3) || ', HighlightAll=true') AS highlightedTitle, "
+                        + "ts_headline('english', translate(coalesce(t.description, ''), chr(2) || chr(3), ''), hits.query, "
+                        + "'StartSel=' || chr(2) || ', StopSel=' || chr(3) || ', MaxFragments=2, MaxWords=30, MinWords=10') "
+                        + "AS snippet "
+                        + "FROM (SELECT s.id, s.created_at, q AS query, ts_rank_cd(s.search_vector, q)::float8 AS rank "
+                        + "      FROM tickets s, to_tsquery('english', :query) q "
+                        + "      WHERE s.org_id = :orgId AND s.deleted_at IS NULL AND s.search_vector @@ q "
+                        + "      ORDER BY rank DESC, s.created_at DESC, s.id "
+                        + "      LIMIT :limit OFFSET :offset) hits "
+                        + "JOIN tickets t ON t.id = hits.id "
+                        + "ORDER BY hits.rank DESC, hits.created_at DESC, hits.id", nativeQuery = true)
+        List<SearchHit> searchRanked(@Param("orgId") UUID orgId, @Param("query") String query,
+                        @Param("limit") int limit, @Param("offset") long offset);
+
+        @Query(value = "SELECT count(*) FROM tickets t WHERE t.org_id = :orgId AND t.deleted_at IS NULL "
+                        + "AND t.search_vector @@ to_tsquery('english', :query)", nativeQuery = true)
+        long countSearchMatches(@Param("orgId") UUID orgId, @Param("query") String query);
+
+        interface SearchHit {
+                UUID getId();
+
+                double getRank();
+
+                String getHighlightedTitle();
+
+                String getSnippet();
+        }
+
+        // --- Bulk transition: load and lock targets in id order, then one set-based UPDATE ---
+        @Lock(LockModeType.PESSIMISTIC_WRITE)
+        @Query("SELECT t FROM TicketEntity t WHERE t.orgId = :orgId AND t.id IN :ids AND t.deletedAt IS NULL ORDER BY t.id")
+        List<TicketEntity> findActiveForUpdate(@Param("orgId") UUID orgId, @Param("ids") Collection<UUID> ids);
+
+        @Modifying
+        @Query("UPDATE TicketEntity t SET t.status = :status, t.updatedAt = :updatedAt WHERE t.orgId = :orgId AND t.id IN :ids")
+        int updateStatus(@Param("orgId") UUID orgId, @Param("ids") Collection<UUID> ids,
+                        @Param("status") String status, @Param("updatedAt") OffsetDateTime updatedAt);
+
+        // --- Change feed (tickets.change_xid, V17). Only transactions older than the oldest
+        // running one are read, so nothing that commits later can land behind the cursor.
+        // That horizon is cluster-wide: one long writing transaction anywhere (a migration,
+        // a bulk update) holds the feed back for every org until it ends. stalled reports a
+        // writer of this application open longer than stallSeconds; sessions of other roles
+        // are not visible in pg_stat_activity and never count.
+        @Query(value = "SELECT CAST(pg_snapshot_xmin(pg_current_snapshot()) AS text) AS xid, "
+                        + "COALESCE((SELECT MIN(a.xact_start) FROM pg_stat_activity a "
+                        + "WHERE a.backend_xid IS NOT NULL) "
+                        + "< clock_timestamp() - make_interval(secs => :stallSeconds), FALSE) AS stalled",
+                        nativeQuery = true)
+        ChangeWatermark currentChangeWatermark(@Param("stallSeconds") long stallSeconds);
+
+        interface ChangeWatermark {
+                String getXid();
+
+                Boolean getStalled();
+        }
+
+        @Query(value = "SELECT t.id AS id, CAST(t.change_xid AS text) AS changeXid, "
+                        + "(t.deleted_at IS NOT NULL) AS deleted "
+                        + "FROM tickets t "
+                        + "WHERE t.org_id = :orgId "
+                        + "AND (t.change_xid, t.id) > (CAST(:afterXid AS xid8), :afterId) "
+                        + "AND t.change_xid < CAST(:untilXid AS xid8) "
+                        + "ORDER BY t.change_xid, t.id "
+                        + "LIMIT :limit", nativeQuery = true)
+        List<ChangeRow> findChanges(@Param("orgId") UUID orgId, @Param("afterXid") String afterXid,
+                        @Param("afterId") UUID afterId, @Param("untilXid") String untilXid,
+                        @Param("limit") int limit);
+
+        interface ChangeRow {
+                UUID getId();
+
+                String getChangeXid();
+
+                Boolean getDeleted();
+        }
 
         // --- Active tickets (not deleted) ---
         @Query("SELECT t FROM TicketEntity t WHERE t.projectId = :projectId AND t.deletedAt IS NULL")
@@ -49,13 +146,13 @@ public interface TicketRepository extends JpaRepository<TicketEntity, UUID>, Jpa
 
         // --- Cascade soft delete by project ---
         @Modifying
-        @Query("UPDATE TicketEntity t SET t.deletedAt = :deletedAt, t.deletedBy = :deletedBy, t.purgeAfter = :purgeAfter WHERE t.projectId = :projectId AND t.deletedAt IS NULL")
+        @Query("UPDATE TicketEntity t SET t.deletedAt = :deletedAt, t.deletedBy = :deletedBy, t.purgeAfter = :purgeAfter, t.updatedAt = :deletedAt WHERE t.projectId = :projectId AND t.deletedAt IS NULL")
         int softDeleteByProjectId(@Param("projectId") UUID projectId, @Param("deletedAt") OffsetDateTime deletedAt,
                         @Param("deletedBy") UUID deletedBy, @Param("purgeAfter") OffsetDateTime purgeAfter);
 
         // --- Cascade restore by project ---
         @Modifying
-        @Query("UPDATE TicketEntity t SET t.deletedAt = NULL, t.deletedBy = NULL, t.purgeAfter = NULL, t.restoredAt = :restoredAt, t.restoredBy = :restoredBy WHERE t.projectId = :projectId AND t.deletedAt IS NOT NULL")
+        @Query("UPDATE TicketEntity t SET t.deletedAt = NULL, t.deletedBy = NULL, t.purgeAfter = NULL, t.restoredAt = :restoredAt, t.restoredBy = :restoredBy, t.updatedAt = :restoredAt WHERE t.projectId = :projectId AND t.deletedAt IS NOT NULL")
         int restoreByProjectId(@Param("projectId") UUID projectId, @Param("restoredAt") OffsetDateTime restoredAt,
                         @Param("restoredBy") UUID restoredBy);
 
@@ -0,0 +1,14 @@
+package com.jiralite.backend.repository;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Row count and latest updated_at for a tenant's rows in one table. Any insert,
+ * update (that touches updated_at) or hard delete changes at least one of them.
+ */
+public interface VersionStamp {
+
+    long getCount();
+
+    OffsetDateTime getLastModified();
+}
@@ -0,0 +1,162 @@
+package com.jiralite.backend.scheduler;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jiralite.backend.repository.NotificationRepository;
+import com.jiralite.backend.service.NotificationRetention;
+
+/**
+ * Maintains the monthly notifications partitions (V27): creates the next
+ * {@code premake-months} months ahead of time, drops months that ended before
+ * the default retention cutoff, and deletes older rows of orgs with a shorter
+ * retention in batches. Each drop and batch runs in its own transaction. Only
+ * runs on Postgres; elsewhere notifications are a plain table.
+ * <p>
+ * Every node schedules this, but a run first takes a session advisory lock on
+ * a dedicated connection and is skipped if another node holds it; closing the
+ * connection releases the lock even if the run dies. Each partition, drop and
+ * org is handled on its own, so one failure is logged and the rest still run.
+ */
+@Component
+public class NotificationPartitionScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationPartitionScheduler.class);
+    private static final int DELETE_BATCH_SIZE = 5_000;
+    private static final String LOCK_SQL =
+            "SELECT pg_try_advisory_lock(hashtext('notification_partition_maintenance'))";
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationRetention retention;
+    private final TransactionTemplate transactionTemplate;
+    private final DataSourceProperties dataSourceProperties;
+    private final boolean enabled;
+    private final int premakeMonths;
+
+    public NotificationPartitionScheduler(
+            NotificationRepository notificationRepository,
+            NotificationRetention retention,
+            PlatformTransactionManager transactionManager,
+            DataSourceProperties dataSourceProperties,
+            @Value("${app.notifications.retention.enabled:true}") boolean enabled,
+            @Value("${app.notifications.retention.premake-months:3}") int premakeMonths) {
+        this.notificationRepository = notificationRepository;
+        this.retention = retention;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.dataSourceProperties = dataSourceProperties;
+        String url = dataSourceProperties.determineUrl();
+        this.enabled = enabled && url != null && url.startsWith("jdbc:postgresql:");
+        this.premakeMonths = Math.max(1, premakeMonths);
+    }
+
+    @Scheduled(fixedDelayString = "${app.notifications.retention.interval:PT6H}",
+            initialDelayString = "${app.notifications.retention.initial-delay:PT1M}")
+    public void maintain() {
+        if (!enabled) {
+            return;
+        }
+        // Outside the pool, so the lock can never stay behind on a reused connection
+        try (Connection lock = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+            if (!tryLock(lock)) {
+                log.debug("Notification partition maintenance is running on another node");
+                return;
+            }
+            maintain(OffsetDateTime.now(ZoneOffset.UTC));
+        } catch (SQLException ex) {
+            log.error("Notification partition maintenance not started: {}", ex.getMessage());
+        }
+    }
+
+    void maintain(OffsetDateTime now) {
+        step("create upcoming partitions", () -> createUpcoming(YearMonth.from(now)));
+        step("drop expired partitions", () -> dropExpired(now.minus(retention.defaultRetention())));
+        step("purge short retention", () -> purgeShortRetention(now, retention.overrides()));
+        step("check default partition", () -> {
+            if (notificationRepository.hasRowsInDefaultPartition()) {
+                log.warn("notifications_default holds rows outside the monthly partitions; "
+                        + "they are not expired by partition drops");
+            }
+        });
+    }
+
+    void createUpcoming(YearMonth current) {
+        List<YearMonth> existing = notificationRepository.findPartitionMonths();
+        for (int i = 0; i <= premakeMonths; i++) {
+            YearMonth month = current.plusMonths(i);
+            if (!existing.contains(month)) {
+                step("create partition " + month, () -> {
+                    notificationRepository.createPartition(month);
+                    log.info("Created notifications partition for {}", month);
+                });
+            }
+        }
+    }
+
+    /**
+     * Drops every month that ended at or before {@code cutoff}.
+     */
+    void dropExpired(OffsetDateTime cutoff) {
+        for (YearMonth month : notificationRepository.findPartitionMonths()) {
+            OffsetDateTime end = month.plusMonths(1).atDay(1).atStartOfDay().atOffset(ZoneOffset.UTC);
+            if (end.isAfter(cutoff)) {
+                break;
+            }
+            step("drop partition " + month, () -> {
+                transactionTemplate.executeWithoutResult(status -> notificationRepository.dropPartition(month));
+                log.info("Dropped notifications partition for {}", month);
+            });
+        }
+    }
+
+    void purgeShortRetention(OffsetDateTime now, Map<UUID, Duration> overrides) {
+        overrides.forEach((orgId, orgRetention) -> step("purge org " + orgId, () -> {
+            OffsetDateTime cutoff = now.minus(orgRetention);
+            int total = 0;
+            int deleted;
+            do {
+                Integer batch = transactionTemplate.execute(
+                        status -> notificationRepository.deleteExpired(orgId, cutoff, DELETE_BATCH_SIZE));
+                deleted = batch == null ? 0 : batch;
+                total += deleted;
+            } while (deleted == DELETE_BATCH_SIZE);
+            if (total > 0) {
+                log.info("Deleted {} notifications of org {} older than {}", total, orgId, orgRetention);
+            }
+        }));
+    }
+
+    private static boolean tryLock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(LOCK_SQL);
+                ResultSet result = statement.executeQuery()) {
+            return result.next() && result.getBoolean(1);
+        }
+    }
+
+    private static void step(String name, Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException ex) {
+            log.error("Notification partition maintenance: {} failed: {}", name, ex.getMessage());
+        }
+    }
+}
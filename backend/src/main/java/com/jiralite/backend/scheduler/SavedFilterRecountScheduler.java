@@ -0,0 +1,47 @@
+package com.jiralite.backend.scheduler;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.jiralite.backend.service.SavedFilterService;
+
+/**
+ * Periodically recounts saved filters whose cached counts are due, correcting
+ * any drift from writes the incremental counter did not see. Each filter is
+ * recounted in its own transaction.
+ */
+@Component
+public class SavedFilterRecountScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(SavedFilterRecountScheduler.class);
+    private static final int BATCH_SIZE = 200;
+
+    private final SavedFilterService savedFilterService;
+
+    public SavedFilterRecountScheduler(SavedFilterService savedFilterService) {
+        this.savedFilterService = savedFilterService;
+    }
+
+    @Scheduled(fixedDelayString = "${app.saved-filters.recount-poll:PT1M}",
+            initialDelayString = "${app.saved-filters.recount-poll:PT1M}")
+    public void recountDue() {
+        List<UUID> due = savedFilterService.findDueForRecount(BATCH_SIZE);
+        int failed = 0;
+        for (UUID filterId : due) {
+            try {
+                savedFilterService.recount(filterId);
+            } catch (RuntimeException ex) {
+                failed++;
+                log.warn("Saved filter recount failed for {}: {}", filterId, ex.getMessage());
+            }
+        }
+        if (!due.isEmpty()) {
+            log.debug("Recounted {} saved filters ({} failed)", due.size() - failed, failed);
+        }
+    }
+}
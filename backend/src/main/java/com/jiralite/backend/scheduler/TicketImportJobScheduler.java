@@ -0,0 +1,42 @@
+package com.jiralite.backend.scheduler;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.jiralite.backend.service.TicketImportService;
+
+/**
+ * Fails import jobs left PENDING or RUNNING by a crash or restart. A live
+ * worker saves progress at least every chunk, so a job idle for longer than
+ * {@code app.tickets.imports.stale-after} has lost its worker. The first
+ * sweep runs at startup.
+ */
+@Component
+public class TicketImportJobScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(TicketImportJobScheduler.class);
+
+    private final TicketImportService importService;
+    private final Duration staleAfter;
+
+    public TicketImportJobScheduler(
+            TicketImportService importService,
+            @Value("${app.tickets.imports.stale-after:PT15M}") Duration staleAfter) {
+        this.importService = importService;
+        this.staleAfter = staleAfter;
+    }
+
+    @Scheduled(fixedDelayString = "${app.tickets.imports.stale-sweep:PT5M}")
+    public void failStaleJobs() {
+        int failed = importService.failStaleJobs(OffsetDateTime.now().minus(staleAfter));
+        if (failed > 0) {
+            log.warn("Failed {} ticket import jobs with no progress for {}", failed, staleAfter);
+        }
+    }
+}
@@ -0,0 +1,362 @@
+package com.jiralite.backend.service;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Cluster fan-out for notification pushes over Postgres LISTEN/NOTIFY. The
+ * node that claims outbox rows publishes "notificationId:userId" pairs on
+ * {@value #CHANNEL} in the claim transaction, so every node (itself included)
+ * receives them only once that commits. Mark-read publishes
+ * "unread:userId:orgId" so every node refreshes that user's unread count.
+ * Each node holds one dedicated listener connection outside the pool, and
+ * delivers only to users connected to it. Events are packed into payloads
+ * under Postgres' 8000-byte limit.
+ * <p>
+ * The same connection listens on {@value #EVICTION_CHANNEL} for
+ * "orgId:ticketId" pairs evicted from {@link TicketDetailCache}, published in
+ * the writing transaction so other nodes drop their copy once it commits.
+ * <p>
+ * Anything published while a node's listener is reconnecting is not pushed
+ * to that node's clients; the notifications remain in the table. Evictions
+ * missed that way are covered by {@link EvictionListener#missed()} on every
+ * (re)connect. Off Postgres
+ * (or with {@code app.notifications.bus.enabled=false}) events are delivered
+ * to this node only, after commit.
+ */
+@Component
+public class NotificationBus {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationBus.class);
+
+    static final String CHANNEL = "notification_events";
+    static final String EVICTION_CHANNEL = "ticket_detail_evictions";
+    // Up to 80 bytes per event plus separator
+    static final int MAX_EVENTS_PER_PAYLOAD = 90;
+    private static final String UNREAD_PREFIX = "unread:";
+
+    /**
+     * A committed notification to push, or (null notificationId) a change to
+     * the user's unread count in {@code orgId}.
+     */
+    public record Event(UUID notificationId, UUID userId, UUID orgId) {
+
+        public Event(UUID notificationId, UUID userId) {
+            this(notificationId, userId, null);
+        }
+
+        public static Event unreadChanged(UUID userId, UUID orgId) {
+            return new Event(null, userId, orgId);
+        }
+    }
+
+    /**
+     * Ticket detail evictions made on other nodes.
+     */
+    public interface EvictionListener {
+
+        void evicted(UUID orgId, UUID ticketId);
+
+        /**
+         * The listener (re)connected; evictions published meanwhile were lost.
+         */
+        void missed();
+    }
+
+    private final DataSource dataSource;
+    private final DataSourceProperties dataSourceProperties;
+    private final boolean clustered;
+    private final Duration keepAlive;
+    private final Duration reconnectDelay;
+    private final AtomicBoolean connected = new AtomicBoolean();
+    private final Counter published;
+    private final Counter received;
+
+    private volatile Consumer<List<Event>> listener;
+    private volatile EvictionListener evictionListener;
+    private volatile boolean running;
+    private volatile Connection listenerConnection;
+    private Thread listenerThread;
+
+    public NotificationBus(
+            DataSource dataSource,
+            DataSourceProperties dataSourceProperties,
+            MeterRegistry meterRegistry,
+            @Value("${app.notifications.bus.enabled:true}") boolean enabled,
+            @Value("${app.notifications.bus.keep-alive:10s}") Duration keepAlive,
+            @Value("${app.notifications.bus.reconnect-delay:5s}") Duration reconnectDelay) {
+        this.dataSource = dataSource;
+        this.dataSourceProperties = dataSourceProperties;
+        String url = dataSourceProperties.determineUrl();
+        this.clustered = enabled && url != null && url.startsWith("jdbc:postgresql:");
+        this.keepAlive = keepAlive;
+        this.reconnectDelay = reconnectDelay;
+        this.published = Counter.builder("notifications.bus.published").register(meterRegistry);
+        this.received = Counter.builder("notifications.bus.received").register(meterRegistry);
+        Gauge.builder("notifications.bus.connected", connected, c -> c.get() ? 1 : 0).register(meterRegistry);
+    }
+
+    /**
+     * Registers the node's handler and starts listening. Handlers run on the
+     * listener thread and should hand work off quickly.
+     */
+    public synchronized void listen(Consumer<List<Event>> handler) {
+        this.listener = handler;
+        if (!clustered) {
+            log.info("Notification bus is node-local; SSE pushes reach clients on this node only");
+            return;
+        }
+        startListener();
+    }
+
+    /**
+     * Registers the node's ticket detail cache. Runs on the listener thread.
+     */
+    public synchronized void listenEvictions(EvictionListener handler) {
+        this.evictionListener = handler;
+        if (clustered) {
+            startListener();
+        }
+    }
+
+    /**
+     * Tells the other nodes to drop their cached copy of the ticket once the
+     * current transaction commits; nothing to do on a node-local bus.
+     */
+    public void publishEviction(UUID orgId, UUID ticketId) {
+        if (!clustered || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            return;
+        }
+        notify(EVICTION_CHANNEL, List.of(orgId + ":" + ticketId));
+    }
+
+    private void startListener() {
+        if (listenerThread == null) {
+            running = true;
+            listenerThread = new Thread(this::listenLoop, "notification-listener");
+            listenerThread.setDaemon(true);
+            listenerThread.start();
+        }
+    }
+
+    /**
+     * Publishes events to every node once the current transaction commits.
+     * Must be called inside the transaction that claimed them.
+     */
+    public void publish(List<Event> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        if (!clustered) {
+            deliverAfterCommit(events);
+            return;
+        }
+        notify(CHANNEL, encode(events));
+        published.increment(events.size());
+    }
+
+    private void notify(String channel, List<String> payloads) {
+        // Same connection as the surrounding JPA transaction, so NOTIFY is sent on commit
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+            for (String payload : payloads) {
+                statement.setString(1, channel);
+                statement.setString(2, payload);
+                statement.execute();
+            }
+        } catch (SQLException ex) {
+            throw new IllegalStateException("Failed to publish on " + channel, ex);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    @PreDestroy
+    synchronized void stop() {
+        running = false;
+        closeQuietly(listenerConnection);
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    private void deliverAfterCommit(List<Event> events) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deliver(events);
+                }
+            });
+        } else {
+            deliver(events);
+        }
+    }
+
+    private void deliver(List<Event> events) {
+        Consumer<List<Event>> handler = listener;
+        if (handler != null && !events.isEmpty()) {
+            received.increment(events.size());
+            handler.accept(events);
+        }
+    }
+
+    private void listenLoop() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                listenerConnection = connection;
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                    statement.execute("LISTEN " + EVICTION_CHANNEL);
+                }
+                connected.set(true);
+                log.info("Listening for notification events on {}", CHANNEL);
+                EvictionListener evictions = evictionListener;
+                if (evictions != null) {
+                    evictions.missed();
+                }
+                PGConnection pg = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pg.getNotifications((int) keepAlive.toMillis());
+                    if (notifications == null || notifications.length == 0) {
+                        // Idle: make sure the connection is still alive
+                        try (Statement ping = connection.createStatement()) {
+                            ping.execute("SELECT 1");
+                        }
+                        continue;
+                    }
+                    List<Event> events = new ArrayList<>();
+                    for (PGNotification notification : notifications) {
+                        if (EVICTION_CHANNEL.equals(notification.getName())) {
+                            evict(notification.getParameter());
+                        } else {
+                            events.addAll(decode(notification.getParameter()));
+                        }
+                    }
+                    try {
+                        deliver(events);
+                    } catch (RuntimeException ex) {
+                        log.warn("Notification event delivery failed: {}", ex.getMessage());
+                    }
+                }
+            } catch (SQLException ex) {
+                if (running) {
+                    log.warn("Notification listener disconnected; reconnecting in {}: {}", reconnectDelay,
+                            ex.getMessage());
+                }
+            } finally {
+                connected.set(false);
+                listenerConnection = null;
+            }
+            if (running) {
+                try {
+                    Thread.sleep(reconnectDelay.toMillis());
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void evict(String payload) {
+        EvictionListener evictions = evictionListener;
+        if (evictions == null || payload == null) {
+            return;
+        }
+        int colon = payload.indexOf(':');
+        try {
+            evictions.evicted(UUID.fromString(payload.substring(0, colon)),
+                    UUID.fromString(payload.substring(colon + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException ex) {
+            log.debug("Ignoring malformed eviction '{}'", payload);
+        }
+    }
+
+    static List<String> encode(List<Event> events) {
+        List<String> payloads = new ArrayList<>();
+        StringBuilder payload = new StringBuilder();
+        int count = 0;
+        for (Event event : events) {
+            if (count == MAX_EVENTS_PER_PAYLOAD) {
+                payloads.add(payload.toString());
+                payload.setLength(0);
+                count = 0;
+            }
+            if (count > 0) {
+                payload.append(',');
+            }
+            if (event.notificationId() == null) {
+                payload.append(UNREAD_PREFIX).append(event.userId()).append(':').append(event.orgId());
+            } else {
+                payload.append(event.notificationId()).append(':').append(event.userId());
+            }
+            count++;
+        }
+        if (count > 0) {
+            payloads.add(payload.toString());
+        }
+        return payloads;
+    }
+
+    static List<Event> decode(String payload) {
+        List<Event> events = new ArrayList<>();
+        if (payload == null || payload.isEmpty()) {
+            return events;
+        }
+        for (String item : payload.split(",")) {
+            try {
+                if (item.startsWith(UNREAD_PREFIX)) {
+                    String[] ids = item.substring(UNREAD_PREFIX.length()).split(":");
+                    events.add(Event.unreadChanged(UUID.fromString(ids[0]), UUID.fromString(ids[1])));
+                } else {
+                    int colon = item.indexOf(':');
+                    events.add(new Event(UUID.fromString(item.substring(0, colon)),
+                            UUID.fromString(item.substring(colon + 1))));
+                }
+            } catch (IllegalArgumentException | IndexOutOfBoundsException ex) {
+                log.debug("Ignoring malformed notification event '{}'", item);
+            }
+        }
+        return events;
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (SQLException ignored) {
+                // shutting down
+            }
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.jiralite.backend.service;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jiralite.backend.entity.NotificationEntity;
+import com.jiralite.backend.entity.NotificationOutboxEntity;
+import com.jiralite.backend.repository.NotificationOutboxRepository;
+import com.jiralite.backend.repository.NotificationRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Relays committed notifications from the outbox to SSE. One relay thread
+ * claims outbox rows in id order, deletes them and publishes them on the
+ * {@link NotificationBus} in one short transaction; any node's relay may
+ * claim a row, and every node receives it. The bus listener only hands
+ * received events to a single delivery thread, so database reads never stall
+ * the listener; that thread loads the notifications of users connected to this
+ * node and queues them, in order, on {@link NotificationEmitters}, which never
+ * blocks on a client, followed by each recipient's unread count (also pushed
+ * on mark-read events). At most {@code delivery-queue} batches wait for it;
+ * beyond that events are dropped like those missed during a reconnect (the
+ * notifications stay in the table). Writers call {@link #wakeUp()} after
+ * commit; the poll interval covers missed wake-ups. Metrics:
+ * notifications.dispatch.sent, notifications.dispatch.lag (creation to
+ * hand-off), notifications.dispatch.queued, notifications.dispatch.dropped.
+ */
+@Component
+public class NotificationDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationDispatcher.class);
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final NotificationRepository notificationRepository;
+    private final NotificationEmitters emitters;
+    private final NotificationBus bus;
+    private final NotificationUnreadCounter unreadCounter;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final ScheduledExecutorService relay;
+    private final ThreadPoolExecutor delivery;
+    private final AtomicBoolean wakeUpPending = new AtomicBoolean();
+
+    private final Counter sent;
+    private final Counter dropped;
+    private final Timer lag;
+
+    public NotificationDispatcher(
+            NotificationOutboxRepository outboxRepository,
+            NotificationRepository notificationRepository,
+            NotificationEmitters emitters,
+            NotificationBus bus,
+            NotificationUnreadCounter unreadCounter,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.notifications.dispatch.batch-size:500}") int batchSize,
+            @Value("${app.notifications.dispatch.poll-interval:1s}") Duration pollInterval,
+            @Value("${app.notifications.dispatch.delivery-queue:1000}") int deliveryQueue) {
+        this.outboxRepository = outboxRepository;
+        this.notificationRepository = notificationRepository;
+        this.emitters = emitters;
+        this.bus = bus;
+        this.unreadCounter = unreadCounter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = Math.max(1, batchSize);
+        this.pollInterval = pollInterval;
+        this.relay = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("notification-relay-"));
+        // One thread keeps deliveries in event order
+        this.delivery = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, deliveryQueue)),
+                new CustomizableThreadFactory("notification-delivery-"));
+
+        this.sent = Counter.builder("notifications.dispatch.sent").register(meterRegistry);
+        this.dropped = Counter.builder("notifications.dispatch.dropped").register(meterRegistry);
+        this.lag = Timer.builder("notifications.dispatch.lag").register(meterRegistry);
+        Gauge.builder("notifications.dispatch.queued", delivery, executor -> executor.getQueue().size())
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        bus.listen(this::received);
+        relay.scheduleWithFixedDelay(this::drain, pollInterval.toMillis(), pollInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        relay.shutdown();
+        delivery.shutdown();
+    }
+
+    /**
+     * Drain the outbox now instead of at the next poll. Cheap and idempotent;
+     * call after commit.
+     */
+    public void wakeUp() {
+        if (wakeUpPending.compareAndSet(false, true)) {
+            try {
+                relay.execute(this::drain);
+            } catch (RejectedExecutionException ex) {
+                wakeUpPending.set(false); // shutting down
+            }
+        }
+    }
+
+    void drain() {
+        wakeUpPending.set(false);
+        try {
+            int claimed;
+            do {
+                claimed = claim();
+            } while (claimed == batchSize);
+        } catch (RuntimeException ex) {
+            log.warn("Notification dispatch failed; retrying at next poll: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Claims, deletes and publishes the next outbox rows; returns how many.
+     * Delivery happens after this commits (at most once).
+     */
+    int claim() {
+        Integer claimed = transactionTemplate.execute(status -> {
+            List<NotificationOutboxEntity> rows = outboxRepository.claimBatch(PageRequest.of(0, batchSize));
+            if (rows.isEmpty()) {
+                return 0;
+            }
+            outboxRepository.deleteAllInBatch(rows);
+            bus.publish(rows.stream()
+                    .map(row -> new NotificationBus.Event(row.getNotificationId(), row.getUserId()))
+                    .toList());
+            return rows.size();
+        });
+        return claimed == null ? 0 : claimed;
+    }
+
+    /**
+     * Bus handler, on the listener thread: queues the events for delivery.
+     */
+    void received(List<NotificationBus.Event> events) {
+        try {
+            delivery.execute(() -> {
+                try {
+                    deliver(events);
+                } catch (RuntimeException ex) {
+                    log.warn("Notification event delivery failed: {}", ex.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            dropped.increment(events.size());
+            log.warn("Notification delivery queue full or stopped; dropped {} events", events.size());
+        }
+    }
+
+    /**
+     * Pushes the events whose users are connected to this node, in event
+     * order, then those users' unread counts.
+     */
+    void deliver(List<NotificationBus.Event> events) {
+        List<NotificationBus.Event> local = events.stream()
+                .filter(event -> emitters.hasSubscribers(event.userId()))
+                .toList();
+        if (local.isEmpty()) {
+            return;
+        }
+        Map<UUID, Set<UUID>> unreadChanged = new LinkedHashMap<>();
+        List<UUID> ids = new ArrayList<>();
+        for (NotificationBus.Event event : local) {
+            if (event.notificationId() == null) {
+                unreadChanged.computeIfAbsent(event.orgId(), org -> new LinkedHashSet<>()).add(event.userId());
+            } else {
+                ids.add(event.notificationId());
+            }
+        }
+        if (!ids.isEmpty()) {
+            Map<UUID, NotificationEntity> byId = notificationRepository.findAllById(ids).stream()
+                    .collect(Collectors.toMap(NotificationEntity::getId, Function.identity()));
+            // Notifications deleted since (e.g. purged) are skipped
+            List<NotificationEntity> notifications = ids.stream().map(byId::get).filter(n -> n != null).toList();
+            dispatch(notifications);
+            notifications.forEach(n -> unreadChanged
+                    .computeIfAbsent(n.getTenantId(), org -> new LinkedHashSet<>()).add(n.getUserId()));
+        }
+        unreadChanged.forEach((orgId, userIds) -> unreadCounter.counts(orgId, userIds)
+                .forEach((userId, unread) -> emitters.sendUnread(userId, orgId, unread)));
+    }
+
+    void dispatch(List<NotificationEntity> notifications) {
+        for (NotificationEntity notification : notifications) {
+            emitters.send(notification.getUserId(), notification);
+            sent.increment();
+            if (notification.getCreatedAt() != null) {
+                lag.record(Duration.between(notification.getCreatedAt(), OffsetDateTime.now()));
+            }
+        }
+    }
+}
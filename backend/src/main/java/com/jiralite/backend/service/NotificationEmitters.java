@@ -0,0 +1,402 @@
+package com.jiralite.backend.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.jiralite.backend.entity.NotificationEntity;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * SSE connections on this node, by user; each stream belongs to the
+ * organization it was opened in. {@link #send} only enqueues: each
+ * connection has a bounded queue drained by a shared sender pool, so callers
+ * never block on a client's socket and one connection is written by at most
+ * one thread at a time, in order.
+ * <p>
+ * Sends are blocking servlet writes, bounded by the container's write timeout
+ * (server.tomcat.connection-timeout); a client that stops reading fails its
+ * send after that. Each stuck connection holds one sender thread until then,
+ * so the pool grows on demand up to {@code sender-threads} and shrinks when
+ * idle, keeping delivery to everyone else going while a few sockets stall.
+ * <p>
+ * A connection whose queue overflows has its pending events replaced by one
+ * "resync" event telling the client to refetch GET /notifications; further
+ * events are dropped until it is sent, since the refetch covers them. A
+ * connection whose send stalls past two heartbeat intervals stops receiving
+ * events and is completed by its sender thread once the send returns;
+ * completing takes the emitter's write lock, which the stalled send holds,
+ * so the heartbeat thread never does it. Idle connections get a
+ * heartbeat comment every {@code heartbeat-interval}, which also detects dead
+ * peers. Metrics: notifications.sse.connections, notifications.sse.queued,
+ * notifications.sse.dropped, notifications.sse.evicted.
+ * <p>
+ * Notification events carry a {@link NotificationEventId}. On reconnect the
+ * stream is held while missed notifications are loaded; they are queued
+ * first, followed by live events that arrived meanwhile (minus duplicates).
+ * "unread" events carry the user's unread count in the stream's organization.
+ * Notification text is rendered in the locale the stream was opened with.
+ */
+@Component
+public class NotificationEmitters {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationEmitters.class);
+
+    private static final Outgoing HEARTBEAT = new Outgoing(null, locale -> SseEmitter.event().comment("heartbeat"));
+    private static final Outgoing RESYNC = new Outgoing(null, locale -> SseEmitter.event().name("resync").data("{}"));
+
+    /**
+     * Missed notifications to send before live ones, oldest first;
+     * incomplete when the gap was too large, which sends a resync instead.
+     */
+    public record Replay(List<NotificationEntity> notifications, boolean complete) {
+    }
+
+    /**
+     * A queued event. Builders are consumed by send, so queues hold factories,
+     * applied to the connection's locale.
+     */
+    private record Outgoing(UUID notificationId, Function<Locale, SseEmitter.SseEventBuilder> event) {
+    }
+
+    private final NotificationTemplates templates;
+    private final Map<UUID, Set<Connection>> connectionsByUser = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final AtomicLong queued = new AtomicLong();
+    private final long timeoutMillis;
+    private final int queueCapacity;
+    private final long stallNanos;
+    private final ThreadPoolExecutor senders;
+    private final ScheduledExecutorService heartbeats;
+    private final Counter dropped;
+    private final Counter evicted;
+
+    public NotificationEmitters(
+            MeterRegistry meterRegistry,
+            NotificationTemplates templates,
+            @Value("${app.notifications.sse.timeout:30m}") Duration timeout,
+            @Value("${app.notifications.sse.queue-capacity:64}") int queueCapacity,
+            @Value("${app.notifications.sse.sender-threads:32}") int senderThreads,
+            @Value("${app.notifications.sse.heartbeat-interval:20s}") Duration heartbeatInterval) {
+        this.templates = templates;
+        this.timeoutMillis = timeout.toMillis();
+        this.queueCapacity = Math.max(2, queueCapacity);
+        this.stallNanos = heartbeatInterval.multipliedBy(2).toNanos();
+        int maxSenders = Math.max(1, senderThreads);
+        this.senders = new ThreadPoolExecutor(maxSenders, maxSenders, 30, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), new CustomizableThreadFactory("sse-sender-"));
+        this.senders.allowCoreThreadTimeOut(true);
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("sse-heartbeat-"));
+        this.heartbeats.scheduleWithFixedDelay(this::heartbeat, heartbeatInterval.toMillis(),
+                heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+
+        Gauge.builder("notifications.sse.connections", connections, AtomicInteger::get).register(meterRegistry);
+        Gauge.builder("notifications.sse.queued", queued, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("notifications.sse.sending", senders, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+        this.dropped = Counter.builder("notifications.sse.dropped").register(meterRegistry);
+        this.evicted = Counter.builder("notifications.sse.evicted").register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(UUID userId, UUID orgId) {
+        return subscribe(userId, orgId, null);
+    }
+
+    /**
+     * Opens a stream; {@code replay}, if given, is loaded after the stream is
+     * registered so nothing committed in between is missed.
+     */
+    public SseEmitter subscribe(UUID userId, UUID orgId, Supplier<Replay> replay) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Connection connection = new Connection(userId, orgId, LocaleContextHolder.getLocale(), emitter);
+        // Queued before registering so it stays first; no id, which would
+        // replace the client's Last-Event-ID
+        connection.enqueue(new Outgoing(null, locale -> SseEmitter.event().name("connected").data("ok")
+                .reconnectTime(5000L)));
+        // Inside compute so a concurrent remove() can't drop the set we add to
+        connectionsByUser.compute(userId, (id, userConnections) -> {
+            Set<Connection> updated = userConnections == null ? ConcurrentHashMap.newKeySet() : userConnections;
+            updated.add(connection);
+            return updated;
+        });
+        connections.incrementAndGet();
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(() -> remove(connection));
+        emitter.onError(ex -> remove(connection));
+        Replay missed = null;
+        if (replay != null) {
+            try {
+                missed = replay.get();
+            } catch (RuntimeException ex) {
+                log.warn("Notification replay failed for user {}: {}", userId, ex.getMessage());
+                missed = new Replay(List.of(), false);
+            }
+        }
+        connection.release(missed);
+        return emitter;
+    }
+
+    public boolean hasSubscribers(UUID userId) {
+        return connectionsByUser.containsKey(userId);
+    }
+
+    /**
+     * Queues the notification for each of the user's connections in its
+     * organization; never blocks.
+     */
+    public void send(UUID userId, NotificationEntity entity) {
+        enqueue(userId, entity.getTenantId(), notificationEvent(entity));
+    }
+
+    /**
+     * Queues the user's current unread count in {@code orgId}; never blocks.
+     */
+    public void sendUnread(UUID userId, UUID orgId, long unread) {
+        enqueue(userId, orgId, new Outgoing(null, locale -> SseEmitter.event()
+                .name("unread")
+                .data(Map.of("unread", unread), MediaType.APPLICATION_JSON)));
+    }
+
+    private void enqueue(UUID userId, UUID orgId, Outgoing event) {
+        Set<Connection> userConnections = connectionsByUser.get(userId);
+        if (userConnections == null) {
+            return;
+        }
+        userConnections.forEach(connection -> {
+            if (orgId == null || orgId.equals(connection.orgId)) {
+                connection.enqueue(event);
+            }
+        });
+    }
+
+    private Outgoing notificationEvent(NotificationEntity entity) {
+        return new Outgoing(entity.getId(), locale -> SseEmitter.event()
+                .id(NotificationEventId.of(entity).encode())
+                .name("notification")
+                .data(templates.toResponse(entity, locale), MediaType.APPLICATION_JSON));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeats.shutdownNow();
+        senders.shutdownNow();
+    }
+
+    void heartbeat() {
+        long now = System.nanoTime();
+        connectionsByUser.values().forEach(userConnections -> userConnections.forEach(connection -> {
+            if (connection.isStalled(now)) {
+                evict(connection, "send stalled");
+            } else if (connection.isIdle()) {
+                connection.enqueue(HEARTBEAT);
+            }
+        }));
+    }
+
+    private void evict(Connection connection, String reason) {
+        if (remove(connection)) {
+            evicted.increment();
+            log.debug("Closing SSE stream for user {}: {}", connection.userId, reason);
+            connection.completeFromSender();
+        }
+    }
+
+    private boolean remove(Connection connection) {
+        if (!connection.closed.compareAndSet(false, true)) {
+            return false;
+        }
+        queued.addAndGet(-connection.clear());
+        connections.decrementAndGet();
+        connectionsByUser.computeIfPresent(connection.userId, (id, userConnections) -> {
+            userConnections.remove(connection);
+            return userConnections.isEmpty() ? null : userConnections;
+        });
+        return true;
+    }
+
+    /**
+     * One open stream. Producers call {@link #enqueue}; at most one sender
+     * thread drains it at a time. It starts held (draining set, so nothing
+     * is sent) until {@link #release} queues the replay.
+     */
+    private final class Connection {
+
+        private final UUID userId;
+        private final UUID orgId;
+        private final Locale locale;
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<Outgoing> queue;
+        private final AtomicBoolean draining = new AtomicBoolean(true);
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile boolean completeRequested;
+        private volatile boolean resyncPending;
+        private volatile long sendStartedAt;
+
+        Connection(UUID userId, UUID orgId, Locale locale, SseEmitter emitter) {
+            this.userId = userId;
+            this.orgId = orgId;
+            this.locale = locale;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        }
+
+        void enqueue(Outgoing event) {
+            if (closed.get()) {
+                return;
+            }
+            synchronized (this) {
+                offer(event);
+            }
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        /**
+         * Re-queues what arrived while held behind the replay, then starts sending.
+         */
+        void release(Replay replay) {
+            synchronized (this) {
+                List<Outgoing> held = new ArrayList<>();
+                queue.drainTo(held);
+                queued.addAndGet(-held.size());
+                resyncPending = false; // any held resync is re-offered below
+                Set<UUID> replayed = new HashSet<>();
+                if (!held.isEmpty()) {
+                    offer(held.remove(0)); // connected
+                }
+                if (replay != null && replay.complete()) {
+                    for (NotificationEntity notification : replay.notifications()) {
+                        replayed.add(notification.getId());
+                        offer(notificationEvent(notification));
+                    }
+                } else if (replay != null) {
+                    offer(RESYNC);
+                }
+                for (Outgoing event : held) {
+                    if (event.notificationId() == null || !replayed.contains(event.notificationId())) {
+                        offer(event);
+                    }
+                }
+            }
+            draining.set(false);
+            if ((!queue.isEmpty() || completeRequested) && draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        /**
+         * Completes the emitter on a sender thread: right away if none is
+         * sending, otherwise once the in-flight send returns or fails.
+         */
+        void completeFromSender() {
+            completeRequested = true;
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void offer(Outgoing event) {
+            if (resyncPending) {
+                dropped.increment();
+                return;
+            }
+            if (queue.offer(event)) {
+                queued.incrementAndGet();
+                resyncPending = event == RESYNC;
+            } else {
+                // Coalesce the backlog into one resync event
+                int cleared = clear();
+                queued.addAndGet(1 - cleared);
+                dropped.increment(cleared);
+                queue.offer(RESYNC);
+                resyncPending = true;
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                Outgoing event;
+                while (!closed.get() && (event = queue.poll()) != null) {
+                    queued.decrementAndGet();
+                    if (event == RESYNC) {
+                        resyncPending = false;
+                    }
+                    sendStartedAt = System.nanoTime();
+                    try {
+                        emitter.send(event.event().apply(locale));
+                    } catch (Exception ex) {
+                        // Dead peer, closed stream or write timeout
+                        if (remove(this) || completeRequested) {
+                            emitter.completeWithError(ex);
+                        }
+                        return;
+                    } finally {
+                        sendStartedAt = 0;
+                    }
+                }
+                if (closed.get()) {
+                    // Nothing is queued on a closed connection; released so a
+                    // completion requested after this check still runs
+                    draining.set(false);
+                    if (completeRequested && draining.compareAndSet(false, true)) {
+                        emitter.complete();
+                    }
+                    return;
+                }
+                draining.set(false);
+                if (queue.isEmpty() || !draining.compareAndSet(false, true)) {
+                    return;
+                }
+            }
+        }
+
+        boolean isIdle() {
+            return queue.isEmpty() && !draining.get();
+        }
+
+        boolean isStalled(long now) {
+            long started = sendStartedAt;
+            return started != 0 && now - started > stallNanos;
+        }
+
+        synchronized int clear() {
+            int cleared = 0;
+            while (queue.poll() != null) {
+                cleared++;
+            }
+            return cleared;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.jiralite.backend.service;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import com.jiralite.backend.entity.NotificationEntity;
+
+/**
+ * SSE event id of a notification: "epochMicros-uuid" of its (createdAt, id),
+ * which increases with the per-user keyset order used for Last-Event-ID
+ * replay. Micros match the precision created_at is stored with.
+ */
+record NotificationEventId(OffsetDateTime createdAt, UUID id) {
+
+    static NotificationEventId of(NotificationEntity notification) {
+        return new NotificationEventId(notification.getCreatedAt(), notification.getId());
+    }
+
+    /**
+     * Null when the header isn't one of ours (e.g. from an older client).
+     */
+    static NotificationEventId decode(String value) {
+        try {
+            int dash = value.indexOf('-');
+            long micros = Long.parseLong(value.substring(0, dash));
+            Instant instant = Instant.EPOCH.plus(micros, ChronoUnit.MICROS);
+            return new NotificationEventId(OffsetDateTime.ofInstant(instant, ZoneOffset.UTC),
+                    UUID.fromString(value.substring(dash + 1)));
+        } catch (RuntimeException ex) {
+            return null;
+        }
+    }
+
+    String encode() {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, createdAt.toInstant()) + "-" + id;
+    }
+}
@@ -0,0 +1,184 @@
+package com.jiralite.backend.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.jiralite.backend.entity.OrgMembershipEntity;
+import com.jiralite.backend.entity.OrgMembershipId;
+import com.jiralite.backend.repository.OrgMembershipRepository;
+
+/**
+ * Which notifications a member wants (V29): muted types and projects are
+ * never written, digest-only types are written and counted but not pushed
+ * live. Types are bits of a {@code long} by their index in {@link #TYPES}.
+ * <p>
+ * Each org's members with non-default preferences are cached together and
+ * reloaded every {@code refresh-interval}, so checking a recipient is a map
+ * lookup; changes made on this node apply at once, on other nodes within
+ * that interval.
+ */
+@Component
+public class NotificationPreferences {
+
+    /**
+     * Bit positions of the preference masks. Append only: reordering would
+     * change stored preferences. At most 64.
+     */
+    public static final List<String> TYPES = List.of(
+            "TICKET_ASSIGNED",
+            "TICKET_UPDATED",
+            "TICKET_STATUS",
+            "TICKET_DELETED",
+            "TICKET_RESTORED",
+            "COMMENT_CREATED",
+            "PROJECT_DELETED",
+            "PROJECT_RESTORED",
+            "ORG_MEMBER_ADDED",
+            "ORG_MEMBER_UPDATED",
+            "ORG_REMOVED",
+            "ATTACHMENT_CREATED",
+            "ATTACHMENT_DELETED");
+
+    private static final Map<String, Long> BITS = new HashMap<>();
+
+    static {
+        for (int i = 0; i < TYPES.size(); i++) {
+            BITS.put(TYPES.get(i), 1L << i);
+        }
+    }
+
+    /**
+     * One member's preferences; unknown types are never muted.
+     */
+    public record Preferences(long mutedTypes, long digestTypes, Set<UUID> mutedProjects) {
+
+        public static final Preferences DEFAULT = new Preferences(0, 0, Set.of());
+
+        public boolean mutes(String type, UUID projectId) {
+            return (mutedTypes & bit(type)) != 0 || (projectId != null && mutedProjects.contains(projectId));
+        }
+
+        public boolean digestOnly(String type) {
+            return (digestTypes & bit(type)) != 0;
+        }
+    }
+
+    private record Snapshot(Map<UUID, Preferences> byUser, long loadedAt) {
+    }
+
+    private final OrgMembershipRepository membershipRepository;
+    private final long refreshNanos;
+    private final Map<UUID, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    public NotificationPreferences(
+            OrgMembershipRepository membershipRepository,
+            @Value("${app.notifications.preferences.refresh-interval:1m}") Duration refreshInterval) {
+        this.membershipRepository = membershipRepository;
+        this.refreshNanos = refreshInterval.toNanos();
+    }
+
+    /**
+     * Cached; {@link Preferences#DEFAULT} for members who never set any.
+     */
+    public Preferences get(UUID orgId, UUID userId) {
+        Snapshot current = snapshots.get(orgId);
+        if (current == null || System.nanoTime() - current.loadedAt() > refreshNanos) {
+            current = load(orgId);
+            snapshots.put(orgId, current);
+        }
+        return current.byUser().getOrDefault(userId, Preferences.DEFAULT);
+    }
+
+    /**
+     * Stores the member's preferences; no-op for non-members.
+     */
+    public void save(UUID orgId, UUID userId, Preferences preferences) {
+        membershipRepository.findById(new OrgMembershipId(orgId, userId)).ifPresent(membership -> {
+            membership.setNotificationMutedTypes(preferences.mutedTypes());
+            membership.setNotificationDigestTypes(preferences.digestTypes());
+            membership.setNotificationMutedProjects(preferences.mutedProjects().isEmpty() ? null
+                    : preferences.mutedProjects().toArray(UUID[]::new));
+        });
+        // After commit, or a concurrent reload could cache the old values again
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    snapshots.remove(orgId);
+                }
+            });
+        } else {
+            snapshots.remove(orgId);
+        }
+    }
+
+    /**
+     * Uncached, for editing.
+     */
+    public Preferences load(UUID orgId, UUID userId) {
+        return membershipRepository.findById(new OrgMembershipId(orgId, userId))
+                .map(NotificationPreferences::of)
+                .orElse(Preferences.DEFAULT);
+    }
+
+    /**
+     * @throws IllegalArgumentException for a type not in {@link #TYPES}
+     */
+    public static long toBits(Collection<String> types) {
+        long bits = 0;
+        for (String type : types) {
+            Long bit = BITS.get(type);
+            if (bit == null) {
+                throw new IllegalArgumentException("Unknown notification type: " + type);
+            }
+            bits |= bit;
+        }
+        return bits;
+    }
+
+    public static List<String> toTypes(long bits) {
+        List<String> types = new ArrayList<>();
+        for (int i = 0; i < TYPES.size(); i++) {
+            if ((bits & (1L << i)) != 0) {
+                types.add(TYPES.get(i));
+            }
+        }
+        return types;
+    }
+
+    private static long bit(String type) {
+        return BITS.getOrDefault(type, 0L);
+    }
+
+    private Snapshot load(UUID orgId) {
+        Map<UUID, Preferences> byUser = new HashMap<>();
+        for (OrgMembershipRepository.NotificationPreferenceRow row
+                : membershipRepository.findNotificationPreferences(orgId)) {
+            byUser.put(row.getUserId(),
+                    new Preferences(row.getMutedTypes(), row.getDigestTypes(), projects(row.getMutedProjects())));
+        }
+        return new Snapshot(Map.copyOf(byUser), System.nanoTime());
+    }
+
+    private static Preferences of(OrgMembershipEntity membership) {
+        return new Preferences(membership.getNotificationMutedTypes(), membership.getNotificationDigestTypes(),
+                projects(membership.getNotificationMutedProjects()));
+    }
+
+    private static Set<UUID> projects(UUID[] ids) {
+        return ids == null ? Set.of() : Set.copyOf(Arrays.asList(ids));
+    }
+}
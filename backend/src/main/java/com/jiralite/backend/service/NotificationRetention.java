@@ -0,0 +1,78 @@
+package com.jiralite.backend.service;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.jiralite.backend.repository.OrgRepository;
+
+/**
+ * How long notifications are kept: {@code app.notifications.retention.default}
+ * for every org, which an org may shorten (never extend) with
+ * orgs.notification_retention_days. Notifications past their org's cutoff are
+ * expired even before NotificationPartitionScheduler removes them, so reads
+ * bound created_at by {@link #notBefore}, which also lets Postgres skip the
+ * monthly partitions outside it. Overrides are reloaded every
+ * {@code refresh-interval}.
+ */
+@Component
+public class NotificationRetention {
+
+    private final OrgRepository orgRepository;
+    private final Duration defaultRetention;
+    private final long refreshNanos;
+
+    private volatile Snapshot snapshot;
+
+    private record Snapshot(Map<UUID, Duration> overrides, long loadedAt) {
+    }
+
+    public NotificationRetention(
+            OrgRepository orgRepository,
+            @Value("${app.notifications.retention.default:180d}") Duration defaultRetention,
+            @Value("${app.notifications.retention.refresh-interval:10m}") Duration refreshInterval) {
+        this.orgRepository = orgRepository;
+        this.defaultRetention = defaultRetention;
+        this.refreshNanos = refreshInterval.toNanos();
+    }
+
+    public Duration defaultRetention() {
+        return defaultRetention;
+    }
+
+    public Duration retentionFor(UUID orgId) {
+        return overrides().getOrDefault(orgId, defaultRetention);
+    }
+
+    /**
+     * Oldest created_at still visible in the org.
+     */
+    public OffsetDateTime notBefore(UUID orgId) {
+        return OffsetDateTime.now().minus(retentionFor(orgId));
+    }
+
+    /**
+     * Orgs keeping notifications for less than the default.
+     */
+    public Map<UUID, Duration> overrides() {
+        Snapshot current = snapshot;
+        if (current == null || System.nanoTime() - current.loadedAt() > refreshNanos) {
+            current = load();
+            snapshot = current;
+        }
+        return current.overrides();
+    }
+
+    private Snapshot load() {
+        Map<UUID, Duration> overrides = orgRepository.findNotificationRetentionOverrides().stream()
+                .filter(override -> Duration.ofDays(override.getDays()).compareTo(defaultRetention) < 0)
+                .collect(Collectors.toUnmodifiableMap(OrgRepository.RetentionOverride::getOrgId,
+                        override -> Duration.ofDays(override.getDays())));
+        return new Snapshot(overrides, System.nanoTime());
+    }
+}
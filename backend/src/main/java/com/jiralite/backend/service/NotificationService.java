@@ -1,105 +1,442 @@
 package com.jiralite.backend.service;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
-import java.util.UUID;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
-import org.springframework.http.MediaType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.jiralite.backend.dto.ErrorCode;
+import com.jiralite.backend.dto.NotificationPreferencesRequest;
+import com.jiralite.backend.dto.NotificationPreferencesResponse;
+import com.jiralite.backend.dto.NotificationResponse;
 import com.jiralite.backend.entity.NotificationEntity;
+import com.jiralite.backend.exception.ApiException;
+import com.jiralite.backend.repository.NotificationOutboxRepository;
 import com.jiralite.backend.repository.NotificationRepository;
 import com.jiralite.backend.security.tenant.TenantContextHolder;
 
+/**
+ * Notifications are written in the caller's transaction together with their
+ * outbox rows; {@link NotificationDispatcher} pushes them to SSE only after
+ * that transaction commits. A stream reconnecting with Last-Event-ID gets
+ * the notifications it missed replayed (up to {@code replay-limit} within
+ * {@code replay-window}); beyond that it is told to resync. created_at is
+ * assigned before commit, so a notification from a transaction that commits
+ * after a later-stamped one was pushed can fall behind the replay cursor;
+ * the list endpoint still has it.
+ * <p>
+ * Notifications are stored as a type and template parameters; text is
+ * rendered on read by {@link NotificationTemplates}.
+ * <p>
+ * Recipients' {@link NotificationPreferences} are checked before anything is
+ * written: muted types and projects are dropped, digest-only types are stored
+ * and counted but not pushed.
+ * <p>
+ * Ticket notifications coalesce: a new one for the same user, ticket and type
+ * family as an unread notification touched within {@code coalesce-window}
+ * updates that row (latest type and params, event_count + 1, created_at
+ * moved to now) instead of adding one. It is pushed again at most once per
+ * window (notifications.pushed_at); the push carries the digest's state at
+ * delivery time.
+ * <p>
+ * Unread counts come from {@link NotificationUnreadCounter}, adjusted once
+ * the insert or mark-read commits; marking read is one UPDATE however many
+ * notifications it covers.
+ * <p>
+ * Reads and mark-read only consider notifications within the org's
+ * {@link NotificationRetention} period, which keeps them to the monthly
+ * partitions that period spans.
+ */
 @Service
 public class NotificationService {
 
     private final NotificationRepository notificationRepository;
-    private final Map<UUID, Map<Integer, SseEmitter>> emittersByUser = new ConcurrentHashMap<>();
+    private final NotificationOutboxRepository outboxRepository;
+    private final NotificationDispatcher dispatcher;
+    private final NotificationEmitters emitters;
+    private final NotificationUnreadCounter unreadCounter;
+    private final NotificationRetention retention;
+    private final NotificationTemplates templates;
+    private final NotificationPreferences preferences;
+    private final int replayLimit;
+    private final Duration replayWindow;
+    private final Duration coalesceWindow;
+
+    /**
+     * Type to coalescing family; types not listed are never merged.
+     */
+    private static final Map<String, String> DIGEST_FAMILIES = Map.of(
+            "TICKET_UPDATED", "TICKET_ACTIVITY",
+            "TICKET_STATUS", "TICKET_ACTIVITY",
+            "COMMENT_CREATED", "COMMENT");
 
-    public NotificationService(NotificationRepository notificationRepository) {
+    private record DigestKey(UUID userId, UUID ticketId, String family) {
+    }
+
+    public NotificationService(
+            NotificationRepository notificationRepository,
+            NotificationOutboxRepository outboxRepository,
+            NotificationDispatcher dispatcher,
+            NotificationEmitters emitters,
+            NotificationUnreadCounter unreadCounter,
+            NotificationRetention retention,
+            NotificationTemplates templates,
+            NotificationPreferences preferences,
+            @Value("${app.notifications.sse.replay-limit:50}") int replayLimit,
+            @Value("${app.notifications.sse.replay-window:24h}") Duration replayWindow,
+            @Value("${app.notifications.coalesce-window:10m}") Duration coalesceWindow) {
         this.notificationRepository = notificationRepository;
+        this.outboxRepository = outboxRepository;
+        this.dispatcher = dispatcher;
+        this.emitters = emitters;
+        this.unreadCounter = unreadCounter;
+        this.retention = retention;
+        this.templates = templates;
+        this.preferences = preferences;
+        this.replayLimit = replayLimit;
+        this.replayWindow = replayWindow;
+        this.coalesceWindow = coalesceWindow;
     }
 
+    /**
+     * @param params values for the type's template, e.g. the ticket key
+     */
     @Transactional
-    public void createNotification(UUID userId, String type, String content) {
-        NotificationEntity entity = new NotificationEntity();
-        entity.setId(UUID.randomUUID());
-        entity.setUserId(userId);
-        entity.setTenantId(UUID.fromString(TenantContextHolder.getRequired().orgId()));
-        entity.setType(type);
-        entity.setContent(content);
-        entity.setIsRead(false);
-        entity.setCreatedAt(OffsetDateTime.now());
-        notificationRepository.save(entity);
-        // push to SSE listeners
-        emitToUser(userId, entity);
+    public void createNotification(UUID userId, String type, Map<String, String> params) {
+        createNotification(userId, type, params, null, null);
+    }
+
+    /**
+     * Notification about a project or one of its tickets; skipped if the user
+     * muted either. Ticket notifications coalesce with the user's recent
+     * unread notification for the ticket where the type allows.
+     */
+    @Transactional
+    public void createNotification(UUID userId, String type, Map<String, String> params, UUID projectId,
+            UUID ticketId) {
+        UUID tenantId = UUID.fromString(TenantContextHolder.getRequired().orgId());
+        NotificationPreferences.Preferences userPreferences = preferences.get(tenantId, userId);
+        if (userPreferences.mutes(type, projectId)) {
+            return;
+        }
+        OffsetDateTime now = now();
+        Draft draft = new Draft(userId, type, params, projectId, ticketId);
+        DigestKey key = digestKey(draft);
+        NotificationEntity entity = key == null ? null : findOpenDigests(tenantId, List.of(draft), now).get(key);
+        boolean push;
+        if (entity != null) {
+            coalesce(entity, draft, now);
+            push = !userPreferences.digestOnly(type) && markPushed(entity, now);
+        } else {
+            entity = newNotification(tenantId, draft, now);
+            push = !userPreferences.digestOnly(type) && markPushed(entity, now);
+            notificationRepository.save(entity);
+            unreadCounter.added(tenantId, Map.of(userId, 1L));
+            if (userPreferences.digestOnly(type)) {
+                unreadCounter.changed(tenantId, List.of(userId));
+            }
+        }
+        if (push) {
+            outboxRepository.enqueue(List.of(entity.getId()));
+            wakeDispatcherAfterCommit();
+        }
+    }
+
+    /**
+     * Insert many notifications in JDBC batches, coalescing as
+     * {@link #createNotification(UUID, String, Map, UUID, UUID)} does; SSE
+     * delivery follows commit.
+     */
+    @Transactional
+    public void createNotifications(List<Draft> drafts) {
+        if (drafts.isEmpty()) {
+            return;
+        }
+        UUID tenantId = UUID.fromString(TenantContextHolder.getRequired().orgId());
+        drafts = drafts.stream()
+                .filter(draft -> !preferences.get(tenantId, draft.userId()).mutes(draft.type(), draft.projectId()))
+                .toList();
+        if (drafts.isEmpty()) {
+            return;
+        }
+        OffsetDateTime now = now();
+        Map<DigestKey, NotificationEntity> digests = findOpenDigests(tenantId, drafts, now);
+        List<NotificationEntity> inserts = new ArrayList<>();
+        Set<UUID> touched = new LinkedHashSet<>();
+        Set<UUID> unpushedUsers = new LinkedHashSet<>();
+        for (Draft draft : drafts) {
+            DigestKey key = digestKey(draft);
+            NotificationEntity entity = key == null ? null : digests.get(key);
+            boolean inserted = entity == null;
+            if (!inserted) {
+                coalesce(entity, draft, now);
+            } else {
+                entity = newNotification(tenantId, draft, now);
+                inserts.add(entity);
+                if (key != null) {
+                    digests.put(key, entity);
+                }
+            }
+            if (!preferences.get(tenantId, draft.userId()).digestOnly(draft.type())) {
+                if (markPushed(entity, now)) {
+                    touched.add(entity.getId());
+                }
+            } else if (inserted) {
+                unpushedUsers.add(draft.userId());
+            }
+        }
+        if (!inserts.isEmpty()) {
+            notificationRepository.insertAll(inserts);
+            unreadCounter.added(tenantId, inserts.stream()
+                    .collect(Collectors.groupingBy(NotificationEntity::getUserId, Collectors.counting())));
+        }
+        if (!unpushedUsers.isEmpty()) {
+            unreadCounter.changed(tenantId, unpushedUsers);
+        }
+        if (!touched.isEmpty()) {
+            outboxRepository.enqueue(touched);
+            wakeDispatcherAfterCommit();
+        }
     }
 
     @Transactional(readOnly = true)
-    public Page<NotificationEntity> listForCurrentUser(Pageable pageable) {
+    public Page<NotificationResponse> listForCurrentUser(Pageable pageable) {
         var ctx = TenantContextHolder.getRequired();
+        UUID orgId = UUID.fromString(ctx.orgId());
         UUID userId = UUID.fromString(ctx.userId());
-        return notificationRepository.findByTenantIdAndUserIdOrderByCreatedAtDesc(
-                UUID.fromString(ctx.orgId()), userId, pageable);
+        return notificationRepository.findByTenantIdAndUserIdAndCreatedAtGreaterThanEqualOrderByCreatedAtDesc(
+                orgId, userId, retention.notBefore(orgId), pageable).map(templates::toResponse);
     }
 
     @Transactional
     public void markRead(UUID id) {
+        markRead(List.of(id));
+    }
+
+    /**
+     * Marks the current user's notifications among {@code ids} read (others'
+     * and unknown ids are ignored) and returns the new unread count.
+     */
+    @Transactional
+    public long markRead(Collection<UUID> ids) {
         var ctx = TenantContextHolder.getRequired();
         UUID orgId = UUID.fromString(ctx.orgId());
         UUID userId = UUID.fromString(ctx.userId());
-        notificationRepository.findByIdAndTenantIdAndUserId(id, orgId, userId).ifPresent(n -> {
-            n.setIsRead(true);
-            notificationRepository.save(n);
-        });
+        int marked = ids.isEmpty() ? 0
+                : notificationRepository.markRead(orgId, userId, retention.notBefore(orgId), ids);
+        unreadCounter.read(orgId, userId, marked);
+        return unreadCounter.get(orgId, userId);
     }
 
-    public SseEmitter subscribeCurrentUser() {
+    @Transactional
+    public long markAllRead() {
         var ctx = TenantContextHolder.getRequired();
+        UUID orgId = UUID.fromString(ctx.orgId());
         UUID userId = UUID.fromString(ctx.userId());
-        SseEmitter emitter = new SseEmitter(30 * 60 * 1000L);
-        int key = System.identityHashCode(emitter);
-        emittersByUser.computeIfAbsent(userId, k -> new ConcurrentHashMap<>()).put(key, emitter);
-        emitter.onCompletion(() -> removeEmitter(userId, emitter));
-        emitter.onTimeout(() -> removeEmitter(userId, emitter));
+        unreadCounter.read(orgId, userId,
+                notificationRepository.markAllRead(orgId, userId, retention.notBefore(orgId)));
+        return unreadCounter.get(orgId, userId);
+    }
+
+    @Transactional(readOnly = true)
+    public long unreadCount() {
+        var ctx = TenantContextHolder.getRequired();
+        return unreadCounter.get(UUID.fromString(ctx.orgId()), UUID.fromString(ctx.userId()));
+    }
+
+    @Transactional(readOnly = true)
+    public NotificationPreferencesResponse preferencesForCurrentUser() {
+        var ctx = TenantContextHolder.getRequired();
+        return toResponse(preferences.load(UUID.fromString(ctx.orgId()), UUID.fromString(ctx.userId())));
+    }
+
+    @Transactional
+    public NotificationPreferencesResponse updatePreferences(NotificationPreferencesRequest request) {
+        var ctx = TenantContextHolder.getRequired();
+        NotificationPreferences.Preferences updated;
         try {
-            emitter.send(SseEmitter.event().name("connected").data("ok").id(UUID.randomUUID().toString())
-                    .reconnectTime(5000L));
-        } catch (Exception e) {
-            emitter.completeWithError(e);
+            updated = new NotificationPreferences.Preferences(
+                    NotificationPreferences.toBits(request.getMutedTypes()),
+                    NotificationPreferences.toBits(request.getDigestTypes()),
+                    Set.copyOf(request.getMutedProjectIds()));
+        } catch (IllegalArgumentException ex) {
+            throw new ApiException(ErrorCode.BAD_REQUEST, ex.getMessage(), HttpStatus.BAD_REQUEST.value());
+        }
+        preferences.save(UUID.fromString(ctx.orgId()), UUID.fromString(ctx.userId()), updated);
+        return toResponse(updated);
+    }
+
+    /**
+     * Also repairs the user's unread count, which is sent right after connect.
+     *
+     * @param lastEventId the Last-Event-ID header of a reconnecting client, or null
+     */
+    public SseEmitter subscribeCurrentUser(String lastEventId) {
+        var ctx = TenantContextHolder.getRequired();
+        UUID orgId = UUID.fromString(ctx.orgId());
+        UUID userId = UUID.fromString(ctx.userId());
+        long unread = unreadCounter.reconcile(orgId, userId);
+        SseEmitter emitter;
+        if (lastEventId == null || lastEventId.isBlank()) {
+            emitter = emitters.subscribe(userId, orgId);
+        } else {
+            NotificationEventId since = NotificationEventId.decode(lastEventId.strip());
+            emitter = emitters.subscribe(userId, orgId, () -> replay(orgId, userId, since));
         }
+        emitters.sendUnread(userId, orgId, unread);
         return emitter;
     }
 
-    private void emitToUser(UUID userId, NotificationEntity entity) {
-        var map = emittersByUser.get(userId);
-        if (map == null) {
-            return;
+    NotificationEmitters.Replay replay(UUID orgId, UUID userId, NotificationEventId since) {
+        OffsetDateTime notBefore = now().minus(replayWindow);
+        if (since == null || since.createdAt().isBefore(notBefore)) {
+            return new NotificationEmitters.Replay(List.of(), false);
         }
-        map.values().forEach(emitter -> {
-            try {
-                emitter.send(SseEmitter.event()
-                        .name("notification")
-                        .data(entity, MediaType.APPLICATION_JSON));
-            } catch (Exception ex) {
-                emitter.completeWithError(ex);
-            }
-        });
+        List<NotificationEntity> missed = notificationRepository.findAfter(orgId, userId, since.createdAt(),
+                since.id(), notBefore, PageRequest.of(0, replayLimit + 1));
+        if (missed.size() > replayLimit) {
+            return new NotificationEmitters.Replay(List.of(), false);
+        }
+        return new NotificationEmitters.Replay(missed, true);
+    }
+
+    private static NotificationPreferencesResponse toResponse(NotificationPreferences.Preferences preferences) {
+        return new NotificationPreferencesResponse(
+                NotificationPreferences.toTypes(preferences.mutedTypes()),
+                NotificationPreferences.toTypes(preferences.digestTypes()),
+                List.copyOf(preferences.mutedProjects()),
+                NotificationPreferences.TYPES);
     }
 
-    private void removeEmitter(UUID userId, SseEmitter emitter) {
-        var map = emittersByUser.get(userId);
-        if (map != null) {
-            map.remove(System.identityHashCode(emitter));
-            if (map.isEmpty()) {
-                emittersByUser.remove(userId);
+    private DigestKey digestKey(Draft draft) {
+        String family = DIGEST_FAMILIES.get(draft.type());
+        if (family == null || draft.ticketId() == null || coalesceWindow.isZero()) {
+            return null;
+        }
+        return new DigestKey(draft.userId(), draft.ticketId(), family);
+    }
+
+    /**
+     * The newest open digest for each of the drafts' keys, locked. Candidates
+     * are read without locks; only the one row chosen per key is then locked,
+     * in id order, so writers for unrelated users or tickets never block each
+     * other and overlapping writers cannot deadlock.
+     */
+    private Map<DigestKey, NotificationEntity> findOpenDigests(UUID tenantId, List<Draft> drafts,
+            OffsetDateTime now) {
+        Map<DigestKey, NotificationEntity> digests = new HashMap<>();
+        Set<DigestKey> keys = drafts.stream().map(this::digestKey).filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (keys.isEmpty()) {
+            return digests;
+        }
+        OffsetDateTime since = now.minus(coalesceWindow);
+        Map<UUID, DigestKey> chosen = new HashMap<>();
+        Set<DigestKey> seen = new HashSet<>();
+        for (NotificationRepository.DigestCandidate candidate : notificationRepository.findOpenDigests(tenantId,
+                keys.stream().map(DigestKey::userId).collect(Collectors.toSet()),
+                keys.stream().map(DigestKey::ticketId).collect(Collectors.toSet()),
+                DIGEST_FAMILIES.keySet(),
+                since)) {
+            DigestKey key = new DigestKey(candidate.getUserId(), candidate.getTicketId(),
+                    DIGEST_FAMILIES.get(candidate.getType()));
+            if (keys.contains(key) && seen.add(key)) {
+                chosen.put(candidate.getId(), key);
             }
         }
+        if (chosen.isEmpty()) {
+            return digests;
+        }
+        for (NotificationEntity notification : notificationRepository.lockOpenDigests(tenantId, chosen.keySet(),
+                since)) {
+            digests.put(chosen.get(notification.getId()), notification);
+        }
+        return digests;
+    }
+
+    private static void coalesce(NotificationEntity digest, Draft draft, OffsetDateTime now) {
+        int count = digest.getEventCount() + 1;
+        digest.setEventCount(count);
+        digest.setType(draft.type());
+        digest.setParams(draft.params());
+        digest.setContent(null);
+        digest.setCreatedAt(now);
+    }
+
+    /**
+     * Claims a push for the notification unless it was pushed within the
+     * coalesce window, so a busy digest is not re-sent for every event.
+     */
+    private boolean markPushed(NotificationEntity notification, OffsetDateTime now) {
+        OffsetDateTime pushedAt = notification.getPushedAt();
+        if (pushedAt != null && pushedAt.isAfter(now.minus(coalesceWindow))) {
+            return false;
+        }
+        notification.setPushedAt(now);
+        return true;
+    }
+
+    private static NotificationEntity newNotification(UUID tenantId, Draft draft, OffsetDateTime now) {
+        NotificationEntity entity = new NotificationEntity();
+        entity.setId(UUID.randomUUID());
+        entity.setUserId(draft.userId());
+        entity.setTenantId(tenantId);
+        entity.setType(draft.type());
+        entity.setParams(draft.params());
+        entity.setIsRead(false);
+        entity.setCreatedAt(now);
+        entity.setTicketId(draft.ticketId());
+        return entity;
+    }
+
+    // Postgres keeps microseconds; event ids must match what is stored
+    private static OffsetDateTime now() {
+        return OffsetDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    private void wakeDispatcherAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatcher.wakeUp();
+                }
+            });
+        } else {
+            dispatcher.wakeUp();
+        }
+    }
+
+    /**
+     * A notification to be created by {@link #createNotifications(List)};
+     * {@code projectId} and {@code ticketId} are null for notifications not
+     * about a project or ticket.
+     */
+    public record Draft(UUID userId, String type, Map<String, String> params, UUID projectId, UUID ticketId) {
+
+        public Draft(UUID userId, String type, Map<String, String> params) {
+            this(userId, type, params, null, null);
+        }
     }
 }
@@ -0,0 +1,112 @@
+package com.jiralite.backend.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Component;
+
+import com.jiralite.backend.dto.NotificationResponse;
+import com.jiralite.backend.entity.NotificationEntity;
+
+/**
+ * Renders notification text from its type and stored parameters using the
+ * templates in {@code notifications/templates*.properties}, so rows hold a
+ * type code and a few values instead of a sentence and the text can be
+ * localized. Templates are parsed once per (locale, type) and cached. Rows
+ * written before templating keep their stored content.
+ */
+@Component
+public class NotificationTemplates {
+
+    static final String BUNDLE = "notifications/templates";
+    private static final String MORE = "MORE";
+    private static final ResourceBundle.Control NO_FALLBACK =
+            ResourceBundle.Control.getNoFallbackControl(ResourceBundle.Control.FORMAT_PROPERTIES);
+
+    private final Map<Key, Template> cache = new ConcurrentHashMap<>();
+
+    private record Key(Locale locale, String type) {
+    }
+
+    /**
+     * Rendered for the current request's locale.
+     */
+    public NotificationResponse toResponse(NotificationEntity notification) {
+        return toResponse(notification, LocaleContextHolder.getLocale());
+    }
+
+    public NotificationResponse toResponse(NotificationEntity notification, Locale locale) {
+        return new NotificationResponse(notification.getId(), notification.getType(),
+                render(notification, locale), notification.isRead(), notification.getCreatedAt(),
+                notification.getTicketId(), notification.getEventCount());
+    }
+
+    public String render(NotificationEntity notification, Locale locale) {
+        if (notification.getParams() == null) {
+            return notification.getContent() == null ? "" : notification.getContent();
+        }
+        Map<String, String> params = new HashMap<>(notification.getParams());
+        if (notification.getTicketId() != null) {
+            params.putIfAbsent("ticketId", notification.getTicketId().toString());
+        }
+        StringBuilder text = new StringBuilder();
+        template(locale, notification.getType()).appendTo(text, params);
+        if (notification.getEventCount() > 1) {
+            template(locale, MORE).appendTo(text, Map.of("count", String.valueOf(notification.getEventCount() - 1)));
+        }
+        return text.toString();
+    }
+
+    private Template template(Locale locale, String type) {
+        ResourceBundle bundle = ResourceBundle.getBundle(BUNDLE, locale, NO_FALLBACK);
+        // Keyed by the bundle actually used, so arbitrary request locales share entries
+        return cache.computeIfAbsent(new Key(bundle.getLocale(), type), key -> Template.parse(lookup(bundle, type)));
+    }
+
+    private static String lookup(ResourceBundle bundle, String type) {
+        try {
+            return bundle.getString(type);
+        } catch (MissingResourceException ex) {
+            // Unknown type: show the code rather than nothing
+            return type;
+        }
+    }
+
+    /**
+     * Alternating literal text and parameter names ("{name}").
+     */
+    private record Template(List<String> literals, List<String> names) {
+
+        static Template parse(String pattern) {
+            List<String> literals = new ArrayList<>();
+            List<String> names = new ArrayList<>();
+            int start = 0;
+            int open;
+            while ((open = pattern.indexOf('{', start)) >= 0) {
+                int close = pattern.indexOf('}', open);
+                if (close < 0) {
+                    break;
+                }
+                literals.add(pattern.substring(start, open));
+                names.add(pattern.substring(open + 1, close));
+                start = close + 1;
+            }
+            literals.add(pattern.substring(start));
+            return new Template(List.copyOf(literals), List.copyOf(names));
+        }
+
+        void appendTo(StringBuilder text, Map<String, String> params) {
+            for (int i = 0; i < names.size(); i++) {
+                text.append(literals.get(i)).append(params.getOrDefault(names.get(i), ""));
+            }
+            text.append(literals.get(names.size()));
+        }
+    }
+}
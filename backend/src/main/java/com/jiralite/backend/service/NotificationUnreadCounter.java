@@ -0,0 +1,198 @@
+package com.jiralite.backend.service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jiralite.backend.repository.OrgMembershipRepository;
+
+/**
+ * Cached unread notification count per member, kept on
+ * org_memberships.unread_notifications so the badge never counts rows.
+ * <p>
+ * Adjustments are collected for the caller's transaction and applied once it
+ * commits, in a short transaction of their own: one UPDATE per member in
+ * (org, user) order, so ticket and comment writes never hold membership row
+ * locks and concurrent appliers lock shared rows in the same order. Counts
+ * read inside such a transaction include its pending adjustments, so e.g.
+ * mark-read can return the count it will leave behind. Change events for the adjusted members are published from that transaction, so
+ * streams never read a count older than the event. Counts are not clamped.
+ * Drift (deltas lost when a node stops after commit, rows purged directly in
+ * SQL) is repaired by {@link #reconcile} whenever a notification stream
+ * connects.
+ */
+@Component
+public class NotificationUnreadCounter {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationUnreadCounter.class);
+
+    /**
+     * Deltas of one transaction by org and user, and the members whose
+     * streams need the new count pushed.
+     */
+    private static final class Pending {
+        final Map<UUID, Map<UUID, Long>> deltas = new TreeMap<>();
+        final Set<NotificationBus.Event> events = new LinkedHashSet<>();
+    }
+
+    private final OrgMembershipRepository membershipRepository;
+    private final NotificationBus bus;
+    private final TransactionTemplate requiresNew;
+
+    public NotificationUnreadCounter(
+            OrgMembershipRepository membershipRepository,
+            NotificationBus bus,
+            PlatformTransactionManager transactionManager) {
+        this.membershipRepository = membershipRepository;
+        this.bus = bus;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * New unread notifications per user. Not published: the dispatcher pushes
+     * the fresh count along with the notifications themselves.
+     */
+    public void added(UUID orgId, Map<UUID, Long> addedByUser) {
+        Pending pending = pending();
+        addedByUser.forEach((userId, delta) -> {
+            if (delta > 0) {
+                adjust(pending, orgId, userId, delta);
+            }
+        });
+        applyIfUnbound(pending);
+    }
+
+    /**
+     * The users' counts changed without a push that carries them (e.g.
+     * digest-only notifications); refreshes their streams once applied.
+     */
+    public void changed(UUID orgId, Collection<UUID> userIds) {
+        Pending pending = pending();
+        userIds.forEach(userId -> pending.events.add(NotificationBus.Event.unreadChanged(userId, orgId)));
+        applyIfUnbound(pending);
+    }
+
+    /**
+     * {@code count} notifications were marked read; pushes the new count to
+     * the user's streams on every node once applied.
+     */
+    public void read(UUID orgId, UUID userId, int count) {
+        if (count <= 0) {
+            return;
+        }
+        Pending pending = pending();
+        adjust(pending, orgId, userId, -count);
+        pending.events.add(NotificationBus.Event.unreadChanged(userId, orgId));
+        applyIfUnbound(pending);
+    }
+
+    /**
+     * Recomputes the count from the notifications table and returns it.
+     */
+    @Transactional
+    public long reconcile(UUID orgId, UUID userId) {
+        membershipRepository.reconcileUnreadNotifications(orgId, userId);
+        return get(orgId, userId);
+    }
+
+    public long get(UUID orgId, UUID userId) {
+        return counts(orgId, List.of(userId)).getOrDefault(userId, 0L);
+    }
+
+    public Map<UUID, Long> counts(UUID orgId, Collection<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<UUID, Long> counts = new HashMap<>();
+        membershipRepository.findUnreadNotifications(orgId, userIds)
+                .forEach(count -> counts.put(count.getUserId(), (long) count.getUnread()));
+        Pending pending = TransactionSynchronizationManager.isSynchronizationActive()
+                ? (Pending) TransactionSynchronizationManager.getResource(this)
+                : null;
+        Map<UUID, Long> deltas = pending == null ? null : pending.deltas.get(orgId);
+        if (deltas != null) {
+            counts.replaceAll((userId, count) -> count + deltas.getOrDefault(userId, 0L));
+        }
+        return counts;
+    }
+
+    private static void adjust(Pending pending, UUID orgId, UUID userId, long delta) {
+        pending.deltas.computeIfAbsent(orgId, org -> new TreeMap<>()).merge(userId, delta, Long::sum);
+    }
+
+    /**
+     * The current transaction's pending adjustments, or a fresh set to apply
+     * at once when there is no transaction.
+     */
+    private Pending pending() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return new Pending();
+        }
+        Pending pending = (Pending) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Pending bound = new Pending();
+            pending = bound;
+            TransactionSynchronizationManager.bindResource(this, bound);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public int getOrder() {
+                    // Before the dispatcher is woken, so pushed counts include these
+                    return Ordered.HIGHEST_PRECEDENCE;
+                }
+
+                @Override
+                public void afterCommit() {
+                    apply(bound);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(NotificationUnreadCounter.this);
+                }
+            });
+        }
+        return pending;
+    }
+
+    private void applyIfUnbound(Pending pending) {
+        if (TransactionSynchronizationManager.getResource(this) != pending) {
+            apply(pending);
+        }
+    }
+
+    private void apply(Pending pending) {
+        if (pending.deltas.isEmpty() && pending.events.isEmpty()) {
+            return;
+        }
+        try {
+            requiresNew.executeWithoutResult(status -> {
+                pending.deltas.forEach((orgId, byUser) -> byUser.forEach((userId, delta) -> {
+                    if (delta != 0) {
+                        membershipRepository.adjustUnreadNotifications(orgId, userId, delta);
+                    }
+                }));
+                bus.publish(List.copyOf(pending.events));
+            });
+        } catch (RuntimeException ex) {
+            // The notifications have committed; the next reconcile settles these counts
+            log.warn("Unread counts not adjusted for {}: {}", pending.deltas, ex.getMessage());
+        }
+    }
+}
@@ -85,7 +85,7 @@ public class OrgMemberService {
             cognitoService.updateUserGroup(user.getCognitoSub(), "", membership.getRole());
         }
 
-        notifyUser(user.getId(), "ORG_MEMBER_ADDED", "You were added to the organization");
+        notifyUser(user.getId(), "ORG_MEMBER_ADDED");
         return toResponse(saved, user);
     }
 
@@ -128,7 +128,7 @@ public class OrgMemberService {
             cognitoService.globalSignOut(user.getCognitoSub());
         }
 
-        notifyUser(user.getId(), "ORG_MEMBER_UPDATED", "Your organization role/status changed");
+        notifyUser(user.getId(), "ORG_MEMBER_UPDATED");
         return toResponse(membership, user);
     }
 
@@ -155,7 +155,7 @@ public class OrgMemberService {
             cognitoService.removeUserFromOrg(user.getCognitoSub());
         }
 
-        notifyUser(userId, "ORG_REMOVED", "You have been removed from the organization");
+        notifyUser(userId, "ORG_REMOVED");
     }
 
     private void ensureAdmin() {
@@ -166,8 +166,8 @@ public class OrgMemberService {
         }
     }
 
-    private void notifyUser(UUID userId, String type, String content) {
-        notificationService.createNotification(userId, type, content);
+    private void notifyUser(UUID userId, String type) {
+        notificationService.createNotification(userId, type, Map.of());
     }
 
     private UUID getOrgId() {
@@ -2,6 +2,7 @@ package com.jiralite.backend.service;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import org.springframework.http.HttpStatus;
@@ -209,12 +210,11 @@ public class ProjectService {
                 "project " + project.getProjectKey() + " moved to trash");
 
         // Notify creator
-        String purgeDate = purgeAfter.toLocalDate().toString();
         if (project.getCreatedBy() != null) {
-            notificationService.createNotification(project.getCreatedBy(), "PROJECT_DELETED",
-                    "Project " + project.getName() + " (" + project.getProjectKey() + ") has been moved to trash. " +
-                            "It will be permanently deleted on " + purgeDate
-                            + ". [View in Trash](/trash?type=project)");
+            notificationService.createNotification(project.getCreatedBy(), "PROJECT_DELETED", Map.of(
+                    "project", project.getName(),
+                    "projectKey", project.getProjectKey(),
+                    "purgeDate", purgeAfter.toLocalDate().toString()), project.getId(), null);
         }
     }
 
@@ -263,10 +263,10 @@ public class ProjectService {
 
         // Notify creator
         if (project.getCreatedBy() != null) {
-            notificationService.createNotification(project.getCreatedBy(), "PROJECT_RESTORED",
-                    "Project " + project.getName() + " (" + project.getProjectKey() + ") has been restored from trash. "
-                            +
-                            "[View Project](/projects/" + project.getId() + ")");
+            notificationService.createNotification(project.getCreatedBy(), "PROJECT_RESTORED", Map.of(
+                    "project", project.getName(),
+                    "projectKey", project.getProjectKey(),
+                    "projectId", project.getId().toString()), project.getId(), null);
         }
 
         return toResponse(project);
@@ -0,0 +1,107 @@
+package com.jiralite.backend.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.StringJoiner;
+import java.util.UUID;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
+
+import com.jiralite.backend.dto.ErrorCode;
+import com.jiralite.backend.exception.ApiException;
+import com.jiralite.backend.repository.OrgMembershipRepository;
+import com.jiralite.backend.repository.ProjectRepository;
+import com.jiralite.backend.repository.TicketRepository;
+import com.jiralite.backend.repository.VersionStamp;
+import com.jiralite.backend.security.tenant.TenantContext;
+import com.jiralite.backend.security.tenant.TenantContextHolder;
+
+/**
+ * Strong ETags derived from row versions (count + latest updated_at per tenant)
+ * rather than from the serialized body, so controllers can answer 304 before
+ * running the real query. A version stamp scans the org's index, so it is only
+ * worth taking where the request does comparable work anyway. Every tag is
+ * scoped to the caller's org.
+ */
+@Service
+public class ResourceVersionService {
+
+    private final TicketRepository ticketRepository;
+    private final ProjectRepository projectRepository;
+    private final OrgMembershipRepository membershipRepository;
+
+    public ResourceVersionService(
+            TicketRepository ticketRepository,
+            ProjectRepository projectRepository,
+            OrgMembershipRepository membershipRepository) {
+        this.ticketRepository = ticketRepository;
+        this.projectRepository = projectRepository;
+        this.membershipRepository = membershipRepository;
+    }
+
+    /**
+     * Tag for an offset ticket page with its total, which counts the org's
+     * tickets anyway; {@code variant} is the request's query string, since
+     * filters and paging change the body for the same data version. A
+     * {@code userRelative} query ("assignee = me") also varies by caller.
+     */
+    @Transactional(readOnly = true)
+    public String ticketListTag(String variant, boolean userRelative) {
+        UUID orgId = getOrgId();
+        return tag(orgId, "tickets", stamp(ticketRepository.versionByOrgId(orgId)), variant,
+                userRelative ? TenantContextHolder.getRequired().userId() : null);
+    }
+
+    @Transactional(readOnly = true)
+    public String projectListTag(String variant) {
+        UUID orgId = getOrgId();
+        return tag(orgId, "projects", stamp(projectRepository.versionByOrgId(orgId)), variant);
+    }
+
+    /**
+     * Dashboard tag taken before the metrics are computed. Project and member
+     * counts are small per org and used as is; the per-user ticket count is
+     * replaced by the org's latest ticket write (an index probe), which every
+     * insert, assignment change and soft delete advances. A nightly purge of
+     * trashed tickets is not seen until the next ticket write.
+     */
+    @Transactional(readOnly = true)
+    public String dashboardTag() {
+        UUID orgId = getOrgId();
+        return tag(orgId, "dashboard", projectRepository.countByOrgId(orgId),
+                membershipRepository.countByIdOrgId(orgId),
+                ticketRepository.findLatestChangeXid(orgId).orElse("-"),
+                TenantContextHolder.getRequired().userId());
+    }
+
+    /**
+     * Tag for a single resource already loaded (e.g. from the ticket cache).
+     */
+    public String entityTag(String kind, UUID id, OffsetDateTime updatedAt) {
+        return tag(getOrgId(), kind, id, updatedAt == null ? null : updatedAt.toInstant());
+    }
+
+    private String stamp(VersionStamp version) {
+        OffsetDateTime lastModified = version.getLastModified();
+        return version.getCount() + "@" + (lastModified == null ? "-" : lastModified.toInstant());
+    }
+
+    private String tag(Object... parts) {
+        StringJoiner joiner = new StringJoiner("|");
+        for (Object part : parts) {
+            joiner.add(String.valueOf(part));
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(joiner.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    private UUID getOrgId() {
+        TenantContext context = TenantContextHolder.getRequired();
+        if (context.orgId() == null || context.orgId().isBlank()) {
+            throw new ApiException(ErrorCode.UNAUTHORIZED, "Missing org context", HttpStatus.UNAUTHORIZED.value());
+        }
+        return UUID.fromString(context.orgId());
+    }
+}
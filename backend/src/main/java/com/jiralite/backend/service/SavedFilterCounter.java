@@ -0,0 +1,170 @@
+package com.jiralite.backend.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jiralite.backend.entity.SavedFilterEntity;
+import com.jiralite.backend.exception.ApiException;
+import com.jiralite.backend.repository.SavedFilterRepository;
+
+/**
+ * Keeps saved_filters.match_count in step with ticket writes. TicketService
+ * reports each change as a before/after {@link TicketSnapshot}; the org's
+ * filters are matched in memory and the net delta per filter is collected for
+ * the caller's transaction. After it commits the deltas are applied in a short
+ * transaction of their own, one UPDATE per filter in id order, so ticket
+ * writes never hold saved_filters row locks and concurrent writers lock them
+ * in the same order. Orgs without saved filters cost nothing beyond a cached
+ * empty list.
+ * <p>
+ * Compiled filter definitions are cached per org for {@code definition-ttl}
+ * and dropped by {@link #invalidate(UUID)} when this node changes a filter.
+ * Anything this misses (filters changed on another node within the TTL,
+ * imports and purges that bypass TicketService, relative dates moving, deltas
+ * lost when a node stops or the update fails after commit) is corrected by
+ * the periodic recount in {@link SavedFilterService}. Counts are not clamped,
+ * so such drift shows up rather than hiding at zero.
+ */
+@Component
+public class SavedFilterCounter {
+
+    private static final Logger log = LoggerFactory.getLogger(SavedFilterCounter.class);
+
+    /**
+     * One ticket write; null before means created/restored, null after deleted.
+     */
+    record Change(TicketSnapshot before, TicketSnapshot after) {
+    }
+
+    private record Compiled(UUID id, Predicate<TicketSnapshot> matcher) {
+    }
+
+    private record OrgFilters(long loadedAt, List<Compiled> filters) {
+    }
+
+    private final SavedFilterRepository savedFilterRepository;
+    private final TicketQueryPlanner ticketQueryPlanner;
+    private final TransactionTemplate requiresNew;
+    private final long ttlNanos;
+    private final Map<UUID, OrgFilters> byOrg = new ConcurrentHashMap<>();
+
+    public SavedFilterCounter(
+            SavedFilterRepository savedFilterRepository,
+            TicketQueryPlanner ticketQueryPlanner,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.saved-filters.definition-ttl:60s}") Duration ttl) {
+        this.savedFilterRepository = savedFilterRepository;
+        this.ticketQueryPlanner = ticketQueryPlanner;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    public void changed(UUID orgId, TicketSnapshot before, TicketSnapshot after) {
+        changed(orgId, List.of(new Change(before, after)));
+    }
+
+    public void changed(UUID orgId, List<Change> changes) {
+        List<Compiled> filters = filters(orgId);
+        if (filters.isEmpty() || changes.isEmpty()) {
+            return;
+        }
+        Map<UUID, Long> deltas = new TreeMap<>();
+        for (Compiled filter : filters) {
+            long delta = 0;
+            for (Change change : changes) {
+                delta += (filter.matcher().test(change.after()) ? 1 : 0)
+                        - (filter.matcher().test(change.before()) ? 1 : 0);
+            }
+            if (delta != 0) {
+                deltas.put(filter.id(), delta);
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(deltas);
+            return;
+        }
+        // One pending map per transaction, so several writes in it cost one round of updates
+        @SuppressWarnings("unchecked")
+        Map<UUID, Long> pending = (Map<UUID, Long>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Map<UUID, Long> bound = new TreeMap<>();
+            pending = bound;
+            TransactionSynchronizationManager.bindResource(this, bound);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(bound);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(SavedFilterCounter.this);
+                }
+            });
+        }
+        for (Map.Entry<UUID, Long> entry : deltas.entrySet()) {
+            pending.merge(entry.getKey(), entry.getValue(), Long::sum);
+        }
+    }
+
+    /**
+     * Ascending id order, so concurrent appliers lock shared filters in the
+     * same order and cannot deadlock each other.
+     */
+    private void apply(Map<UUID, Long> deltas) {
+        try {
+            requiresNew.executeWithoutResult(status -> deltas.forEach((id, delta) -> {
+                if (delta != 0) {
+                    savedFilterRepository.adjustCount(id, delta);
+                }
+            }));
+        } catch (RuntimeException ex) {
+            // The ticket write has committed; the recount settles these filters
+            log.warn("Saved filter counts not adjusted for {}: {}", deltas.keySet(), ex.getMessage());
+        }
+    }
+
+    public void invalidate(UUID orgId) {
+        byOrg.remove(orgId);
+    }
+
+    private List<Compiled> filters(UUID orgId) {
+        long now = System.nanoTime();
+        OrgFilters cached = byOrg.get(orgId);
+        if (cached != null && now - cached.loadedAt() < ttlNanos) {
+            return cached.filters();
+        }
+        List<Compiled> compiled = new ArrayList<>();
+        for (SavedFilterEntity filter : savedFilterRepository.findAllByOrgId(orgId)) {
+            try {
+                compiled.add(new Compiled(filter.getId(),
+                        ticketQueryPlanner.matcher(filter.getQuery(), orgId, filter.getUserId())));
+            } catch (ApiException ex) {
+                // e.g. its project was deleted; the recount settles its count
+                log.debug("Saved filter {} not maintained incrementally: {}", filter.getId(), ex.getMessage());
+            }
+        }
+        byOrg.put(orgId, new OrgFilters(now, List.copyOf(compiled)));
+        return compiled;
+    }
+}
@@ -0,0 +1,212 @@
+package com.jiralite.backend.service;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jiralite.backend.dto.CreateSavedFilterRequest;
+import com.jiralite.backend.dto.ErrorCode;
+import com.jiralite.backend.dto.SavedFilterResponse;
+import com.jiralite.backend.dto.UpdateSavedFilterRequest;
+import com.jiralite.backend.entity.SavedFilterEntity;
+import com.jiralite.backend.entity.TicketEntity;
+import com.jiralite.backend.exception.ApiException;
+import com.jiralite.backend.repository.SavedFilterRepository;
+import com.jiralite.backend.repository.TicketRepository;
+import com.jiralite.backend.security.tenant.TenantContext;
+import com.jiralite.backend.security.tenant.TenantContextHolder;
+
+/**
+ * Saved ticket filters for the current user. Listing returns the cached
+ * counts kept by {@link SavedFilterCounter}, so the sidebar costs one query
+ * however many filters it shows. A filter is counted once when saved, then
+ * adjusted incrementally and recounted from scratch every
+ * {@code recount-after} ({@code relative-recount-after} for relative dates).
+ */
+@Service
+public class SavedFilterService {
+
+    static final int MAX_FILTERS_PER_USER = 100;
+
+    private final SavedFilterRepository savedFilterRepository;
+    private final TicketRepository ticketRepository;
+    private final TicketQueryPlanner ticketQueryPlanner;
+    private final SavedFilterCounter savedFilterCounter;
+    private final Duration recountAfter;
+    private final Duration relativeRecountAfter;
+
+    public SavedFilterService(
+            SavedFilterRepository savedFilterRepository,
+            TicketRepository ticketRepository,
+            TicketQueryPlanner ticketQueryPlanner,
+            SavedFilterCounter savedFilterCounter,
+            @Value("${app.saved-filters.recount-after:PT1H}") Duration recountAfter,
+            @Value("${app.saved-filters.relative-recount-after:PT5M}") Duration relativeRecountAfter) {
+        this.savedFilterRepository = savedFilterRepository;
+        this.ticketRepository = ticketRepository;
+        this.ticketQueryPlanner = ticketQueryPlanner;
+        this.savedFilterCounter = savedFilterCounter;
+        this.recountAfter = recountAfter;
+        this.relativeRecountAfter = relativeRecountAfter;
+    }
+
+    @Transactional(readOnly = true)
+    public List<SavedFilterResponse> listFilters() {
+        return savedFilterRepository.findAllByOrgIdAndUserIdOrderByNameAsc(getOrgId(), getUserId()).stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    @Transactional
+    public SavedFilterResponse createFilter(CreateSavedFilterRequest request) {
+        UUID orgId = getOrgId();
+        UUID userId = getUserId();
+        String name = request.getName().strip();
+        if (savedFilterRepository.countByOrgIdAndUserId(orgId, userId) >= MAX_FILTERS_PER_USER) {
+            throw new ApiException(ErrorCode.BAD_REQUEST,
+                    "Saved filter limit reached (max " + MAX_FILTERS_PER_USER + ")", HttpStatus.BAD_REQUEST.value());
+        }
+        requireUniqueName(orgId, userId, name);
+
+        OffsetDateTime now = OffsetDateTime.now();
+        SavedFilterEntity filter = new SavedFilterEntity();
+        filter.setId(UUID.randomUUID());
+        filter.setOrgId(orgId);
+        filter.setUserId(userId);
+        filter.setName(name);
+        filter.setCreatedAt(now);
+        applyQuery(filter, request.getQuery().strip(), now);
+        filter.setUpdatedAt(now);
+        savedFilterRepository.save(filter);
+        savedFilterCounter.invalidate(orgId);
+        return toResponse(filter);
+    }
+
+    @Transactional
+    public SavedFilterResponse updateFilter(UUID filterId, UpdateSavedFilterRequest request) {
+        boolean hasName = request.getName() != null && !request.getName().isBlank();
+        boolean hasQuery = request.getQuery() != null && !request.getQuery().isBlank();
+        if (!hasName && !hasQuery) {
+            throw new ApiException(ErrorCode.BAD_REQUEST, "No fields to update", HttpStatus.BAD_REQUEST.value());
+        }
+        SavedFilterEntity filter = findFilter(filterId);
+        OffsetDateTime now = OffsetDateTime.now();
+        if (hasName && !request.getName().strip().equals(filter.getName())) {
+            requireUniqueName(filter.getOrgId(), filter.getUserId(), request.getName().strip());
+            filter.setName(request.getName().strip());
+        }
+        if (hasQuery && !request.getQuery().strip().equals(filter.getQuery())) {
+            applyQuery(filter, request.getQuery().strip(), now);
+            savedFilterCounter.invalidate(filter.getOrgId());
+        }
+        filter.setUpdatedAt(now);
+        return toResponse(filter);
+    }
+
+    @Transactional
+    public void deleteFilter(UUID filterId) {
+        SavedFilterEntity filter = findFilter(filterId);
+        savedFilterRepository.delete(filter);
+        savedFilterCounter.invalidate(filter.getOrgId());
+    }
+
+    /**
+     * Filters whose count is older than the recount interval, oldest first.
+     */
+    @Transactional(readOnly = true)
+    public List<UUID> findDueForRecount(int limit) {
+        OffsetDateTime now = OffsetDateTime.now();
+        return savedFilterRepository.findDueForRecount(now.minus(recountAfter), now.minus(relativeRecountAfter),
+                PageRequest.of(0, limit));
+    }
+
+    /**
+     * Recount one filter from scratch. Runs without a request, so org and
+     * "me" come from the filter itself. A filter whose query no longer plans
+     * (project deleted, org grew past the unindexed limit) keeps its count
+     * and is retried after the next interval.
+     */
+    @Transactional
+    public void recount(UUID filterId) {
+        SavedFilterEntity filter = savedFilterRepository.findById(filterId).orElse(null);
+        if (filter == null) {
+            return;
+        }
+        OffsetDateTime now = OffsetDateTime.now();
+        long count;
+        try {
+            count = count(filter.getQuery(), filter.getOrgId(), filter.getUserId());
+        } catch (ApiException ex) {
+            count = filter.getMatchCount();
+        }
+        // Targeted UPDATE so a concurrent rename isn't overwritten
+        savedFilterRepository.updateCount(filterId, count, now);
+    }
+
+    /**
+     * Validates (400 on syntax errors or over-broad queries) and counts the query.
+     */
+    private void applyQuery(SavedFilterEntity filter, String query, OffsetDateTime now) {
+        filter.setQuery(query);
+        filter.setTimeRelative(ticketQueryPlanner.isTimeRelative(query));
+        filter.setMatchCount(count(query, filter.getOrgId(), filter.getUserId()));
+        filter.setCountedAt(now);
+    }
+
+    private long count(String query, UUID orgId, UUID userId) {
+        TicketQueryPlanner.Plan plan = ticketQueryPlanner.plan(query, orgId, userId);
+        Specification<TicketEntity> live = (root, q, cb) -> cb.and(
+                cb.equal(root.get("orgId"), orgId),
+                cb.isNull(root.get("deletedAt")));
+        return ticketRepository.count(live.and(plan.spec()));
+    }
+
+    private void requireUniqueName(UUID orgId, UUID userId, String name) {
+        if (savedFilterRepository.existsByOrgIdAndUserIdAndName(orgId, userId, name)) {
+            throw new ApiException(ErrorCode.BAD_REQUEST, "A saved filter with this name already exists",
+                    HttpStatus.BAD_REQUEST.value());
+        }
+    }
+
+    private SavedFilterEntity findFilter(UUID filterId) {
+        return savedFilterRepository.findByIdAndOrgIdAndUserId(filterId, getOrgId(), getUserId())
+                .orElseThrow(() -> new ApiException(ErrorCode.NOT_FOUND, "Saved filter not found",
+                        HttpStatus.NOT_FOUND.value()));
+    }
+
+    private SavedFilterResponse toResponse(SavedFilterEntity filter) {
+        return new SavedFilterResponse(
+                filter.getId(),
+                filter.getName(),
+                filter.getQuery(),
+                filter.getMatchCount(),
+                filter.getCountedAt(),
+                filter.getCreatedAt(),
+                filter.getUpdatedAt());
+    }
+
+    private UUID getOrgId() {
+        TenantContext context = TenantContextHolder.getRequired();
+        if (context.orgId() == null || context.orgId().isBlank()) {
+            throw new ApiException(ErrorCode.UNAUTHORIZED, "Missing org context", HttpStatus.UNAUTHORIZED.value());
+        }
+        return UUID.fromString(context.orgId());
+    }
+
+    private UUID getUserId() {
+        TenantContext context = TenantContextHolder.getRequired();
+        try {
+            return UUID.fromString(context.userId());
+        } catch (IllegalArgumentException | NullPointerException ex) {
+            throw new ApiException(ErrorCode.UNAUTHORIZED, "Missing user context", HttpStatus.UNAUTHORIZED.value());
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.jiralite.backend.service;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import org.slf4j.Logger;
@@ -16,6 +17,7 @@ import com.jiralite.backend.dto.ErrorCode;
 import com.jiralite.backend.dto.PresignDownloadResponse;
 import com.jiralite.backend.dto.PresignUploadRequest;
 import com.jiralite.backend.dto.PresignUploadResponse;
+import com.jiralite.backend.dto.TicketBundleResponse;
 import com.jiralite.backend.entity.AuditLogEntity;
 import com.jiralite.backend.entity.TicketAttachmentEntity;
 import com.jiralite.backend.entity.TicketEntity;
@@ -64,6 +66,36 @@ public class TicketAttachmentService {
                 .toList();
     }
 
+    /**
+     * Attachments with download URLs for every uploaded one, presigned in one
+     * pass (signing is local; no S3 round trip per attachment).
+     */
+    @Transactional(readOnly = true)
+    public List<TicketBundleResponse.Attachment> listAttachmentsWithDownloads(UUID ticketId) {
+        TicketEntity ticket = getTicket(ticketId);
+        return attachmentRepository.findAllByOrgIdAndTicketIdOrderByCreatedAtAsc(ticket.getOrgId(), ticket.getId())
+                .stream()
+                .map(attachment -> {
+                    S3PresignService.PresignResult presign = null;
+                    if (STATUS_UPLOADED.equals(attachment.getUploadStatus())
+                            && attachment.getS3Key() != null && !attachment.getS3Key().isBlank()) {
+                        presign = s3PresignService.presignDownload(attachment.getS3Key(), attachment.getFileName(),
+                                attachment.getContentType());
+                    }
+                    return new TicketBundleResponse.Attachment(
+                            attachment.getId(),
+                            attachment.getFileName(),
+                            attachment.getContentType(),
+                            attachment.getFileSize(),
+                            attachment.getUploadStatus(),
+                            attachment.getUploadedBy(),
+                            attachment.getCreatedAt(),
+                            presign == null ? null : presign.url().toString(),
+                            presign == null ? null : presign.expiresAt());
+                })
+                .toList();
+    }
+
     @Transactional
     @LogAudit(action = "ATTACHMENT_UPLOAD", entityType = "ATTACHMENT")
     public PresignUploadResponse presignUpload(UUID ticketId, PresignUploadRequest request) {
@@ -93,8 +125,7 @@ public class TicketAttachmentService {
                 presign.url().toString(),
                 presign.headersOrEmpty(),
                 presign.expiresAt());
-        notifyUploader(attachment.getUploadedBy(), "ATTACHMENT_CREATED",
-                "Attachment upload started for ticket " + ticket.getTicketKey());
+        notifyUploader(attachment.getUploadedBy(), "ATTACHMENT_CREATED", ticket);
         writeAudit("ATTACHMENT_CREATE", ticket, attachment.getId().toString(),
                 "Attachment created for ticket %s by %s".formatted(ticket.getTicketKey(), formatUser(attachment.getUploadedBy())));
         return response;
@@ -154,16 +185,16 @@ public class TicketAttachmentService {
         }
 
         attachmentRepository.delete(attachment);
-        notifyUploader(attachment.getUploadedBy(), "ATTACHMENT_DELETED",
-                "Attachment deleted on ticket " + getTicket(ticketId).getTicketKey());
+        notifyUploader(attachment.getUploadedBy(), "ATTACHMENT_DELETED", getTicket(ticketId));
         writeAudit("ATTACHMENT_DELETE", getTicket(ticketId),
                 attachment.getId().toString(),
                 "Attachment deleted on ticket " + getTicket(ticketId).getTicketKey());
     }
 
-    private void notifyUploader(UUID userId, String type, String content) {
+    private void notifyUploader(UUID userId, String type, TicketEntity ticket) {
         if (userId != null) {
-            notificationService.createNotification(userId, type, content);
+            notificationService.createNotification(userId, type, Map.of("ticket", ticket.getTicketKey()),
+                    ticket.getProjectId(), null);
         }
     }
 
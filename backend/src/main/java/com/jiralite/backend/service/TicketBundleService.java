@@ -0,0 +1,163 @@
+package com.jiralite.backend.service;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import com.jiralite.backend.dto.CommentResponse;
+import com.jiralite.backend.dto.ErrorCode;
+import com.jiralite.backend.dto.TicketBundleResponse;
+import com.jiralite.backend.dto.TicketResponse;
+import com.jiralite.backend.exception.ApiException;
+import com.jiralite.backend.security.tenant.TenantContext;
+import com.jiralite.backend.security.tenant.TenantContextHolder;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Builds the ticket view in one call. The ticket, its comments and its
+ * attachments (with download URLs) are loaded concurrently, then the users
+ * they reference are loaded with one query. Each branch runs in its own
+ * read-only transaction, so a bundle can hold up to three pooled connections
+ * at once. {@code app.tickets.bundle.threads} caps the branches running on the
+ * pool; when its queue is full a branch runs on the request thread instead, so
+ * under load the connections in use are bounded by pool plus request threads,
+ * not by the pool alone. If any branch fails or the deadline passes, the other
+ * branches are cancelled: queued ones never start and running ones are
+ * interrupted (which stops a wait for a connection, not a query in flight).
+ * Tenant context and MDC (traceId) are copied into each task.
+ */
+@Service
+public class TicketBundleService {
+
+    private final TicketService ticketService;
+    private final TicketCommentService commentService;
+    private final TicketAttachmentService attachmentService;
+    private final UserService userService;
+    private final Duration timeout;
+    private final ThreadPoolExecutor executor;
+
+    public TicketBundleService(
+            TicketService ticketService,
+            TicketCommentService commentService,
+            TicketAttachmentService attachmentService,
+            UserService userService,
+            @Value("${app.tickets.bundle.threads:16}") int threads,
+            @Value("${app.tickets.bundle.timeout:5s}") Duration timeout) {
+        this.ticketService = ticketService;
+        this.commentService = commentService;
+        this.attachmentService = attachmentService;
+        this.userService = userService;
+        this.timeout = timeout;
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(threads * 4), new CustomizableThreadFactory("ticket-bundle-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    public TicketBundleResponse getBundle(UUID ticketId) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        Future<TicketResponse> ticket = supply(() -> ticketService.getTicket(ticketId));
+        Future<List<CommentResponse>> comments = supply(() -> commentService.listComments(ticketId));
+        Future<List<TicketBundleResponse.Attachment>> attachments =
+                supply(() -> attachmentService.listAttachmentsWithDownloads(ticketId));
+
+        TicketResponse ticketResponse;
+        List<CommentResponse> commentResponses;
+        List<TicketBundleResponse.Attachment> attachmentResponses;
+        try {
+            ticketResponse = await(ticket, deadline);
+            commentResponses = await(comments, deadline);
+            attachmentResponses = await(attachments, deadline);
+        } catch (RuntimeException ex) {
+            // e.g. ticket not found: the other branches' work is of no use
+            ticket.cancel(true);
+            comments.cancel(true);
+            attachments.cancel(true);
+            throw ex;
+        }
+
+        Set<UUID> userIds = new LinkedHashSet<>();
+        userIds.add(ticketResponse.assigneeId());
+        userIds.add(ticketResponse.createdBy());
+        commentResponses.forEach(comment -> userIds.add(comment.authorId()));
+        attachmentResponses.forEach(attachment -> userIds.add(attachment.uploadedBy()));
+        userIds.remove(null);
+
+        return new TicketBundleResponse(ticketResponse, commentResponses, attachmentResponses,
+                userService.summaries(userIds));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Runs the task on the bundle pool with the caller's tenant context and
+     * MDC. The worker's previous state is restored afterwards, which also
+     * keeps the request thread intact when the pool runs the task inline.
+     */
+    private <T> Future<T> supply(Supplier<T> task) {
+        TenantContext tenant = TenantContextHolder.getRequired();
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        return executor.submit(() -> {
+            TenantContext previousTenant = TenantContextHolder.get().orElse(null);
+            Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+            TenantContextHolder.set(tenant);
+            setMdc(mdc);
+            try {
+                return task.get();
+            } finally {
+                if (previousTenant == null) {
+                    TenantContextHolder.clear();
+                } else {
+                    TenantContextHolder.set(previousTenant);
+                }
+                setMdc(previousMdc);
+            }
+        });
+    }
+
+    private static void setMdc(Map<String, String> context) {
+        if (context == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(context);
+        }
+    }
+
+    private static <T> T await(Future<T> future, long deadline) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (TimeoutException ex) {
+            throw new ApiException(ErrorCode.INTERNAL_ERROR, "Ticket bundle timed out",
+                    HttpStatus.SERVICE_UNAVAILABLE.value());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ApiException(ErrorCode.INTERNAL_ERROR, "Ticket bundle interrupted",
+                    HttpStatus.SERVICE_UNAVAILABLE.value());
+        }
+    }
+}
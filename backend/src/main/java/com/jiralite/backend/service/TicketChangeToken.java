@@ -0,0 +1,44 @@
+package com.jiralite.backend.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+import org.springframework.http.HttpStatus;
+
+import com.jiralite.backend.dto.ErrorCode;
+import com.jiralite.backend.exception.ApiException;
+
+/**
+ * Position in the ticket change feed: the (change_xid, id) of the last row
+ * delivered. {@link #watermark(String)} positions just before every row written
+ * by transaction {@code xid} or later. Encoded as URL-safe base64.
+ */
+record TicketChangeToken(String xid, UUID id) {
+
+    private static final UUID BEFORE_ANY = new UUID(0L, 0L);
+
+    static TicketChangeToken watermark(String xid) {
+        return new TicketChangeToken(xid, BEFORE_ANY);
+    }
+
+    static TicketChangeToken decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Malformed token");
+            }
+            // xid8 is an unsigned 64-bit counter; reject anything else before it reaches SQL.
+            Long.parseUnsignedLong(parts[0]);
+            return new TicketChangeToken(parts[0], UUID.fromString(parts[1]));
+        } catch (RuntimeException ex) {
+            throw new ApiException(ErrorCode.BAD_REQUEST, "Invalid change token", HttpStatus.BAD_REQUEST.value());
+        }
+    }
+
+    String encode() {
+        String raw = xid + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -2,6 +2,7 @@ package com.jiralite.backend.service;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import org.springframework.http.HttpStatus;
@@ -69,21 +70,21 @@ public class TicketCommentService {
         comment.setUpdatedAt(now);
 
         TicketCommentEntity saved = commentRepository.save(comment);
-        notifyAssignee(ticket, "COMMENT_CREATED", "New comment on " + ticket.getTicketKey());
+        notifyAssignee(ticket, "COMMENT_CREATED", Map.of("ticket", ticket.getTicketKey()));
         writeAudit("COMMENT_CREATE", ticket, saved.getId().toString(),
                 "Comment added to ticket " + ticket.getTicketKey());
         return toResponse(saved);
     }
 
-    private void notifyAssignee(TicketEntity ticket, String type, String content) {
+    private void notifyAssignee(TicketEntity ticket, String type, Map<String, String> params) {
         UUID assignee = ticket.getAssigneeId();
         UUID reporter = ticket.getCreatedBy();
         UUID author = parseUuidOrNull(getUserId());
         if (assignee != null) {
-            notificationService.createNotification(assignee, type, content);
+            notificationService.createNotification(assignee, type, params, ticket.getProjectId(), ticket.getId());
         }
         if (reporter != null && (assignee == null || !reporter.equals(assignee))) {
-            notificationService.createNotification(reporter, type, content);
+            notificationService.createNotification(reporter, type, params, ticket.getProjectId(), ticket.getId());
         }
     }
 
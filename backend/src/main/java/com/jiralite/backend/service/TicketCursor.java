@@ -0,0 +1,45 @@
+package com.jiralite.backend.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+
+import com.jiralite.backend.dto.ErrorCode;
+import com.jiralite.backend.dto.TicketResponse;
+import com.jiralite.backend.exception.ApiException;
+
+/**
+ * Opaque keyset cursor for ticket lists: sort direction + (createdAt, id) of the
+ * last row returned. Encoded as URL-safe base64 so clients treat it as a token.
+ */
+record TicketCursor(Sort.Direction direction, OffsetDateTime createdAt, UUID id) {
+
+    static TicketCursor of(TicketResponse ticket, Sort.Direction direction) {
+        return new TicketCursor(direction, ticket.createdAt(), ticket.id());
+    }
+
+    static TicketCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            return new TicketCursor(
+                    Sort.Direction.fromString(parts[0]),
+                    OffsetDateTime.parse(parts[1]),
+                    UUID.fromString(parts[2]));
+        } catch (RuntimeException ex) {
+            throw new ApiException(ErrorCode.BAD_REQUEST, "Invalid cursor", HttpStatus.BAD_REQUEST.value());
+        }
+    }
+
+    String encode() {
+        String raw = direction.name() + "|" + createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
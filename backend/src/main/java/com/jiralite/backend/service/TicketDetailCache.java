@@ -0,0 +1,184 @@
+package com.jiralite.backend.service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.jiralite.backend.dto.TicketResponse;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Bounded, TTL'd read-through cache for ticket detail, keyed by (orgId, ticketId)
+ * so one tenant can never be served another tenant's entry. Least recently used
+ * entries are dropped past max-size. Writers call {@link #evict(UUID, UUID)},
+ * which other nodes receive over {@link NotificationBus} once the write commits;
+ * changes that bypass the service (project cascades, purge) and evictions lost
+ * while a node's listener was down are bounded by the TTL, and a node clears
+ * its cache whenever that listener reconnects.
+ * Metrics: cache.gets{result=hit|miss}, cache.evictions, cache.size with tag
+ * cache=ticketDetail.
+ */
+@Component
+public class TicketDetailCache implements NotificationBus.EvictionListener {
+
+    private static final String CACHE_NAME = "ticketDetail";
+
+    private final NotificationBus bus;
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final int maxSize;
+    private final Map<Key, Entry> entries;
+    // Loads in flight per key; an eviction of the key drops its token, and a
+    // load whose token is gone raced with a write and is not cached.
+    private final Map<Key, Object> loading = new HashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public TicketDetailCache(
+            NotificationBus bus,
+            MeterRegistry meterRegistry,
+            @Value("${app.tickets.cache.enabled:true}") boolean enabled,
+            @Value("${app.tickets.cache.ttl:30s}") Duration ttl,
+            @Value("${app.tickets.cache.max-size:10000}") int maxSize) {
+        this.bus = bus;
+        this.enabled = enabled;
+        this.ttlNanos = ttl.toNanos();
+        this.maxSize = Math.max(1, maxSize);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                if (size() > TicketDetailCache.this.maxSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+
+        FunctionCounter.builder("cache.gets", hits, AtomicLong::get)
+                .tag("cache", CACHE_NAME).tag("result", "hit").register(meterRegistry);
+        FunctionCounter.builder("cache.gets", misses, AtomicLong::get)
+                .tag("cache", CACHE_NAME).tag("result", "miss").register(meterRegistry);
+        FunctionCounter.builder("cache.evictions", evictions, AtomicLong::get)
+                .tag("cache", CACHE_NAME).register(meterRegistry);
+        Gauge.builder("cache.size", this, TicketDetailCache::size)
+                .tag("cache", CACHE_NAME).register(meterRegistry);
+        if (enabled) {
+            bus.listenEvictions(this);
+        }
+    }
+
+    /**
+     * Cached value for the ticket, or the loader's result (which is then cached).
+     * Loader exceptions propagate and nothing is cached.
+     */
+    public TicketResponse get(UUID orgId, UUID ticketId, Supplier<TicketResponse> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        Key key = new Key(orgId, ticketId);
+        long now = System.nanoTime();
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && now - entry.expiresAt < 0) {
+                hits.incrementAndGet();
+                return entry.value;
+            }
+            if (entry != null) {
+                entries.remove(key);
+                evictions.incrementAndGet();
+            }
+        }
+        misses.incrementAndGet();
+        Object token = new Object();
+        synchronized (entries) {
+            loading.put(key, token);
+        }
+        TicketResponse value;
+        try {
+            value = loader.get();
+        } catch (RuntimeException ex) {
+            synchronized (entries) {
+                loading.remove(key, token);
+            }
+            throw ex;
+        }
+        synchronized (entries) {
+            if (loading.remove(key, token)) {
+                entries.put(key, new Entry(value, now + ttlNanos));
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Drop the entry now and again after the surrounding transaction commits, so a
+     * concurrent reader cannot re-populate it with the pre-commit row; other nodes
+     * drop theirs on commit.
+     */
+    public void evict(UUID orgId, UUID ticketId) {
+        if (!enabled) {
+            return;
+        }
+        Key key = new Key(orgId, ticketId);
+        remove(key);
+        bus.publishEviction(orgId, ticketId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(key);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void evicted(UUID orgId, UUID ticketId) {
+        remove(new Key(orgId, ticketId));
+    }
+
+    @Override
+    public void missed() {
+        synchronized (entries) {
+            loading.clear();
+            evictions.addAndGet(entries.size());
+            entries.clear();
+        }
+    }
+
+    private void remove(Key key) {
+        synchronized (entries) {
+            loading.remove(key);
+            if (entries.remove(key) != null) {
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    private int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private record Key(UUID orgId, UUID ticketId) {
+    }
+
+    private record Entry(TicketResponse value, long expiresAt) {
+    }
+}
@@ -0,0 +1,168 @@
+package com.jiralite.backend.service;
+
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Validates import records and maps them to rows for the COPY streams. Every
+ * record has a {@code type} (ticket, comment or attachment; ticket when
+ * omitted). Comments and attachments point at a ticket earlier in the same
+ * file through its {@code ref}. Only the ref-to-id map is kept in memory.
+ * <p>
+ * Attachments are imported as metadata only: an {@code s3Key} in the file is
+ * ignored, since it could name another org's objects (or another
+ * attachment's), which download and delete would then act on.
+ */
+final class TicketImportMapper {
+
+    record TicketRow(UUID id, String title, String description, String status, String priority,
+            UUID assigneeId, OffsetDateTime createdAt) {
+    }
+
+    record CommentRow(UUID id, UUID ticketId, UUID authorId, String body, OffsetDateTime createdAt) {
+    }
+
+    record AttachmentRow(UUID id, UUID ticketId, UUID uploadedBy, String fileName, String contentType,
+            long fileSize, OffsetDateTime createdAt) {
+    }
+
+    /**
+     * A record that cannot be imported; it is counted and skipped.
+     */
+    static final class RejectedRowException extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        RejectedRowException(String message) {
+            super(message, null, false, false);
+        }
+    }
+
+    private final Set<UUID> activeMembers;
+    private final UUID importedBy;
+    private final OffsetDateTime now;
+    private final Map<String, UUID> ticketIdsByRef = new HashMap<>();
+
+    TicketImportMapper(Set<UUID> activeMembers, UUID importedBy, OffsetDateTime now) {
+        this.activeMembers = activeMembers;
+        this.importedBy = importedBy;
+        this.now = now;
+    }
+
+    /**
+     * Record type: "ticket", "comment" or "attachment".
+     */
+    static String type(Map<String, String> fields) throws RejectedRowException {
+        String type = fields.get("type");
+        if (type == null) {
+            return "ticket";
+        }
+        type = type.trim().toLowerCase(Locale.ROOT);
+        if (!type.equals("ticket") && !type.equals("comment") && !type.equals("attachment")) {
+            throw new RejectedRowException("Unknown type '" + fields.get("type") + "'");
+        }
+        return type;
+    }
+
+    TicketRow ticket(Map<String, String> fields) throws RejectedRowException {
+        String title = required(fields, "title").trim();
+        String priority = required(fields, "priority").trim().toUpperCase(Locale.ROOT);
+        if (!TicketService.ALLOWED_PRIORITIES.contains(priority)) {
+            throw new RejectedRowException("Invalid priority '" + fields.get("priority") + "'");
+        }
+        String status = fields.get("status") == null ? "OPEN" : fields.get("status").trim().toUpperCase(Locale.ROOT);
+        if (!TicketService.ALLOWED_STATUSES.contains(status)) {
+            throw new RejectedRowException("Invalid status '" + fields.get("status") + "'");
+        }
+        UUID assigneeId = member(fields, "assigneeid");
+        OffsetDateTime createdAt = timestamp(fields);
+
+        UUID id = UUID.randomUUID();
+        String ref = fields.get("ref");
+        if (ref != null && ticketIdsByRef.putIfAbsent(ref, id) != null) {
+            throw new RejectedRowException("Duplicate ref '" + ref + "'");
+        }
+        return new TicketRow(id, title, fields.get("description"), status, priority, assigneeId, createdAt);
+    }
+
+    CommentRow comment(Map<String, String> fields) throws RejectedRowException {
+        UUID ticketId = ticketRef(fields);
+        String body = required(fields, "body");
+        UUID authorId = member(fields, "authorid");
+        return new CommentRow(UUID.randomUUID(), ticketId, authorId == null ? importedBy : authorId, body,
+                timestamp(fields));
+    }
+
+    AttachmentRow attachment(Map<String, String> fields) throws RejectedRowException {
+        UUID ticketId = ticketRef(fields);
+        String fileName = required(fields, "filename");
+        String contentType = required(fields, "contenttype");
+        long fileSize = 0;
+        if (fields.get("filesize") != null) {
+            try {
+                fileSize = Long.parseLong(fields.get("filesize").trim());
+            } catch (NumberFormatException ex) {
+                fileSize = -1;
+            }
+            if (fileSize < 0) {
+                throw new RejectedRowException("Invalid fileSize '" + fields.get("filesize") + "'");
+            }
+        }
+        UUID uploadedBy = member(fields, "uploadedby");
+        return new AttachmentRow(UUID.randomUUID(), ticketId, uploadedBy == null ? importedBy : uploadedBy,
+                fileName, contentType, fileSize, timestamp(fields));
+    }
+
+    OffsetDateTime now() {
+        return now;
+    }
+
+    private UUID ticketRef(Map<String, String> fields) throws RejectedRowException {
+        String ref = required(fields, "ticketref");
+        UUID ticketId = ticketIdsByRef.get(ref);
+        if (ticketId == null) {
+            throw new RejectedRowException("Unknown ticketRef '" + ref + "'");
+        }
+        return ticketId;
+    }
+
+    private UUID member(Map<String, String> fields, String name) throws RejectedRowException {
+        String value = fields.get(name);
+        if (value == null) {
+            return null;
+        }
+        try {
+            UUID userId = UUID.fromString(value.trim());
+            if (activeMembers.contains(userId)) {
+                return userId;
+            }
+        } catch (IllegalArgumentException ignored) {
+            // reported below
+        }
+        throw new RejectedRowException(name + " '" + value + "' is not an active member of the org");
+    }
+
+    private OffsetDateTime timestamp(Map<String, String> fields) throws RejectedRowException {
+        String value = fields.get("createdat");
+        if (value == null) {
+            return now;
+        }
+        try {
+            return OffsetDateTime.parse(value.trim());
+        } catch (DateTimeParseException ex) {
+            throw new RejectedRowException("Invalid createdAt '" + value + "'");
+        }
+    }
+
+    private static String required(Map<String, String> fields, String name) throws RejectedRowException {
+        String value = fields.get(name);
+        if (value == null || value.isBlank()) {
+            throw new RejectedRowException("Missing " + name);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,168 @@
+package com.jiralite.backend.service;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Reads an import file one record at a time. CSV files start with a header
+ * row (RFC 4180 quoting, fields may span lines); NDJSON files hold one JSON
+ * object per line. Field names are matched case-insensitively. Malformed
+ * records come back with an error instead of failing the whole file.
+ */
+final class TicketImportReader implements Closeable {
+
+    /**
+     * One input record. {@code line} is the physical line it starts on.
+     */
+    record Row(long line, Map<String, String> fields, String error) {
+    }
+
+    private final BufferedReader in;
+    private final TicketExportService.Format format;
+    private final ObjectMapper objectMapper;
+    private List<String> header;
+    private long line;
+
+    TicketImportReader(Reader in, TicketExportService.Format format, ObjectMapper objectMapper) {
+        this.in = in instanceof BufferedReader buffered ? buffered : new BufferedReader(in);
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Next record, or null at end of input.
+     */
+    Row next() throws IOException {
+        return format == TicketExportService.Format.CSV ? nextCsv() : nextJson();
+    }
+
+    private Row nextJson() throws IOException {
+        String text;
+        do {
+            text = in.readLine();
+            if (text == null) {
+                return null;
+            }
+            line++;
+        } while (text.isBlank());
+        try {
+            JsonNode node = objectMapper.readTree(stripBom(text));
+            if (node == null || !node.isObject()) {
+                return new Row(line, Map.of(), "Expected a JSON object");
+            }
+            Map<String, String> fields = new HashMap<>();
+            for (Map.Entry<String, JsonNode> field : node.properties()) {
+                JsonNode value = field.getValue();
+                fields.put(field.getKey().toLowerCase(Locale.ROOT), value.isNull() ? null : value.asText());
+            }
+            return new Row(line, fields, null);
+        } catch (JsonProcessingException ex) {
+            return new Row(line, Map.of(), "Invalid JSON");
+        }
+    }
+
+    private Row nextCsv() throws IOException {
+        if (header == null) {
+            List<String> names = readRecord();
+            if (names == null) {
+                return null;
+            }
+            header = new ArrayList<>(names.size());
+            for (String name : names) {
+                header.add(stripBom(name).trim().toLowerCase(Locale.ROOT));
+            }
+        }
+        List<String> values;
+        long start;
+        do {
+            start = line + 1;
+            values = readRecord();
+            if (values == null) {
+                return null;
+            }
+        } while (values.size() == 1 && values.get(0).isEmpty());
+        if (values.size() != header.size()) {
+            return new Row(start, Map.of(), "Expected %d columns but found %d".formatted(header.size(), values.size()));
+        }
+        Map<String, String> fields = new HashMap<>();
+        for (int i = 0; i < values.size(); i++) {
+            String value = values.get(i);
+            fields.put(header.get(i), value.isEmpty() ? null : value);
+        }
+        return new Row(start, fields, null);
+    }
+
+    /**
+     * Parse one CSV record, consuming as many physical lines as its quoted
+     * fields need. Returns null at end of input.
+     */
+    private List<String> readRecord() throws IOException {
+        String text = in.readLine();
+        if (text == null) {
+            return null;
+        }
+        line++;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int i = 0;
+        while (true) {
+            if (i == text.length()) {
+                if (!quoted) {
+                    break;
+                }
+                String continuation = in.readLine();
+                if (continuation == null) {
+                    break;
+                }
+                line++;
+                field.append('\n');
+                text = continuation;
+                i = 0;
+                continue;
+            }
+            char c = text.charAt(i++);
+            if (quoted) {
+                if (c == '"') {
+                    if (i < text.length() && text.charAt(i) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static String stripBom(String text) {
+        return !text.isEmpty() && text.charAt(0) == '\uFEFF' ? text.substring(1) : text;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
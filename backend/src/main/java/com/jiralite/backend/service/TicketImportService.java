@@ -0,0 +1,160 @@
+package com.jiralite.backend.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.jiralite.backend.dto.ErrorCode;
+import com.jiralite.backend.dto.TicketImportJobResponse;
+import com.jiralite.backend.entity.TicketImportJobEntity;
+import com.jiralite.backend.exception.ApiException;
+import com.jiralite.backend.repository.ProjectRepository;
+import com.jiralite.backend.repository.TicketImportJobRepository;
+import com.jiralite.backend.security.tenant.TenantContext;
+import com.jiralite.backend.security.tenant.TenantContextHolder;
+
+/**
+ * Accepts ticket import uploads for the current org and reports job status.
+ * The upload is moved to a temp file and handed to {@link TicketImportWorker},
+ * so the request returns as soon as the job is queued.
+ */
+@Service
+public class TicketImportService {
+
+    private final TicketImportJobRepository jobRepository;
+    private final ProjectRepository projectRepository;
+    private final TicketImportWorker importWorker;
+
+    public TicketImportService(
+            TicketImportJobRepository jobRepository,
+            ProjectRepository projectRepository,
+            TicketImportWorker importWorker) {
+        this.jobRepository = jobRepository;
+        this.projectRepository = projectRepository;
+        this.importWorker = importWorker;
+    }
+
+    public TicketImportJobResponse startImport(UUID projectId, MultipartFile file, String format) {
+        UUID orgId = getOrgId();
+        if (file == null || file.isEmpty()) {
+            throw new ApiException(ErrorCode.BAD_REQUEST, "Import file is empty", HttpStatus.BAD_REQUEST.value());
+        }
+        TicketExportService.Format importFormat = parseFormat(format, file.getOriginalFilename());
+        projectRepository.findByIdAndOrgId(projectId, orgId)
+                .filter(project -> project.getDeletedAt() == null)
+                .orElseThrow(() -> new ApiException(ErrorCode.NOT_FOUND, "Project not found",
+                        HttpStatus.NOT_FOUND.value()));
+
+        Path upload;
+        try {
+            upload = Files.createTempFile("ticket-import-", "." + importFormat.extension());
+            file.transferTo(upload);
+        } catch (IOException ex) {
+            throw new ApiException(ErrorCode.INTERNAL_ERROR, "Could not store import file",
+                    HttpStatus.INTERNAL_SERVER_ERROR.value());
+        }
+
+        OffsetDateTime now = OffsetDateTime.now();
+        TicketImportJobEntity job = new TicketImportJobEntity();
+        job.setId(UUID.randomUUID());
+        job.setOrgId(orgId);
+        job.setProjectId(projectId);
+        job.setCreatedBy(parseUuidOrNull(getUserId()));
+        job.setFormat(importFormat.name());
+        job.setFileName(file.getOriginalFilename());
+        job.setStatus("PENDING");
+        job.setCreatedAt(now);
+        job.setUpdatedAt(now);
+        jobRepository.save(job);
+
+        importWorker.run(job.getId(), upload);
+        return toResponse(job);
+    }
+
+    public TicketImportJobResponse getJob(UUID jobId) {
+        return jobRepository.findByIdAndOrgId(jobId, getOrgId())
+                .map(this::toResponse)
+                .orElseThrow(() -> new ApiException(ErrorCode.NOT_FOUND, "Import job not found",
+                        HttpStatus.NOT_FOUND.value()));
+    }
+
+    /**
+     * Fails PENDING or RUNNING jobs that have not recorded progress since
+     * {@code cutoff}: their worker is gone, so they would otherwise never
+     * finish. Chunks they committed stay imported.
+     */
+    @Transactional
+    public int failStaleJobs(OffsetDateTime cutoff) {
+        return jobRepository.failStale(cutoff, OffsetDateTime.now(),
+                "Import interrupted: no progress since " + cutoff);
+    }
+
+    /**
+     * Explicit {@code format} wins; otherwise the file extension decides.
+     */
+    static TicketExportService.Format parseFormat(String format, String fileName) {
+        String value = format;
+        if (value == null || value.isBlank()) {
+            String name = fileName == null ? "" : fileName.toLowerCase(Locale.ROOT);
+            value = name.endsWith(".ndjson") || name.endsWith(".jsonl") ? "ndjson" : "csv";
+        }
+        try {
+            return TicketExportService.Format.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new ApiException(ErrorCode.BAD_REQUEST, "Invalid import format", HttpStatus.BAD_REQUEST.value());
+        }
+    }
+
+    private TicketImportJobResponse toResponse(TicketImportJobEntity job) {
+        List<String> errors = job.getErrors() == null ? List.of() : Arrays.asList(job.getErrors().split("\n"));
+        return new TicketImportJobResponse(
+                job.getId(),
+                job.getProjectId(),
+                job.getFormat(),
+                job.getFileName(),
+                job.getStatus(),
+                job.getRowsRead(),
+                job.getRowsRejected(),
+                job.getTicketsImported(),
+                job.getCommentsImported(),
+                job.getAttachmentsImported(),
+                errors,
+                job.getCreatedAt(),
+                job.getStartedAt(),
+                job.getFinishedAt());
+    }
+
+    private UUID getOrgId() {
+        TenantContext context = TenantContextHolder.getRequired();
+        if (context.orgId() == null || context.orgId().isBlank()) {
+            throw new ApiException(ErrorCode.UNAUTHORIZED, "Missing org context", HttpStatus.UNAUTHORIZED.value());
+        }
+        return UUID.fromString(context.orgId());
+    }
+
+    private String getUserId() {
+        TenantContext context = TenantContextHolder.getRequired();
+        return context.userId();
+    }
+
+    private UUID parseUuidOrNull(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,405 @@
+package com.jiralite.backend.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jiralite.backend.entity.AuditLogEntity;
+import com.jiralite.backend.entity.ProjectEntity;
+import com.jiralite.backend.entity.TicketImportJobEntity;
+import com.jiralite.backend.entity.TicketPriority;
+import com.jiralite.backend.entity.TicketStatus;
+import com.jiralite.backend.repository.AuditLogRepository;
+import com.jiralite.backend.repository.OrgMembershipRepository;
+import com.jiralite.backend.repository.ProjectRepository;
+import com.jiralite.backend.repository.TicketImportJobRepository;
+
+/**
+ * Runs ticket import jobs in the background. The file is read once: tickets
+ * are streamed straight into {@code COPY tickets}, while comment and
+ * attachment rows are staged in temp files and copied after the tickets they
+ * reference. Each COPY commits every {@value #KEY_BLOCK} rows, so a long
+ * import does not hold back the ticket change feed (see
+ * {@link TicketService#changesSince}) or vacuum; a failed job keeps the chunks
+ * committed before the failure and reports how far it got. Each ticket chunk
+ * reserves its keys from the project counter; unused numbers in the last
+ * block are skipped, as with {@link TicketKeyAllocator}. Imported attachments have no
+ * stored object: they get no S3 key and upload_status
+ * {@value #IMPORTED_ATTACHMENT_STATUS}, so they can't be downloaded.
+ */
+@Component
+public class TicketImportWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(TicketImportWorker.class);
+
+    static final int KEY_BLOCK = 1000;
+    static final String IMPORTED_ATTACHMENT_STATUS = "FAILED";
+    private static final int PROGRESS_INTERVAL = 5000;
+    private static final int MAX_REPORTED_ERRORS = 50;
+    private static final int COPY_BUFFER = 64 * 1024;
+
+    private static final String COPY_TICKETS = "COPY tickets (id, org_id, project_id, ticket_key, title, description, "
+            + "status_rank, priority_rank, created_by, assignee_id, created_at, updated_at) "
+            + "FROM STDIN WITH (FORMAT csv)";
+    private static final String COPY_COMMENTS = "COPY ticket_comments (id, org_id, ticket_id, author_id, body, "
+            + "created_at, updated_at) FROM STDIN WITH (FORMAT csv)";
+    private static final String COPY_ATTACHMENTS = "COPY ticket_attachments (id, org_id, ticket_id, uploaded_by, "
+            + "file_name, content_type, file_size, s3_key, upload_status, created_at, updated_at) "
+            + "FROM STDIN WITH (FORMAT csv)";
+
+    private final TicketImportJobRepository jobRepository;
+    private final ProjectRepository projectRepository;
+    private final OrgMembershipRepository membershipRepository;
+    private final AuditLogRepository auditLogRepository;
+    private final TicketKeyAllocator ticketKeyAllocator;
+    private final DataSource dataSource;
+    private final ObjectMapper objectMapper;
+
+    public TicketImportWorker(
+            TicketImportJobRepository jobRepository,
+            ProjectRepository projectRepository,
+            OrgMembershipRepository membershipRepository,
+            AuditLogRepository auditLogRepository,
+            TicketKeyAllocator ticketKeyAllocator,
+            DataSource dataSource,
+            ObjectMapper objectMapper) {
+        this.jobRepository = jobRepository;
+        this.projectRepository = projectRepository;
+        this.membershipRepository = membershipRepository;
+        this.auditLogRepository = auditLogRepository;
+        this.ticketKeyAllocator = ticketKeyAllocator;
+        this.dataSource = dataSource;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Load {@code file} for the job, then delete it. Progress and the outcome
+     * are written to the job row; nothing is thrown to the caller.
+     */
+    @Async
+    public void run(UUID jobId, Path file) {
+        TicketImportJobEntity job = jobRepository.findById(jobId).orElse(null);
+        if (job == null || !"PENDING".equals(job.getStatus())) {
+            // Unknown, or already failed by the stale-job sweep while queued
+            deleteQuietly(file);
+            return;
+        }
+        List<String> errors = new ArrayList<>();
+        job.setStatus("RUNNING");
+        job.setStartedAt(OffsetDateTime.now());
+        job.setUpdatedAt(job.getStartedAt());
+        jobRepository.save(job);
+        try {
+            load(job, file, errors);
+            job.setStatus("COMPLETED");
+        } catch (Exception ex) {
+            log.error("Ticket import {} failed", jobId, ex);
+            job.setStatus("FAILED");
+            errors.add(0, "Import failed after %d rows read (%d tickets, %d comments and %d attachments committed): %s"
+                    .formatted(job.getRowsRead(), job.getTicketsImported(), job.getCommentsImported(),
+                            job.getAttachmentsImported(), ex.getMessage()));
+        } finally {
+            deleteQuietly(file);
+        }
+        job.setErrors(errors.isEmpty() ? null : String.join("\n", errors));
+        job.setFinishedAt(OffsetDateTime.now());
+        job.setUpdatedAt(job.getFinishedAt());
+        jobRepository.save(job);
+        writeSummaryAudit(job);
+    }
+
+    private void load(TicketImportJobEntity job, Path file, List<String> errors) throws IOException, SQLException {
+        UUID orgId = job.getOrgId();
+        ProjectEntity project = projectRepository.findByIdAndOrgId(job.getProjectId(), orgId)
+                .orElseThrow(() -> new IllegalStateException("Project not found"));
+        Set<UUID> activeMembers = membershipRepository.findAllByIdOrgId(orgId).stream()
+                .filter(m -> !"DISABLED".equalsIgnoreCase(m.getStatus()))
+                .map(m -> m.getId().getUserId())
+                .collect(Collectors.toSet());
+        TicketImportMapper mapper = new TicketImportMapper(activeMembers, job.getCreatedBy(), OffsetDateTime.now());
+        TicketExportService.Format format = TicketExportService.Format.valueOf(job.getFormat());
+
+        StagedRows comments = new StagedRows("ticket-import-comments-");
+        StagedRows attachments = new StagedRows("ticket-import-attachments-");
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                CopyManager copy = connection.unwrap(PGConnection.class).getCopyAPI();
+                try (TicketImportReader reader = new TicketImportReader(
+                        Files.newBufferedReader(file, StandardCharsets.UTF_8), format, objectMapper);
+                        TicketChunks tickets = new TicketChunks(connection, copy, job)) {
+                    TicketImportReader.Row row;
+                    while ((row = reader.next()) != null) {
+                        job.setRowsRead(job.getRowsRead() + 1);
+                        try {
+                            if (row.error() != null) {
+                                throw new TicketImportMapper.RejectedRowException(row.error());
+                            }
+                            switch (TicketImportMapper.type(row.fields())) {
+                                case "comment" -> {
+                                    writeComment(comments.writer(), orgId, mapper.comment(row.fields()), mapper);
+                                    comments.written();
+                                }
+                                case "attachment" -> {
+                                    writeAttachment(attachments.writer(), orgId, mapper.attachment(row.fields()),
+                                            mapper.now());
+                                    attachments.written();
+                                }
+                                default -> {
+                                    TicketImportMapper.TicketRow ticket = mapper.ticket(row.fields());
+                                    Writer out = tickets.writer();
+                                    writeTicket(out, orgId, project, tickets.nextKey(), ticket,
+                                            job.getCreatedBy(), mapper);
+                                    tickets.written();
+                                }
+                            }
+                        } catch (TicketImportMapper.RejectedRowException ex) {
+                            job.setRowsRejected(job.getRowsRejected() + 1);
+                            if (errors.size() < MAX_REPORTED_ERRORS) {
+                                errors.add("Line " + row.line() + ": " + ex.getMessage());
+                            }
+                        }
+                        if (job.getRowsRead() % PROGRESS_INTERVAL == 0) {
+                            job.setUpdatedAt(OffsetDateTime.now());
+                            jobRepository.save(job);
+                        }
+                    }
+                    tickets.commit();
+                }
+                for (Path chunk : comments.close()) {
+                    try (Reader in = Files.newBufferedReader(chunk, StandardCharsets.UTF_8)) {
+                        long rows = copy.copyIn(COPY_COMMENTS, in);
+                        connection.commit();
+                        job.setCommentsImported(job.getCommentsImported() + rows);
+                    }
+                    saveProgress(job);
+                }
+                for (Path chunk : attachments.close()) {
+                    try (Reader in = Files.newBufferedReader(chunk, StandardCharsets.UTF_8)) {
+                        long rows = copy.copyIn(COPY_ATTACHMENTS, in);
+                        connection.commit();
+                        job.setAttachmentsImported(job.getAttachmentsImported() + rows);
+                    }
+                    saveProgress(job);
+                }
+            } catch (IOException | SQLException | RuntimeException ex) {
+                connection.rollback();
+                throw ex;
+            }
+        } finally {
+            comments.delete();
+            attachments.delete();
+        }
+    }
+
+    private void saveProgress(TicketImportJobEntity job) {
+        job.setUpdatedAt(OffsetDateTime.now());
+        jobRepository.save(job);
+    }
+
+    private void writeTicket(Writer out, UUID orgId, ProjectEntity project, long number,
+            TicketImportMapper.TicketRow row, UUID createdBy, TicketImportMapper mapper) throws IOException {
+        writeRecord(out, row.id(), orgId, project.getId(), project.getProjectKey() + "-" + number, row.title(),
+                row.description(), TicketStatus.valueOf(row.status()).rank(),
+                TicketPriority.valueOf(row.priority()).rank(), createdBy, row.assigneeId(), row.createdAt(),
+                mapper.now());
+    }
+
+    private void writeComment(Writer out, UUID orgId, TicketImportMapper.CommentRow row, TicketImportMapper mapper)
+            throws IOException {
+        writeRecord(out, row.id(), orgId, row.ticketId(), row.authorId(), row.body(), row.createdAt(), mapper.now());
+    }
+
+    static void writeAttachment(Writer out, UUID orgId, TicketImportMapper.AttachmentRow row, OffsetDateTime now)
+            throws IOException {
+        writeRecord(out, row.id(), orgId, row.ticketId(), row.uploadedBy(), row.fileName(), row.contentType(),
+                row.fileSize(), null, IMPORTED_ATTACHMENT_STATUS, row.createdAt(), now);
+    }
+
+    /**
+     * One COPY CSV record. Values are always quoted so that an empty string
+     * stays distinct from NULL (an unquoted empty field).
+     */
+    static void writeRecord(Writer out, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            if (values[i] != null) {
+                out.write('"');
+                out.write(values[i].toString().replace("\"", "\"\""));
+                out.write('"');
+            }
+        }
+        out.write('\n');
+    }
+
+    private void writeSummaryAudit(TicketImportJobEntity job) {
+        try {
+            AuditLogEntity entry = new AuditLogEntity();
+            entry.setId(UUID.randomUUID());
+            entry.setTenantId(job.getOrgId());
+            entry.setActorUserId(job.getCreatedBy());
+            entry.setAction("TICKET_IMPORT");
+            entry.setEntityType("IMPORT_JOB");
+            entry.setEntityId(job.getId().toString());
+            entry.setDetails("Import %s %s: %d rows read, %d rejected, %d tickets, %d comments, %d attachments"
+                    .formatted(job.getFileName() == null ? job.getId() : job.getFileName(),
+                            job.getStatus().toLowerCase(Locale.ROOT), job.getRowsRead(), job.getRowsRejected(),
+                            job.getTicketsImported(), job.getCommentsImported(), job.getAttachmentsImported()));
+            entry.setCreatedAt(OffsetDateTime.now());
+            auditLogRepository.save(entry);
+        } catch (Exception ex) {
+            log.warn("Failed to write audit for ticket import {}", job.getId(), ex);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            log.warn("Could not delete import temp file {}", file, ex);
+        }
+    }
+
+    /**
+     * Streams ticket rows into {@code COPY tickets}, ending the COPY and
+     * committing every {@value #KEY_BLOCK} rows so the transaction never stays
+     * open long enough to hold back the change feed or vacuum. Each chunk first
+     * reserves its {@value #KEY_BLOCK} ticket numbers on the same connection,
+     * so an import never holds more than one pooled connection.
+     */
+    private final class TicketChunks implements AutoCloseable {
+        private final Connection connection;
+        private final CopyManager copy;
+        private final TicketImportJobEntity job;
+        private PGCopyOutputStream stream;
+        private Writer out;
+        private int rows;
+        private long nextKey;
+
+        private TicketChunks(Connection connection, CopyManager copy, TicketImportJobEntity job) {
+            this.connection = connection;
+            this.copy = copy;
+            this.job = job;
+        }
+
+        private Writer writer() throws SQLException {
+            if (out == null) {
+                nextKey = ticketKeyAllocator.reserve(connection, job.getOrgId(), job.getProjectId(), KEY_BLOCK);
+                stream = new PGCopyOutputStream(copy.copyIn(COPY_TICKETS), COPY_BUFFER);
+                out = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8), COPY_BUFFER);
+            }
+            return out;
+        }
+
+        private long nextKey() {
+            return nextKey++;
+        }
+
+        private void written() throws IOException, SQLException {
+            if (++rows == KEY_BLOCK) {
+                commit();
+            }
+        }
+
+        private void commit() throws IOException, SQLException {
+            if (out == null) {
+                return;
+            }
+            out.flush();
+            long copied = stream.endCopy();
+            connection.commit();
+            out = null;
+            rows = 0;
+            job.setTicketsImported(job.getTicketsImported() + copied);
+            saveProgress(job);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (out != null) {
+                // Abandoned chunk: cancel the COPY so the rollback discards it
+                try {
+                    stream.cancelCopy();
+                } catch (SQLException ex) {
+                    throw new IOException(ex);
+                }
+            }
+        }
+    }
+
+    /**
+     * Comment or attachment rows staged in temp files of up to
+     * {@value #KEY_BLOCK} rows each, copied after the tickets they reference
+     * with a commit per file.
+     */
+    private static final class StagedRows {
+        private final String prefix;
+        private final List<Path> files = new ArrayList<>();
+        private Writer out;
+        private int rows;
+
+        private StagedRows(String prefix) {
+            this.prefix = prefix;
+        }
+
+        private Writer writer() throws IOException {
+            if (out == null) {
+                Path file = Files.createTempFile(prefix, ".csv");
+                files.add(file);
+                out = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+            }
+            return out;
+        }
+
+        private void written() throws IOException {
+            if (++rows == KEY_BLOCK) {
+                close();
+            }
+        }
+
+        private List<Path> close() throws IOException {
+            if (out != null) {
+                out.close();
+                out = null;
+                rows = 0;
+            }
+            return files;
+        }
+
+        private void delete() {
+            try {
+                close();
+            } catch (IOException ex) {
+                log.warn("Could not close import temp file", ex);
+            }
+            files.forEach(TicketImportWorker::deleteQuietly);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.jiralite.backend.service;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jiralite.backend.dto.ErrorCode;
+import com.jiralite.backend.exception.ApiException;
+import com.jiralite.backend.repository.ProjectRepository;
+
+/**
+ * Allocates per-project ticket numbers from projects.next_ticket_number.
+ * Numbers are reserved from the database in blocks inside a short REQUIRES_NEW
+ * transaction (the row lock is held only for the increment) and then handed out
+ * from memory. Numbers left in a block when the node stops are skipped, so keys
+ * can have gaps but are never reused.
+ * <p>
+ * The REQUIRES_NEW transaction takes its own pooled connection, so callers
+ * must not hold one: a thread waiting for a second connection while keeping
+ * its first can starve the pool and deadlock under load. Call before opening
+ * a transaction; a JDBC caller that already holds a connection (the import
+ * worker) uses {@link #reserve(Connection, UUID, UUID, int)} instead.
+ */
+@Component
+public class TicketKeyAllocator {
+
+    private static final String ADVANCE_SQL = "UPDATE projects SET next_ticket_number = next_ticket_number + ? "
+            + "WHERE id = ? AND org_id = ? RETURNING next_ticket_number";
+
+    private final ProjectRepository projectRepository;
+    private final TransactionTemplate requiresNew;
+    private final int blockSize;
+    private final Map<UUID, KeyBlock> blocks = new ConcurrentHashMap<>();
+
+    public TicketKeyAllocator(
+            ProjectRepository projectRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.tickets.key-block-size:20}") int blockSize) {
+        this.projectRepository = projectRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.blockSize = Math.max(1, blockSize);
+    }
+
+    /**
+     * Next ticket number for the project, served from this node's current block.
+     */
+    public long next(UUID orgId, UUID projectId) {
+        KeyBlock block = blocks.computeIfAbsent(projectId, id -> new KeyBlock());
+        synchronized (block) {
+            if (block.next >= block.end) {
+                block.next = reserve(orgId, projectId, blockSize);
+                block.end = block.next + blockSize;
+            }
+            return block.next++;
+        }
+    }
+
+    /**
+     * Reserve {@code count} consecutive numbers directly from the database,
+     * bypassing the per-node block. Returns the first reserved number.
+     */
+    public long reserve(UUID orgId, UUID projectId, int count) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Ticket numbers must be reserved before a transaction opens");
+        }
+        Long end = requiresNew.execute(status -> {
+            int updated = projectRepository.advanceNextTicketNumber(orgId, projectId, count);
+            if (updated == 0) {
+                throw new ApiException(ErrorCode.NOT_FOUND, "Project not found", HttpStatus.NOT_FOUND.value());
+            }
+            return projectRepository.findNextTicketNumber(projectId);
+        });
+        return end - count;
+    }
+
+    /**
+     * Reserve {@code count} numbers on a connection the caller holds (auto-commit
+     * off, no open work) and commit, so the project row lock is released at once.
+     */
+    public long reserve(Connection connection, UUID orgId, UUID projectId, int count) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(ADVANCE_SQL)) {
+            statement.setLong(1, count);
+            statement.setObject(2, projectId);
+            statement.setObject(3, orgId);
+            try (ResultSet result = statement.executeQuery()) {
+                if (!result.next()) {
+                    connection.rollback();
+                    throw new ApiException(ErrorCode.NOT_FOUND, "Project not found", HttpStatus.NOT_FOUND.value());
+                }
+                long end = result.getLong(1);
+                connection.commit();
+                return end - count;
+            }
+        }
+    }
+
+    private static final class KeyBlock {
+        private long next;
+        private long end;
+    }
+}
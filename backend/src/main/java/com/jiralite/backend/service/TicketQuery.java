@@ -0,0 +1,99 @@
+package com.jiralite.backend.service;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Parsed ticket query (see {@link TicketQueryParser}). Immutable and free of
+ * tenant or clock state, so one instance can be cached per query string and
+ * shared; "me", project keys and relative dates are resolved at plan time.
+ *
+ * @param where   filter tree, or null when the query only sorts
+ * @param orderBy sort keys in order; empty keeps the caller's sort
+ */
+record TicketQuery(Node where, List<OrderBy> orderBy) {
+
+    sealed interface Node permits And, Or, Not, Clause {
+    }
+
+    record And(List<Node> terms) implements Node {
+    }
+
+    record Or(List<Node> terms) implements Node {
+    }
+
+    record Not(Node term) implements Node {
+    }
+
+    /**
+     * {@code field op values}. Values are normalized by the parser (enum names
+     * upper-cased, dates validated); IS_EMPTY / IS_NOT_EMPTY have none.
+     */
+    record Clause(Field field, Operator operator, List<String> values) implements Node {
+    }
+
+    record OrderBy(Field field, boolean descending) {
+    }
+
+    enum Kind {
+        STATUS, PRIORITY, PROJECT, USER, DATE, KEY, TEXT
+    }
+
+    enum Field {
+        STATUS("status", Kind.STATUS),
+        PRIORITY("priority", Kind.PRIORITY),
+        PROJECT("projectId", Kind.PROJECT),
+        ASSIGNEE("assigneeId", Kind.USER),
+        REPORTER("createdBy", Kind.USER),
+        CREATED("createdAt", Kind.DATE),
+        UPDATED("updatedAt", Kind.DATE),
+        KEY("ticketKey", Kind.KEY),
+        TITLE("title", Kind.TEXT);
+
+        private final String property;
+        private final Kind kind;
+
+        Field(String property, Kind kind) {
+            this.property = property;
+            this.kind = kind;
+        }
+
+        /**
+         * Entity attribute the field maps to.
+         */
+        String property() {
+            return property;
+        }
+
+        Kind kind() {
+            return kind;
+        }
+
+        static Field of(String name) {
+            try {
+                return valueOf(name.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException ex) {
+                return null;
+            }
+        }
+    }
+
+    enum Operator {
+        EQ("="), NE("!="), GT(">"), GE(">="), LT("<"), LE("<="), CONTAINS("~"),
+        IN("in"), NOT_IN("not in"), IS_EMPTY("is empty"), IS_NOT_EMPTY("is not empty");
+
+        private final String symbol;
+
+        Operator(String symbol) {
+            this.symbol = symbol;
+        }
+
+        String symbol() {
+            return symbol;
+        }
+
+        boolean isRange() {
+            return this == GT || this == GE || this == LT || this == LE;
+        }
+    }
+}
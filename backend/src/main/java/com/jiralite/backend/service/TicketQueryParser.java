@@ -0,0 +1,393 @@
+package com.jiralite.backend.service;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import org.springframework.http.HttpStatus;
+
+import com.jiralite.backend.dto.ErrorCode;
+import com.jiralite.backend.entity.TicketPriority;
+import com.jiralite.backend.entity.TicketStatus;
+import com.jiralite.backend.exception.ApiException;
+import com.jiralite.backend.service.TicketQuery.Clause;
+import com.jiralite.backend.service.TicketQuery.Field;
+import com.jiralite.backend.service.TicketQuery.Kind;
+import com.jiralite.backend.service.TicketQuery.Node;
+import com.jiralite.backend.service.TicketQuery.Operator;
+
+/**
+ * Recursive-descent parser for the ticket query language:
+ *
+ * <pre>
+ * query   := [expr] ["order" "by" field ["asc"|"desc"] ("," field ["asc"|"desc"])*]
+ * expr    := term ("or" term)*
+ * term    := factor ("and" factor)*
+ * factor  := "not" factor | "(" expr ")" | clause
+ * clause  := field op value | field ["not"] "in" "(" value ("," value)* ")" | field "is" ["not"] "empty"
+ * op      := "=" | "!=" | ">" | ">=" | "<" | "<=" | "~"
+ * </pre>
+ *
+ * Keywords are case-insensitive; values are bare words or quoted strings.
+ * Dates are ISO dates/timestamps or relative offsets such as {@code -7d}
+ * (m, h, d, w). Errors are reported as 400 with the offending position.
+ */
+final class TicketQueryParser {
+
+    static final int MAX_QUERY_LENGTH = 2000;
+    static final int MAX_CLAUSES = 50;
+    private static final int MAX_DEPTH = 16;
+
+    static final Pattern RELATIVE_DATE = Pattern.compile("[-+]?\\d{1,6}[mhdw]");
+
+    private static final Set<Operator> EQUALITY = EnumSet.of(Operator.EQ, Operator.NE, Operator.IN, Operator.NOT_IN);
+    private static final Set<Operator> RANGE = EnumSet.of(Operator.GT, Operator.GE, Operator.LT, Operator.LE);
+
+    private enum TokenType {
+        WORD, STRING, OPERATOR, LPAREN, RPAREN, COMMA, END
+    }
+
+    private record Token(TokenType type, String text, int position) {
+
+        boolean isKeyword(String keyword) {
+            return type == TokenType.WORD && text.equalsIgnoreCase(keyword);
+        }
+    }
+
+    private final List<Token> tokens;
+    private int index;
+    private int clauses;
+
+    private TicketQueryParser(String source) {
+        this.tokens = tokenize(source);
+    }
+
+    static TicketQuery parse(String source) {
+        if (source == null || source.isBlank()) {
+            throw error("Query is empty", 0);
+        }
+        if (source.length() > MAX_QUERY_LENGTH) {
+            throw error("Query is longer than " + MAX_QUERY_LENGTH + " characters", MAX_QUERY_LENGTH);
+        }
+        return new TicketQueryParser(source).query();
+    }
+
+    private TicketQuery query() {
+        Node where = null;
+        if (!peek().isKeyword("order") && peek().type() != TokenType.END) {
+            where = expression(0);
+        }
+        List<TicketQuery.OrderBy> orderBy = new ArrayList<>();
+        if (peek().isKeyword("order")) {
+            next();
+            expectKeyword("by");
+            do {
+                Token name = expect(TokenType.WORD, "field name");
+                Field field = field(name);
+                boolean descending = false;
+                if (peek().isKeyword("desc")) {
+                    next();
+                    descending = true;
+                } else if (peek().isKeyword("asc")) {
+                    next();
+                }
+                orderBy.add(new TicketQuery.OrderBy(field, descending));
+            } while (accept(TokenType.COMMA));
+        }
+        if (peek().type() != TokenType.END) {
+            throw error("Unexpected '" + peek().text() + "'", peek().position());
+        }
+        return new TicketQuery(where, List.copyOf(orderBy));
+    }
+
+    private Node expression(int depth) {
+        List<Node> terms = new ArrayList<>();
+        terms.add(term(depth));
+        while (peek().isKeyword("or")) {
+            next();
+            terms.add(term(depth));
+        }
+        return terms.size() == 1 ? terms.get(0) : new TicketQuery.Or(List.copyOf(terms));
+    }
+
+    private Node term(int depth) {
+        List<Node> factors = new ArrayList<>();
+        factors.add(factor(depth));
+        while (peek().isKeyword("and")) {
+            next();
+            factors.add(factor(depth));
+        }
+        return factors.size() == 1 ? factors.get(0) : new TicketQuery.And(List.copyOf(factors));
+    }
+
+    private Node factor(int depth) {
+        if (depth > MAX_DEPTH) {
+            throw error("Query is nested too deeply", peek().position());
+        }
+        if (peek().isKeyword("not")) {
+            next();
+            return new TicketQuery.Not(factor(depth + 1));
+        }
+        if (accept(TokenType.LPAREN)) {
+            Node inner = expression(depth + 1);
+            expect(TokenType.RPAREN, "')'");
+            return inner;
+        }
+        return clause();
+    }
+
+    private Node clause() {
+        Token name = expect(TokenType.WORD, "field name");
+        Field field = field(name);
+        if (++clauses > MAX_CLAUSES) {
+            throw error("Query has more than " + MAX_CLAUSES + " conditions", name.position());
+        }
+        Token opToken = peek();
+        Operator operator;
+        List<String> values = new ArrayList<>();
+        if (opToken.isKeyword("is")) {
+            next();
+            operator = Operator.IS_EMPTY;
+            if (peek().isKeyword("not")) {
+                next();
+                operator = Operator.IS_NOT_EMPTY;
+            }
+            expectKeyword("empty");
+        } else if (opToken.isKeyword("in") || opToken.isKeyword("not")) {
+            next();
+            operator = Operator.IN;
+            if (opToken.isKeyword("not")) {
+                expectKeyword("in");
+                operator = Operator.NOT_IN;
+            }
+            expect(TokenType.LPAREN, "'('");
+            do {
+                values.add(value(field, expectValue()));
+            } while (accept(TokenType.COMMA));
+            expect(TokenType.RPAREN, "')'");
+        } else if (opToken.type() == TokenType.OPERATOR) {
+            next();
+            operator = operator(opToken);
+            values.add(value(field, expectValue()));
+        } else {
+            throw error("Expected an operator after '" + name.text() + "'", opToken.position());
+        }
+        if (!allowed(field.kind(), operator)) {
+            throw error("Operator '" + operator.symbol() + "' is not supported for "
+                    + field.name().toLowerCase(Locale.ROOT), opToken.position());
+        }
+        return new Clause(field, operator, List.copyOf(values));
+    }
+
+    private static boolean allowed(Kind kind, Operator operator) {
+        return switch (kind) {
+            case STATUS, PRIORITY -> EQUALITY.contains(operator) || RANGE.contains(operator);
+            case PROJECT, KEY -> EQUALITY.contains(operator);
+            case USER -> EQUALITY.contains(operator) || operator == Operator.IS_EMPTY
+                    || operator == Operator.IS_NOT_EMPTY;
+            case DATE -> RANGE.contains(operator);
+            case TEXT -> operator == Operator.CONTAINS;
+        };
+    }
+
+    /**
+     * Validate and normalize a value for the field it is compared with.
+     */
+    private static String value(Field field, Token token) {
+        String text = token.text().trim();
+        String upper = text.toUpperCase(Locale.ROOT);
+        switch (field.kind()) {
+            case STATUS -> {
+                try {
+                    return TicketStatus.valueOf(upper).name();
+                } catch (IllegalArgumentException ex) {
+                    throw error("Unknown status '" + text + "'", token.position());
+                }
+            }
+            case PRIORITY -> {
+                try {
+                    return TicketPriority.valueOf(upper).name();
+                } catch (IllegalArgumentException ex) {
+                    throw error("Unknown priority '" + text + "'", token.position());
+                }
+            }
+            case USER -> {
+                if (text.equalsIgnoreCase("me")) {
+                    return "me";
+                }
+                return uuid(text, token).toString();
+            }
+            case PROJECT, KEY -> {
+                if (text.isEmpty()) {
+                    throw error("Empty value", token.position());
+                }
+                return looksLikeUuid(text) ? uuid(text, token).toString() : text;
+            }
+            case DATE -> {
+                if (RELATIVE_DATE.matcher(text).matches() || isAbsoluteDate(text)) {
+                    return text;
+                }
+                throw error("Invalid date '" + text + "' (use 2026-01-31, an ISO timestamp or -7d)",
+                        token.position());
+            }
+            default -> {
+                if (text.isEmpty()) {
+                    throw error("Empty value", token.position());
+                }
+                return token.text();
+            }
+        }
+    }
+
+    private static boolean isAbsoluteDate(String text) {
+        try {
+            LocalDate.parse(text);
+            return true;
+        } catch (DateTimeParseException ignored) {
+            // fall through
+        }
+        try {
+            OffsetDateTime.parse(text);
+            return true;
+        } catch (DateTimeParseException ex) {
+            return false;
+        }
+    }
+
+    private static boolean looksLikeUuid(String text) {
+        return text.length() == 36 && text.charAt(8) == '-' && text.charAt(13) == '-';
+    }
+
+    private static UUID uuid(String text, Token token) {
+        try {
+            return UUID.fromString(text);
+        } catch (IllegalArgumentException ex) {
+            throw error("Invalid id '" + text + "'", token.position());
+        }
+    }
+
+    private static Operator operator(Token token) {
+        return switch (token.text()) {
+            case "=" -> Operator.EQ;
+            case "!=" -> Operator.NE;
+            case ">" -> Operator.GT;
+            case ">=" -> Operator.GE;
+            case "<" -> Operator.LT;
+            case "<=" -> Operator.LE;
+            default -> Operator.CONTAINS;
+        };
+    }
+
+    private static Field field(Token token) {
+        Field field = Field.of(token.text());
+        if (field == null) {
+            throw error("Unknown field '" + token.text() + "'", token.position());
+        }
+        return field;
+    }
+
+    private Token expectValue() {
+        Token token = peek();
+        if (token.type() != TokenType.WORD && token.type() != TokenType.STRING) {
+            throw error("Expected a value", token.position());
+        }
+        return next();
+    }
+
+    private void expectKeyword(String keyword) {
+        if (!peek().isKeyword(keyword)) {
+            throw error("Expected '" + keyword + "'", peek().position());
+        }
+        next();
+    }
+
+    private Token expect(TokenType type, String description) {
+        if (peek().type() != type) {
+            throw error("Expected " + description, peek().position());
+        }
+        return next();
+    }
+
+    private boolean accept(TokenType type) {
+        if (peek().type() == type) {
+            next();
+            return true;
+        }
+        return false;
+    }
+
+    private Token peek() {
+        return tokens.get(index);
+    }
+
+    private Token next() {
+        return tokens.get(index++);
+    }
+
+    private static List<Token> tokenize(String source) {
+        List<Token> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < source.length()) {
+            char c = source.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '(') {
+                tokens.add(new Token(TokenType.LPAREN, "(", i++));
+            } else if (c == ')') {
+                tokens.add(new Token(TokenType.RPAREN, ")", i++));
+            } else if (c == ',') {
+                tokens.add(new Token(TokenType.COMMA, ",", i++));
+            } else if (c == '"' || c == '\'') {
+                int start = i++;
+                StringBuilder text = new StringBuilder();
+                while (i < source.length() && source.charAt(i) != c) {
+                    if (source.charAt(i) == '\\' && i + 1 < source.length()) {
+                        i++;
+                    }
+                    text.append(source.charAt(i++));
+                }
+                if (i >= source.length()) {
+                    throw error("Unterminated string", start);
+                }
+                i++;
+                tokens.add(new Token(TokenType.STRING, text.toString(), start));
+            } else if (c == '=' || c == '~') {
+                tokens.add(new Token(TokenType.OPERATOR, String.valueOf(c), i++));
+            } else if (c == '!' || c == '<' || c == '>') {
+                int start = i++;
+                if (i < source.length() && source.charAt(i) == '=') {
+                    i++;
+                } else if (c == '!') {
+                    throw error("Expected '!='", start);
+                }
+                tokens.add(new Token(TokenType.OPERATOR, source.substring(start, i), start));
+            } else if (isWordChar(c)) {
+                int start = i;
+                while (i < source.length() && isWordChar(source.charAt(i))) {
+                    i++;
+                }
+                tokens.add(new Token(TokenType.WORD, source.substring(start, i), start));
+            } else {
+                throw error("Unexpected character '" + c + "'", i);
+            }
+        }
+        tokens.add(new Token(TokenType.END, "end of query", source.length()));
+        return tokens;
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '-' || c == '+' || c == ':' || c == '.';
+    }
+
+    private static ApiException error(String message, int position) {
+        return new ApiException(ErrorCode.BAD_REQUEST, "Invalid query: " + message + " (at " + position + ")",
+                HttpStatus.BAD_REQUEST.value());
+    }
+}
@@ -0,0 +1,484 @@
+package com.jiralite.backend.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.ToIntFunction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import com.jiralite.backend.dto.ErrorCode;
+import com.jiralite.backend.entity.ProjectEntity;
+import com.jiralite.backend.entity.TicketEntity;
+import com.jiralite.backend.entity.TicketPriority;
+import com.jiralite.backend.entity.TicketStatus;
+import com.jiralite.backend.exception.ApiException;
+import com.jiralite.backend.repository.ProjectRepository;
+import com.jiralite.backend.repository.TicketRepository;
+import com.jiralite.backend.service.TicketQuery.Clause;
+import com.jiralite.backend.service.TicketQuery.Field;
+import com.jiralite.backend.service.TicketQuery.Kind;
+import com.jiralite.backend.service.TicketQuery.Node;
+import com.jiralite.backend.service.TicketQuery.Operator;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Turns ticket query strings into JPA specifications. Parsed queries are
+ * cached per string (LRU, {@value #CACHE_SIZE} entries). Planning resolves
+ * "me", project keys and relative dates, rewrites status/priority ranges into
+ * IN lists on the rank columns, and checks that the filter can be served by
+ * an index: a query whose top-level AND has no condition on status, priority,
+ * project, key, assignee or created/updated is refused on orgs with more than
+ * {@code app.tickets.query.max-unindexed-rows} live tickets.
+ */
+@Component
+public class TicketQueryPlanner {
+
+    static final int CACHE_SIZE = 512;
+
+    /**
+     * Compiled query: filter (without org/trash scoping), sort from
+     * {@code order by} (unsorted when absent) and whether the filter is
+     * index-aligned.
+     */
+    record Plan(Specification<TicketEntity> spec, Sort sort, boolean indexed) {
+    }
+
+    private final TicketRepository ticketRepository;
+    private final ProjectRepository projectRepository;
+    private final int maxUnindexedRows;
+    private final Map<String, TicketQuery> parsed = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, TicketQuery> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    public TicketQueryPlanner(
+            TicketRepository ticketRepository,
+            ProjectRepository projectRepository,
+            @Value("${app.tickets.query.max-unindexed-rows:20000}") int maxUnindexedRows) {
+        this.ticketRepository = ticketRepository;
+        this.projectRepository = projectRepository;
+        this.maxUnindexedRows = maxUnindexedRows;
+    }
+
+    /**
+     * Parsed (and cached) form of {@code source}; throws 400 on syntax errors.
+     */
+    TicketQuery parse(String source) {
+        String key = source == null ? "" : source.strip();
+        synchronized (parsed) {
+            TicketQuery query = parsed.get(key);
+            if (query != null) {
+                return query;
+            }
+        }
+        TicketQuery query = TicketQueryParser.parse(key);
+        synchronized (parsed) {
+            parsed.put(key, query);
+        }
+        return query;
+    }
+
+    /**
+     * True when results depend on the clock (relative dates such as -7d), so
+     * they can change without any ticket changing.
+     */
+    public boolean isTimeRelative(String source) {
+        return source != null && !source.isBlank() && isTimeRelative(parse(source).where());
+    }
+
+    /**
+     * True when results depend on who asks ("assignee = me"), so the same
+     * query string means different tickets for different callers.
+     */
+    public boolean isUserRelative(String source) {
+        return source != null && !source.isBlank() && isUserRelative(parse(source).where());
+    }
+
+    Plan plan(String source, UUID orgId, UUID userId) {
+        TicketQuery query = parse(source);
+        boolean indexed = isIndexed(query.where());
+        if (!indexed && ticketRepository.countActiveCapped(orgId, maxUnindexedRows + 1) > maxUnindexedRows) {
+            throw new ApiException(ErrorCode.BAD_REQUEST,
+                    "Query is too broad for this org: add a status, priority, project, key, assignee or "
+                            + "created/updated condition",
+                    HttpStatus.BAD_REQUEST.value());
+        }
+        Map<String, UUID> projectIds = resolveProjects(query.where(), orgId);
+        OffsetDateTime now = OffsetDateTime.now();
+        Node where = query.where();
+        Specification<TicketEntity> spec = where == null
+                ? (root, q, cb) -> cb.conjunction()
+                : (root, q, cb) -> predicate(where, root, cb, projectIds, userId, now);
+        return new Plan(spec, sort(query.orderBy()), indexed);
+    }
+
+    /**
+     * In-memory form of the query's filter for saved-filter counting: same
+     * semantics as {@link #plan}'s specification, evaluated against snapshots
+     * (null, i.e. deleted, never matches). Project keys are resolved once here.
+     */
+    java.util.function.Predicate<TicketSnapshot> matcher(String source, UUID orgId, UUID userId) {
+        Node where = parse(source).where();
+        Map<String, UUID> projectIds = resolveProjects(where, orgId);
+        return ticket -> ticket != null
+                && (where == null || matches(where, ticket, projectIds, userId, OffsetDateTime.now()));
+    }
+
+    /**
+     * Index-aligned: equality/IN/range on an indexed column (see V7, V16, V18,
+     * V20, V21), any such term under AND, or all branches of an OR.
+     */
+    static boolean isIndexed(Node node) {
+        if (node instanceof TicketQuery.And and) {
+            return and.terms().stream().anyMatch(TicketQueryPlanner::isIndexed);
+        }
+        if (node instanceof TicketQuery.Or or) {
+            return or.terms().stream().allMatch(TicketQueryPlanner::isIndexed);
+        }
+        if (node instanceof Clause clause) {
+            Operator op = clause.operator();
+            boolean equality = op == Operator.EQ || op == Operator.IN;
+            return switch (clause.field()) {
+                case STATUS, PRIORITY -> equality || op.isRange();
+                case PROJECT, KEY, ASSIGNEE -> equality;
+                case CREATED, UPDATED -> op.isRange();
+                default -> false;
+            };
+        }
+        return false;
+    }
+
+    private static boolean isTimeRelative(Node node) {
+        if (node instanceof TicketQuery.And and) {
+            return and.terms().stream().anyMatch(TicketQueryPlanner::isTimeRelative);
+        }
+        if (node instanceof TicketQuery.Or or) {
+            return or.terms().stream().anyMatch(TicketQueryPlanner::isTimeRelative);
+        }
+        if (node instanceof TicketQuery.Not not) {
+            return isTimeRelative(not.term());
+        }
+        return node instanceof Clause clause && clause.field().kind() == Kind.DATE
+                && clause.values().stream().anyMatch(v -> TicketQueryParser.RELATIVE_DATE.matcher(v).matches());
+    }
+
+    private static boolean isUserRelative(Node node) {
+        if (node instanceof TicketQuery.And and) {
+            return and.terms().stream().anyMatch(TicketQueryPlanner::isUserRelative);
+        }
+        if (node instanceof TicketQuery.Or or) {
+            return or.terms().stream().anyMatch(TicketQueryPlanner::isUserRelative);
+        }
+        if (node instanceof TicketQuery.Not not) {
+            return isUserRelative(not.term());
+        }
+        return node instanceof Clause clause && clause.field().kind() == Kind.USER
+                && clause.values().contains("me");
+    }
+
+    private Map<String, UUID> resolveProjects(Node where, UUID orgId) {
+        Set<String> keys = new HashSet<>();
+        collectProjectKeys(where, keys);
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+        // Keys are matched case-insensitively against the org's (few) projects
+        Map<String, UUID> byKey = new HashMap<>();
+        for (ProjectEntity project : projectRepository.findAllByOrgId(orgId)) {
+            if (project.getDeletedAt() == null) {
+                byKey.put(project.getProjectKey().toUpperCase(Locale.ROOT), project.getId());
+            }
+        }
+        Map<String, UUID> ids = new HashMap<>();
+        for (String key : keys) {
+            UUID id = byKey.get(key.toUpperCase(Locale.ROOT));
+            if (id == null) {
+                throw new ApiException(ErrorCode.BAD_REQUEST, "Invalid query: unknown project '" + key + "'",
+                        HttpStatus.BAD_REQUEST.value());
+            }
+            ids.put(key, id);
+        }
+        return ids;
+    }
+
+    private static void collectProjectKeys(Node node, Set<String> keys) {
+        if (node instanceof TicketQuery.And and) {
+            and.terms().forEach(term -> collectProjectKeys(term, keys));
+        } else if (node instanceof TicketQuery.Or or) {
+            or.terms().forEach(term -> collectProjectKeys(term, keys));
+        } else if (node instanceof TicketQuery.Not not) {
+            collectProjectKeys(not.term(), keys);
+        } else if (node instanceof Clause clause && clause.field() == Field.PROJECT) {
+            clause.values().stream().filter(v -> !isUuid(v)).forEach(keys::add);
+        }
+    }
+
+    private static Predicate predicate(Node node, Root<TicketEntity> root, CriteriaBuilder cb,
+            Map<String, UUID> projectIds, UUID userId, OffsetDateTime now) {
+        if (node instanceof TicketQuery.And and) {
+            return cb.and(and.terms().stream()
+                    .map(term -> predicate(term, root, cb, projectIds, userId, now))
+                    .toArray(Predicate[]::new));
+        }
+        if (node instanceof TicketQuery.Or or) {
+            return cb.or(or.terms().stream()
+                    .map(term -> predicate(term, root, cb, projectIds, userId, now))
+                    .toArray(Predicate[]::new));
+        }
+        if (node instanceof TicketQuery.Not not) {
+            return cb.not(predicate(not.term(), root, cb, projectIds, userId, now));
+        }
+        Clause clause = (Clause) node;
+        Field field = clause.field();
+        return switch (field.kind()) {
+            case STATUS -> rankPredicate(clause, root, cb,
+                    Arrays.stream(TicketStatus.values()).map(Enum::name).toList(),
+                    name -> TicketStatus.valueOf(name).rank());
+            case PRIORITY -> rankPredicate(clause, root, cb,
+                    Arrays.stream(TicketPriority.values()).map(Enum::name).toList(),
+                    name -> TicketPriority.valueOf(name).rank());
+            case PROJECT -> membership(clause.operator(), root.get(field.property()), cb,
+                    clause.values().stream().map(v -> isUuid(v) ? UUID.fromString(v) : projectIds.get(v)).toList(),
+                    false);
+            case USER -> userPredicate(clause, root.get(field.property()), cb, userId);
+            case DATE -> datePredicate(clause, root.get(field.property()), cb, now);
+            case KEY -> membership(clause.operator(), root.get(field.property()), cb, clause.values(), false);
+            case TEXT -> cb.like(cb.lower(root.get(field.property())),
+                    "%" + escapeLike(clause.values().get(0).toLowerCase(Locale.ROOT)) + "%", '\\');
+        };
+    }
+
+    /**
+     * Status and priority ranges become IN lists of names, which the converter
+     * binds as ranks: {@code priority >= HIGH} is {@code priority_rank IN (3, 4)}.
+     */
+    private static Predicate rankPredicate(Clause clause, Root<TicketEntity> root, CriteriaBuilder cb,
+            List<String> names, ToIntFunction<String> rank) {
+        Expression<String> path = root.get(clause.field().property());
+        if (!clause.operator().isRange()) {
+            return membership(clause.operator(), path, cb, clause.values(), false);
+        }
+        List<String> matching = inRange(clause, names, rank);
+        return matching.isEmpty() ? cb.disjunction() : path.in(matching);
+    }
+
+    private static List<String> inRange(Clause clause, List<String> names, ToIntFunction<String> rank) {
+        int bound = rank.applyAsInt(clause.values().get(0));
+        return names.stream().filter(name -> {
+            int value = rank.applyAsInt(name);
+            return switch (clause.operator()) {
+                case GT -> value > bound;
+                case GE -> value >= bound;
+                case LT -> value < bound;
+                default -> value <= bound;
+            };
+        }).toList();
+    }
+
+    private static Predicate userPredicate(Clause clause, Expression<UUID> path, CriteriaBuilder cb, UUID userId) {
+        return switch (clause.operator()) {
+            case IS_EMPTY -> cb.isNull(path);
+            case IS_NOT_EMPTY -> cb.isNotNull(path);
+            default -> {
+                List<UUID> ids = new ArrayList<>();
+                for (String value : clause.values()) {
+                    UUID id = value.equals("me") ? userId : UUID.fromString(value);
+                    if (id != null) {
+                        ids.add(id);
+                    }
+                }
+                yield membership(clause.operator(), path, cb, ids, true);
+            }
+        };
+    }
+
+    /**
+     * =, !=, IN and NOT IN. Negations on nullable columns keep NULL rows
+     * ("assignee != me" includes unassigned tickets).
+     */
+    private static <T> Predicate membership(Operator operator, Expression<T> path, CriteriaBuilder cb,
+            List<T> values, boolean nullable) {
+        boolean negated = operator == Operator.NE || operator == Operator.NOT_IN;
+        if (values.isEmpty()) {
+            return negated ? cb.conjunction() : cb.disjunction();
+        }
+        Predicate match = values.size() == 1 ? cb.equal(path, values.get(0)) : path.in(values);
+        if (!negated) {
+            return match;
+        }
+        return nullable ? cb.or(cb.isNull(path), cb.not(match)) : cb.not(match);
+    }
+
+    private static Predicate datePredicate(Clause clause, Expression<OffsetDateTime> path, CriteriaBuilder cb,
+            OffsetDateTime now) {
+        DateBound date = dateBound(clause, now);
+        return switch (date.operator()) {
+            case GT -> cb.greaterThan(path, date.bound());
+            case GE -> cb.greaterThanOrEqualTo(path, date.bound());
+            case LT -> cb.lessThan(path, date.bound());
+            default -> cb.lessThanOrEqualTo(path, date.bound());
+        };
+    }
+
+    private record DateBound(Operator operator, OffsetDateTime bound) {
+    }
+
+    private static DateBound dateBound(Clause clause, OffsetDateTime now) {
+        String value = clause.values().get(0);
+        Operator op = clause.operator();
+        if (TicketQueryParser.RELATIVE_DATE.matcher(value).matches()) {
+            return new DateBound(op, now.plus(relative(value)));
+        }
+        if (value.length() == 10) {
+            // Date-only: "<= D" and "> D" include/exclude the whole day D
+            LocalDate day = LocalDate.parse(value);
+            boolean endOfDay = op == Operator.LE || op == Operator.GT;
+            OffsetDateTime bound = (endOfDay ? day.plusDays(1) : day).atStartOfDay().atOffset(ZoneOffset.UTC);
+            if (endOfDay) {
+                op = op == Operator.LE ? Operator.LT : Operator.GE;
+            }
+            return new DateBound(op, bound);
+        }
+        return new DateBound(op, OffsetDateTime.parse(value));
+    }
+
+    static boolean matches(Node node, TicketSnapshot ticket, Map<String, UUID> projectIds, UUID userId,
+            OffsetDateTime now) {
+        if (node instanceof TicketQuery.And and) {
+            return and.terms().stream().allMatch(term -> matches(term, ticket, projectIds, userId, now));
+        }
+        if (node instanceof TicketQuery.Or or) {
+            return or.terms().stream().anyMatch(term -> matches(term, ticket, projectIds, userId, now));
+        }
+        if (node instanceof TicketQuery.Not not) {
+            return !matches(not.term(), ticket, projectIds, userId, now);
+        }
+        Clause clause = (Clause) node;
+        return switch (clause.field()) {
+            case STATUS -> rankMatches(clause, ticket.status(),
+                    Arrays.stream(TicketStatus.values()).map(Enum::name).toList(),
+                    name -> TicketStatus.valueOf(name).rank());
+            case PRIORITY -> rankMatches(clause, ticket.priority(),
+                    Arrays.stream(TicketPriority.values()).map(Enum::name).toList(),
+                    name -> TicketPriority.valueOf(name).rank());
+            case PROJECT -> contains(clause.operator(), ticket.projectId(),
+                    clause.values().stream().map(v -> isUuid(v) ? UUID.fromString(v) : projectIds.get(v)).toList(),
+                    false);
+            case ASSIGNEE -> userMatches(clause, ticket.assigneeId(), userId);
+            case REPORTER -> userMatches(clause, ticket.createdBy(), userId);
+            case CREATED -> dateMatches(clause, ticket.createdAt(), now);
+            case UPDATED -> dateMatches(clause, ticket.updatedAt(), now);
+            case KEY -> contains(clause.operator(), ticket.ticketKey(), clause.values(), false);
+            case TITLE -> ticket.title() != null && ticket.title().toLowerCase(Locale.ROOT)
+                    .contains(clause.values().get(0).toLowerCase(Locale.ROOT));
+        };
+    }
+
+    private static boolean rankMatches(Clause clause, String value, List<String> names,
+            ToIntFunction<String> rank) {
+        if (!clause.operator().isRange()) {
+            return contains(clause.operator(), value, clause.values(), false);
+        }
+        return inRange(clause, names, rank).contains(value);
+    }
+
+    private static boolean userMatches(Clause clause, UUID value, UUID userId) {
+        return switch (clause.operator()) {
+            case IS_EMPTY -> value == null;
+            case IS_NOT_EMPTY -> value != null;
+            default -> {
+                List<UUID> ids = new ArrayList<>();
+                for (String v : clause.values()) {
+                    UUID id = v.equals("me") ? userId : UUID.fromString(v);
+                    if (id != null) {
+                        ids.add(id);
+                    }
+                }
+                yield contains(clause.operator(), value, ids, true);
+            }
+        };
+    }
+
+    /**
+     * Same three-valued outcome as {@link #membership}: a NULL column only
+     * matches negations on nullable columns.
+     */
+    private static <T> boolean contains(Operator operator, T value, List<T> values, boolean nullable) {
+        boolean negated = operator == Operator.NE || operator == Operator.NOT_IN;
+        if (values.isEmpty()) {
+            return negated;
+        }
+        if (value == null) {
+            return negated && nullable;
+        }
+        return values.contains(value) != negated;
+    }
+
+    private static boolean dateMatches(Clause clause, OffsetDateTime value, OffsetDateTime now) {
+        if (value == null) {
+            return false;
+        }
+        DateBound date = dateBound(clause, now);
+        int cmp = value.toInstant().compareTo(date.bound().toInstant());
+        return switch (date.operator()) {
+            case GT -> cmp > 0;
+            case GE -> cmp >= 0;
+            case LT -> cmp < 0;
+            default -> cmp <= 0;
+        };
+    }
+
+    static Duration relative(String value) {
+        char unit = value.charAt(value.length() - 1);
+        long amount = Long.parseLong(value.substring(0, value.length() - 1).replace("+", ""));
+        return switch (unit) {
+            case 'm' -> Duration.ofMinutes(amount);
+            case 'h' -> Duration.ofHours(amount);
+            case 'w' -> Duration.ofDays(amount * 7);
+            default -> Duration.ofDays(amount);
+        };
+    }
+
+    private static Sort sort(List<TicketQuery.OrderBy> orderBy) {
+        if (orderBy.isEmpty()) {
+            return Sort.unsorted();
+        }
+        List<Sort.Order> orders = new ArrayList<>();
+        for (TicketQuery.OrderBy key : orderBy) {
+            orders.add(key.descending() ? Sort.Order.desc(key.field().property())
+                    : Sort.Order.asc(key.field().property()));
+        }
+        orders.add(Sort.Order.asc("id"));
+        return Sort.by(orders);
+    }
+
+    private static boolean isUuid(String value) {
+        return value.length() == 36 && value.charAt(8) == '-';
+    }
+
+    private static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -1,24 +1,47 @@
 package com.jiralite.backend.service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.regex.MatchResult;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.util.HtmlUtils;
 
 import com.jiralite.backend.audit.LogAudit;
+import com.jiralite.backend.dto.BulkCreateTicketsRequest;
+import com.jiralite.backend.dto.BulkTicketResult;
+import com.jiralite.backend.dto.BulkTransitionTicketsRequest;
 import com.jiralite.backend.dto.CreateTicketRequest;
 import com.jiralite.backend.dto.ErrorCode;
 import com.jiralite.backend.dto.PageMeta;
 import com.jiralite.backend.dto.PagedResponse;
+import com.jiralite.backend.dto.TicketBoardResponse;
+import com.jiralite.backend.dto.TicketChange;
+import com.jiralite.backend.dto.TicketChangesResponse;
 import com.jiralite.backend.dto.TicketResponse;
+import com.jiralite.backend.dto.TicketSearchResult;
 import com.jiralite.backend.dto.TransitionTicketRequest;
 import com.jiralite.backend.dto.UpdateTicketRequest;
 import com.jiralite.backend.entity.OrgMembershipEntity;
@@ -27,6 +50,7 @@ import com.jiralite.backend.entity.TicketEntity;
 import com.jiralite.backend.exception.ApiException;
 import com.jiralite.backend.repository.OrgMembershipRepository;
 import com.jiralite.backend.repository.ProjectRepository;
+import com.jiralite.backend.repository.TicketBoardRepository;
 import com.jiralite.backend.repository.TicketRepository;
 import com.jiralite.backend.repository.TicketCommentRepository;
 import com.jiralite.backend.repository.TicketAttachmentRepository;
@@ -36,14 +60,17 @@ import com.jiralite.backend.entity.AuditLogEntity;
 import com.jiralite.backend.security.tenant.TenantContext;
 import com.jiralite.backend.security.tenant.TenantContextHolder;
 
+import jakarta.persistence.criteria.Path;
+
 /**
  * Ticket management scoped to the current tenant.
  */
 @Service
 public class TicketService {
 
-    private static final Set<String> ALLOWED_STATUSES = Set.of("OPEN", "IN_PROGRESS", "DONE", "CANCELLED");
-    private static final Set<String> ALLOWED_PRIORITIES = Set.of("LOW", "MEDIUM", "HIGH", "URGENT");
+    static final Set<String> ALLOWED_STATUSES = Set.of("OPEN", "IN_PROGRESS", "DONE", "CANCELLED");
+    static final Set<String> ALLOWED_PRIORITIES = Set.of("LOW", "MEDIUM", "HIGH", "URGENT");
+    private static final List<String> BOARD_COLUMNS = List.of("OPEN", "IN_PROGRESS", "DONE", "CANCELLED");
 
     private final TicketRepository ticketRepository;
     private final ProjectRepository projectRepository;
@@ -52,6 +79,22 @@ public class TicketService {
     private final TicketAttachmentRepository attachmentRepository;
     private final NotificationService notificationService;
     private final AuditLogRepository auditLogRepository;
+    private final TicketKeyAllocator ticketKeyAllocator;
+    private final TicketDetailCache ticketDetailCache;
+    private final TicketQueryPlanner ticketQueryPlanner;
+    private final SavedFilterCounter savedFilterCounter;
+    private final TransactionTemplate transactionTemplate;
+
+    private static final Pattern SEARCH_TOKEN = Pattern.compile("[\\p{L}\\p{N}]+");
+    private static final int MAX_SEARCH_TOKENS = 8;
+    // Match delimiters emitted by TicketRepository.searchRanked
+    private static final String MATCH_START = "\u0002";
+    private static final String MATCH_END = "\u0003";
+
+    private static final int MAX_CHANGES_PAGE = 500;
+    // A writing transaction open this long is reported as holding back the change feed
+    private static final Duration CHANGES_STALL_AFTER = Duration.ofSeconds(30);
+    private static final int MAX_BOARD_COLUMN_SIZE = 200;
 
     private static final int MAX_COMMENTS_FOR_DELETE = 5;
     private static final int MAX_ATTACHMENTS_FOR_DELETE = 10;
@@ -63,7 +106,12 @@ public class TicketService {
             TicketCommentRepository commentRepository,
             TicketAttachmentRepository attachmentRepository,
             NotificationService notificationService,
-            AuditLogRepository auditLogRepository) {
+            AuditLogRepository auditLogRepository,
+            TicketKeyAllocator ticketKeyAllocator,
+            TicketDetailCache ticketDetailCache,
+            TicketQueryPlanner ticketQueryPlanner,
+            SavedFilterCounter savedFilterCounter,
+            PlatformTransactionManager transactionManager) {
         this.ticketRepository = ticketRepository;
         this.projectRepository = projectRepository;
         this.membershipRepository = membershipRepository;
@@ -71,60 +119,233 @@ public class TicketService {
         this.attachmentRepository = attachmentRepository;
         this.notificationService = notificationService;
         this.auditLogRepository = auditLogRepository;
+        this.ticketKeyAllocator = ticketKeyAllocator;
+        this.ticketDetailCache = ticketDetailCache;
+        this.ticketQueryPlanner = ticketQueryPlanner;
+        this.savedFilterCounter = savedFilterCounter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
+    /**
+     * List tickets in offset mode (page/size) or, when {@code after} is non-null,
+     * in keyset mode. Keyset mode seeks past the (createdAt, id) encoded in the
+     * cursor instead of using OFFSET; a blank {@code after} starts from the top.
+     * With {@code withTotal=false} no COUNT query is issued. Rows are selected
+     * straight into {@link TicketResponse}; {@code summary} truncates description.
+     * A query string {@code q} (see {@link TicketQueryParser}) is ANDed with the
+     * other filters and its {@code order by} replaces the requested sort.
+     */
     @Transactional(readOnly = true)
     public PagedResponse<TicketResponse> listTickets(
             String status,
             String priority,
             UUID projectId,
-            Pageable pageable) {
-        UUID orgId = getOrgId();
-        Specification<TicketEntity> spec = (root, query, cb) -> cb.conjunction();
-        spec = spec.and(orgEquals(orgId));
-        // Exclude deleted tickets
-        spec = spec.and(notDeleted());
-        Specification<TicketEntity> statusSpec = statusEquals(status);
-        if (statusSpec != null) {
-            spec = spec.and(statusSpec);
+            String q,
+            Pageable pageable,
+            String after,
+            boolean withTotal,
+            boolean summary) {
+        Specification<TicketEntity> filters = listSpec(status, priority, projectId);
+        if (q != null && !q.isBlank()) {
+            TicketQueryPlanner.Plan plan = ticketQueryPlanner.plan(q, getOrgId(), parseUuidOrNull(getUserId()));
+            filters = filters.and(plan.spec());
+            if (plan.sort().isSorted()) {
+                pageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), plan.sort());
+            }
         }
-        Specification<TicketEntity> prioritySpec = priorityEquals(priority);
-        if (prioritySpec != null) {
-            spec = spec.and(prioritySpec);
+        Specification<TicketEntity> spec = filters;
+        if (after != null) {
+            return listTicketsAfter(spec, pageable, after, withTotal, summary);
         }
-        Specification<TicketEntity> projectSpec = projectEquals(projectId);
-        if (projectSpec != null) {
-            spec = spec.and(projectSpec);
+
+        List<TicketResponse> content = ticketRepository.findResponses(spec, pageable.getSort(),
+                pageable.getOffset(), pageable.getPageSize(), summary);
+        if (!withTotal) {
+            return new PagedResponse<>(
+                    content,
+                    new PageMeta(pageable.getPageNumber(), pageable.getPageSize(), PageMeta.NOT_COMPUTED,
+                            PageMeta.NOT_COMPUTED));
         }
 
-        Page<TicketEntity> page = ticketRepository.findAll(spec, pageable);
-        List<TicketResponse> content = page.stream()
-                .map(this::toResponse)
-                .toList();
+        // Skips the COUNT when this page already shows where the result ends.
+        Page<TicketResponse> page = PageableExecutionUtils.getPage(content, pageable,
+                () -> ticketRepository.count(spec));
         return new PagedResponse<>(
                 content,
                 new PageMeta(page.getNumber(), page.getSize(), page.getTotalElements(), page.getTotalPages()));
     }
 
+    private PagedResponse<TicketResponse> listTicketsAfter(
+            Specification<TicketEntity> spec,
+            Pageable pageable,
+            String after,
+            boolean withTotal,
+            boolean summary) {
+        TicketCursor cursor = after.isBlank() ? null : TicketCursor.decode(after);
+        Sort.Direction direction = cursor != null ? cursor.direction() : cursorDirection(pageable.getSort());
+        Sort sort = Sort.by(direction, "createdAt").and(Sort.by(direction, "id"));
+        int size = pageable.getPageSize();
+
+        Specification<TicketEntity> pageSpec = cursor == null ? spec : spec.and(seekAfter(cursor));
+        // Fetch one extra row to learn whether another page exists without counting.
+        List<TicketResponse> rows = ticketRepository.findResponses(pageSpec, sort, 0, size + 1, summary);
+        boolean hasNext = rows.size() > size;
+        List<TicketResponse> pageRows = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? TicketCursor.of(pageRows.get(size - 1), direction).encode() : null;
+
+        long total = PageMeta.NOT_COMPUTED;
+        int totalPages = PageMeta.NOT_COMPUTED;
+        if (withTotal) {
+            total = ticketRepository.count(spec);
+            totalPages = (int) ((total + size - 1) / size);
+        }
+        return new PagedResponse<>(
+                pageRows,
+                new PageMeta(PageMeta.NOT_COMPUTED, size, total, totalPages, nextCursor));
+    }
+
+    private Sort.Direction cursorDirection(Sort sort) {
+        Sort.Direction direction = Sort.Direction.DESC;
+        for (Sort.Order order : sort) {
+            if ("id".equals(order.getProperty())) {
+                continue; // tiebreak added by query sorts; keyset order always ends with id
+            }
+            if (!"createdAt".equals(order.getProperty())) {
+                throw new ApiException(ErrorCode.BAD_REQUEST, "Cursor pagination only supports sort by createdAt",
+                        HttpStatus.BAD_REQUEST.value());
+            }
+            direction = order.getDirection();
+        }
+        return direction;
+    }
+
+    /**
+     * Kanban board for a project in one query: newest {@code perColumn} tickets
+     * per status plus column totals. An unknown project yields empty columns.
+     */
+    @Transactional(readOnly = true)
+    public TicketBoardResponse board(UUID projectId, int perColumn) {
+        UUID orgId = getOrgId();
+        int limit = Math.max(1, Math.min(perColumn, MAX_BOARD_COLUMN_SIZE));
+        Map<String, List<TicketBoardRepository.BoardRow>> rowsByStatus = ticketRepository
+                .findBoard(orgId, projectId, limit)
+                .stream()
+                .collect(Collectors.groupingBy(row -> row.ticket().status()));
+        List<TicketBoardResponse.Column> columns = BOARD_COLUMNS.stream()
+                .map(status -> {
+                    List<TicketBoardRepository.BoardRow> rows = rowsByStatus.getOrDefault(status, List.of());
+                    return new TicketBoardResponse.Column(
+                            status,
+                            rows.isEmpty() ? 0 : rows.get(0).columnTotal(),
+                            rows.stream().map(TicketBoardRepository.BoardRow::ticket).toList());
+                })
+                .toList();
+        return new TicketBoardResponse(projectId, columns);
+    }
+
+    /**
+     * Tickets created, updated or deleted since {@code since}. Without a token
+     * only the current position is returned: take it before a full reload, then
+     * poll with it. Deleted tickets come back as tombstones.
+     * <p>
+     * The feed stops at the oldest transaction still running in the database,
+     * so a long write (e.g. a ticket import) delays changes for every org until
+     * it commits; the response is then marked stalled rather than looking idle.
+     */
     @Transactional(readOnly = true)
+    public TicketChangesResponse changesSince(String since, int limit) {
+        UUID orgId = getOrgId();
+        TicketRepository.ChangeWatermark current =
+                ticketRepository.currentChangeWatermark(CHANGES_STALL_AFTER.toSeconds());
+        String watermark = current.getXid();
+        boolean stalled = Boolean.TRUE.equals(current.getStalled());
+        if (since == null || since.isBlank()) {
+            return new TicketChangesResponse(List.of(), TicketChangeToken.watermark(watermark).encode(), false,
+                    stalled);
+        }
+        TicketChangeToken from = TicketChangeToken.decode(since);
+        int size = Math.max(1, Math.min(limit, MAX_CHANGES_PAGE));
+
+        List<TicketRepository.ChangeRow> rows = ticketRepository.findChanges(orgId, from.xid(), from.id(),
+                watermark, size + 1);
+        boolean hasMore = rows.size() > size;
+        List<TicketRepository.ChangeRow> pageRows = hasMore ? rows.subList(0, size) : rows;
+
+        List<UUID> liveIds = pageRows.stream()
+                .filter(row -> !Boolean.TRUE.equals(row.getDeleted()))
+                .map(TicketRepository.ChangeRow::getId)
+                .toList();
+        Map<UUID, TicketResponse> liveById = liveIds.isEmpty()
+                ? Map.of()
+                : ticketRepository.findResponses(idIn(liveIds), Sort.unsorted(), 0, liveIds.size(), false)
+                        .stream()
+                        .collect(Collectors.toMap(TicketResponse::id, Function.identity()));
+        List<TicketChange> changes = pageRows.stream()
+                .map(row -> liveById.containsKey(row.getId())
+                        ? new TicketChange(row.getId(), false, liveById.get(row.getId()))
+                        : new TicketChange(row.getId(), true, null))
+                .toList();
+
+        TicketRepository.ChangeRow last = hasMore ? pageRows.get(size - 1) : null;
+        TicketChangeToken next = last != null
+                ? new TicketChangeToken(last.getChangeXid(), last.getId())
+                : TicketChangeToken.watermark(watermark);
+        return new TicketChangesResponse(changes, next.encode(), hasMore, stalled);
+    }
+
+    /**
+     * Served from {@link TicketDetailCache}; deliberately not transactional so a
+     * cache hit does not borrow a connection.
+     */
     public TicketResponse getTicket(UUID ticketId) {
-        return toResponse(findTicket(ticketId));
+        UUID orgId = getOrgId();
+        return ticketDetailCache.get(orgId, ticketId, () -> toResponse(findTicket(ticketId)));
     }
 
+    /**
+     * Ranked full-text search over title (weighted higher) and description.
+     * The last keyword is matched as a prefix so results update while typing.
+     */
     @Transactional(readOnly = true)
-    public List<TicketResponse> search(String keyword) {
+    public PagedResponse<TicketSearchResult> search(String keyword, Pageable pageable) {
         UUID orgId = getOrgId();
-        String term = keyword == null ? "" : keyword.trim();
-        if (term.isEmpty()) {
-            return List.of();
+        int size = pageable.getPageSize();
+        String query = toPrefixTsQuery(keyword);
+        if (query == null) {
+            return new PagedResponse<>(List.of(), new PageMeta(pageable.getPageNumber(), size, 0, 0));
         }
-        return ticketRepository.searchTickets(orgId, term)
-                .stream()
-                .map(this::toResponse)
+
+        List<TicketRepository.SearchHit> hits = ticketRepository.searchRanked(orgId, query, size,
+                pageable.getOffset());
+        List<UUID> hitIds = hits.stream().map(TicketRepository.SearchHit::getId).toList();
+        Map<UUID, TicketResponse> ticketsById = hitIds.isEmpty()
+                ? Map.of()
+                : ticketRepository.findResponses(idIn(hitIds), Sort.unsorted(), 0, hitIds.size(), false)
+                        .stream()
+                        .collect(Collectors.toMap(TicketResponse::id, Function.identity()));
+        List<TicketSearchResult> content = hits.stream()
+                .filter(hit -> ticketsById.containsKey(hit.getId()))
+                .map(hit -> new TicketSearchResult(
+                        ticketsById.get(hit.getId()),
+                        hit.getRank(),
+                        toHighlightHtml(hit.getHighlightedTitle()),
+                        toHighlightHtml(hit.getSnippet())))
                 .toList();
+
+        // A short first page already tells us the total; skip the count query.
+        long total = pageable.getOffset() == 0 && hits.size() < size
+                ? hits.size()
+                : ticketRepository.countSearchMatches(orgId, query);
+        return new PagedResponse<>(
+                content,
+                new PageMeta(pageable.getPageNumber(), size, total, (int) ((total + size - 1) / size)));
     }
 
-    @Transactional
+    /**
+     * Validation and key allocation run before the transaction opens: a block
+     * refill commits on its own connection, which must not be taken while this
+     * request already holds one.
+     */
     @LogAudit(action = "TICKET_CREATE", entityType = "TICKET")
     public TicketResponse createTicket(CreateTicketRequest request) {
         UUID orgId = getOrgId();
@@ -135,7 +356,12 @@ public class TicketService {
         String priority = normalizePriority(request.getPriority());
         validateAssignee(orgId, request.getAssigneeId());
 
-        long nextNumber = ticketRepository.countByOrgIdAndProjectId(orgId, project.getId()) + 1;
+        long nextNumber = ticketKeyAllocator.next(orgId, project.getId());
+        return transactionTemplate.execute(status -> insertTicket(orgId, project, request, priority, nextNumber));
+    }
+
+    private TicketResponse insertTicket(UUID orgId, ProjectEntity project, CreateTicketRequest request,
+            String priority, long nextNumber) {
         String ticketKey = project.getProjectKey() + "-" + nextNumber;
 
         OffsetDateTime now = OffsetDateTime.now();
@@ -154,14 +380,80 @@ public class TicketService {
         ticket.setUpdatedAt(now);
 
         TicketEntity saved = ticketRepository.save(ticket);
-        notifyAssignee(saved.getAssigneeId(), "TICKET_ASSIGNED",
-                "You were assigned ticket " + saved.getTicketKey());
+        savedFilterCounter.changed(orgId, null, TicketSnapshot.of(saved));
+        notifyAssignee(saved, "TICKET_ASSIGNED",
+                Map.of("ticket", saved.getTicketKey()));
         writeAudit("TICKET_CREATE", "TICKET", saved.getTicketKey(),
                 "Ticket %s created with priority %s, assignee %s"
                         .formatted(saved.getTicketKey(), priority, formatAssignee(saved.getAssigneeId())));
         return toResponse(saved);
     }
 
+    /**
+     * Create many tickets in one project. The project and assignees are
+     * validated once, keys come from a single counter reservation, and tickets,
+     * notifications and audit rows are written with JDBC batching. All-or-nothing:
+     * any invalid item rejects the whole request. As in
+     * {@link #createTicket(CreateTicketRequest)}, keys are reserved before the
+     * transaction opens.
+     */
+    public List<TicketResponse> createTickets(BulkCreateTicketsRequest request) {
+        UUID orgId = getOrgId();
+        ProjectEntity project = projectRepository.findByIdAndOrgId(request.getProjectId(), orgId)
+                .orElseThrow(() -> new ApiException(ErrorCode.NOT_FOUND, "Project not found",
+                        HttpStatus.NOT_FOUND.value()));
+
+        List<BulkCreateTicketsRequest.Item> items = request.getTickets();
+        List<String> priorities = items.stream().map(item -> normalizePriority(item.getPriority())).toList();
+        validateAssignees(orgId, items.stream()
+                .map(BulkCreateTicketsRequest.Item::getAssigneeId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+
+        long firstNumber = ticketKeyAllocator.reserve(orgId, project.getId(), items.size());
+        return transactionTemplate.execute(status -> insertTickets(orgId, project, items, priorities, firstNumber));
+    }
+
+    private List<TicketResponse> insertTickets(UUID orgId, ProjectEntity project,
+            List<BulkCreateTicketsRequest.Item> items, List<String> priorities, long firstNumber) {
+        UUID createdBy = parseUuidOrNull(getUserId());
+        OffsetDateTime now = OffsetDateTime.now();
+        List<TicketEntity> tickets = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            BulkCreateTicketsRequest.Item item = items.get(i);
+            TicketEntity ticket = new TicketEntity();
+            ticket.setId(UUID.randomUUID());
+            ticket.setOrgId(orgId);
+            ticket.setProjectId(project.getId());
+            ticket.setTicketKey(project.getProjectKey() + "-" + (firstNumber + i));
+            ticket.setTitle(item.getTitle());
+            ticket.setDescription(item.getDescription());
+            ticket.setStatus("OPEN");
+            ticket.setPriority(priorities.get(i));
+            ticket.setCreatedBy(createdBy);
+            ticket.setAssigneeId(item.getAssigneeId());
+            ticket.setCreatedAt(now);
+            ticket.setUpdatedAt(now);
+            tickets.add(ticket);
+        }
+        ticketRepository.insertAll(tickets);
+        savedFilterCounter.changed(orgId, tickets.stream()
+                .map(ticket -> new SavedFilterCounter.Change(null, TicketSnapshot.of(ticket)))
+                .toList());
+
+        notificationService.createNotifications(tickets.stream()
+                .filter(ticket -> ticket.getAssigneeId() != null)
+                .map(ticket -> new NotificationService.Draft(ticket.getAssigneeId(), "TICKET_ASSIGNED",
+                        Map.of("ticket", ticket.getTicketKey()), ticket.getProjectId(), ticket.getId()))
+                .toList());
+        writeAudits(tickets.stream()
+                .map(ticket -> auditEntry("TICKET_CREATE", "TICKET", ticket.getTicketKey(),
+                        "Ticket %s created with priority %s, assignee %s".formatted(ticket.getTicketKey(),
+                                ticket.getPriority(), formatAssignee(ticket.getAssigneeId()))))
+                .toList());
+        return tickets.stream().map(this::toResponse).toList();
+    }
+
     @Transactional
     @LogAudit(action = "TICKET_UPDATE", entityType = "TICKET")
     public TicketResponse updateTicket(UUID ticketId, UpdateTicketRequest request) {
@@ -174,6 +466,7 @@ public class TicketService {
         }
 
         TicketEntity ticket = findTicket(ticketId);
+        TicketSnapshot before = TicketSnapshot.of(ticket);
         StringBuilder changeSummary = new StringBuilder();
         String oldTitle = ticket.getTitle();
         String oldDescription = ticket.getDescription();
@@ -220,11 +513,13 @@ public class TicketService {
             ticket.setAssigneeId(null);
         }
         ticket.setUpdatedAt(OffsetDateTime.now());
+        ticketDetailCache.evict(ticket.getOrgId(), ticket.getId());
+        savedFilterCounter.changed(ticket.getOrgId(), before, TicketSnapshot.of(ticket));
 
         String changeText = changeSummary.toString().isBlank() ? "updated" : changeSummary.toString().trim();
         String auditDetails = "Ticket %s %s".formatted(ticket.getTicketKey(), changeText);
-        notifyAssignee(ticket.getAssigneeId(), "TICKET_UPDATED",
-                "Ticket " + ticket.getTicketKey() + " updated: " + changeText);
+        notifyAssignee(ticket, "TICKET_UPDATED",
+                Map.of("ticket", ticket.getTicketKey(), "changes", changeText));
         writeAudit("TICKET_UPDATE", "TICKET", ticket.getTicketKey(), auditDetails);
         return toResponse(ticket);
     }
@@ -238,15 +533,75 @@ public class TicketService {
         if (!isValidTransition(ticket.getStatus(), nextStatus)) {
             throw new ApiException(ErrorCode.BAD_REQUEST, "Invalid status transition", HttpStatus.BAD_REQUEST.value());
         }
+        TicketSnapshot before = TicketSnapshot.of(ticket);
         ticket.setStatus(nextStatus);
         ticket.setUpdatedAt(OffsetDateTime.now());
-        notifyAssignee(ticket.getAssigneeId(), "TICKET_STATUS",
-                "Ticket " + ticket.getTicketKey() + " moved " + currentStatus + " -> " + nextStatus);
+        ticketDetailCache.evict(ticket.getOrgId(), ticket.getId());
+        savedFilterCounter.changed(ticket.getOrgId(), before, TicketSnapshot.of(ticket));
+        notifyAssignee(ticket, "TICKET_STATUS",
+                Map.of("ticket", ticket.getTicketKey(), "from", currentStatus, "to", nextStatus));
         writeAudit("TICKET_TRANSITION", "TICKET", ticket.getTicketKey(),
                 "Ticket %s status: %s -> %s".formatted(ticket.getTicketKey(), currentStatus, nextStatus));
         return toResponse(ticket);
     }
 
+    /**
+     * Move many tickets to one status. Targets are loaded (and row-locked) with
+     * one IN query, transitions are validated in memory, valid ones are applied
+     * with a single UPDATE, and notifications/audits are batch-inserted. Invalid
+     * or missing tickets do not fail the request; each gets its own outcome.
+     */
+    @Transactional
+    public List<BulkTicketResult> transitionTickets(BulkTransitionTicketsRequest request) {
+        UUID orgId = getOrgId();
+        String nextStatus = normalizeStatus(request.getStatus());
+        Set<UUID> requested = new LinkedHashSet<>(request.getTicketIds());
+        Map<UUID, TicketEntity> ticketsById = ticketRepository.findActiveForUpdate(orgId, requested).stream()
+                .collect(Collectors.toMap(TicketEntity::getId, Function.identity()));
+
+        List<BulkTicketResult> results = new ArrayList<>(requested.size());
+        List<TicketEntity> changed = new ArrayList<>();
+        for (UUID ticketId : requested) {
+            TicketEntity ticket = ticketsById.get(ticketId);
+            if (ticket == null) {
+                results.add(new BulkTicketResult(ticketId, null, BulkTicketResult.Outcome.NOT_FOUND, null));
+            } else if (nextStatus.equals(ticket.getStatus())) {
+                results.add(new BulkTicketResult(ticketId, ticket.getTicketKey(),
+                        BulkTicketResult.Outcome.UNCHANGED, ticket.getStatus()));
+            } else if (!isValidTransition(ticket.getStatus(), nextStatus)) {
+                results.add(new BulkTicketResult(ticketId, ticket.getTicketKey(),
+                        BulkTicketResult.Outcome.INVALID_TRANSITION, ticket.getStatus()));
+            } else {
+                results.add(new BulkTicketResult(ticketId, ticket.getTicketKey(),
+                        BulkTicketResult.Outcome.UPDATED, nextStatus));
+                changed.add(ticket);
+            }
+        }
+        if (changed.isEmpty()) {
+            return results;
+        }
+
+        OffsetDateTime now = OffsetDateTime.now();
+        ticketRepository.updateStatus(orgId, changed.stream().map(TicketEntity::getId).toList(), nextStatus, now);
+        changed.forEach(ticket -> ticketDetailCache.evict(orgId, ticket.getId()));
+        savedFilterCounter.changed(orgId, changed.stream()
+                .map(TicketSnapshot::of)
+                .map(before -> new SavedFilterCounter.Change(before, before.withStatus(nextStatus, now)))
+                .toList());
+        notificationService.createNotifications(changed.stream()
+                .filter(ticket -> ticket.getAssigneeId() != null)
+                .map(ticket -> new NotificationService.Draft(ticket.getAssigneeId(), "TICKET_STATUS",
+                        Map.of("ticket", ticket.getTicketKey(), "from", ticket.getStatus(), "to", nextStatus),
+                        ticket.getProjectId(), ticket.getId()))
+                .toList());
+        writeAudits(changed.stream()
+                .map(ticket -> auditEntry("TICKET_TRANSITION", "TICKET", ticket.getTicketKey(),
+                        "Ticket %s status: %s -> %s".formatted(ticket.getTicketKey(), ticket.getStatus(),
+                                nextStatus)))
+                .toList());
+        return results;
+    }
+
     /**
      * Soft delete a ticket with cascade to comments and attachments.
      * Pre-conditions:
@@ -303,25 +658,25 @@ public class TicketService {
         attachmentRepository.softDeleteByTicketId(ticketId, now, userId);
 
         // Soft delete the ticket
+        TicketSnapshot before = TicketSnapshot.of(ticket);
         ticket.setDeletedAt(now);
         ticket.setDeletedBy(userId);
         ticket.setPurgeAfter(purgeAfter);
         ticket.setDeletedReason(reason);
         ticket.setUpdatedAt(now);
+        ticketDetailCache.evict(ticket.getOrgId(), ticket.getId());
+        savedFilterCounter.changed(ticket.getOrgId(), before, null);
 
         // Notify assignee and creator
-        String purgeDate = purgeAfter.toLocalDate().toString();
-        long daysRemaining = 30; // Initial value
+        Map<String, String> params = Map.of(
+                "ticket", ticket.getTicketKey(),
+                "days", "30", // Initial value
+                "purgeDate", purgeAfter.toLocalDate().toString());
 
-        notifyAssignee(ticket.getAssigneeId(), "TICKET_DELETED",
-                "Ticket " + ticket.getTicketKey() + " has been moved to trash. " +
-                        "It will be permanently deleted in " + daysRemaining + " days (" + purgeDate
-                        + "). [View in Trash](/trash?type=ticket)");
+        notifyAssignee(ticket, "TICKET_DELETED", params);
         if (ticket.getCreatedBy() != null && !ticket.getCreatedBy().equals(ticket.getAssigneeId())) {
-            notificationService.createNotification(ticket.getCreatedBy(), "TICKET_DELETED",
-                    "Ticket " + ticket.getTicketKey() + " has been moved to trash. " +
-                            "It will be permanently deleted in " + daysRemaining + " days (" + purgeDate
-                            + "). [View in Trash](/trash?type=ticket)");
+            notificationService.createNotification(ticket.getCreatedBy(), "TICKET_DELETED", params,
+                    ticket.getProjectId(), ticket.getId());
         }
 
         writeAudit("TICKET_SOFT_DELETE", "TICKET", ticket.getTicketKey(),
@@ -370,15 +725,15 @@ public class TicketService {
         ticket.setRestoredAt(now);
         ticket.setRestoredBy(userId);
         ticket.setUpdatedAt(now);
+        ticketDetailCache.evict(ticket.getOrgId(), ticket.getId());
+        savedFilterCounter.changed(ticket.getOrgId(), null, TicketSnapshot.of(ticket));
 
         // Notify assignee and creator
-        notifyAssignee(ticket.getAssigneeId(), "TICKET_RESTORED",
-                "Ticket " + ticket.getTicketKey() + " has been restored from trash. [View Ticket](/tickets/"
-                        + ticket.getId() + ")");
+        Map<String, String> params = Map.of("ticket", ticket.getTicketKey());
+        notifyAssignee(ticket, "TICKET_RESTORED", params);
         if (ticket.getCreatedBy() != null && !ticket.getCreatedBy().equals(ticket.getAssigneeId())) {
-            notificationService.createNotification(ticket.getCreatedBy(), "TICKET_RESTORED",
-                    "Ticket " + ticket.getTicketKey() + " has been restored from trash. [View Ticket](/tickets/"
-                            + ticket.getId() + ")");
+            notificationService.createNotification(ticket.getCreatedBy(), "TICKET_RESTORED", params,
+                    ticket.getProjectId(), ticket.getId());
         }
 
         writeAudit("TICKET_RESTORE", "TICKET", ticket.getTicketKey(),
@@ -397,11 +752,12 @@ public class TicketService {
                 .toList();
     }
 
-    private void notifyAssignee(UUID assigneeId, String type, String content) {
-        if (assigneeId == null) {
+    private void notifyAssignee(TicketEntity ticket, String type, Map<String, String> params) {
+        if (ticket.getAssigneeId() == null) {
             return;
         }
-        notificationService.createNotification(assigneeId, type, content);
+        notificationService.createNotification(ticket.getAssigneeId(), type, params, ticket.getProjectId(),
+                ticket.getId());
     }
 
     private TicketEntity findTicket(UUID ticketId) {
@@ -437,23 +793,55 @@ public class TicketService {
         }
     }
 
+    /**
+     * Load all assignee memberships with one IN query and apply the same checks
+     * as {@link #validateAssignee(UUID, UUID)}.
+     */
+    private void validateAssignees(UUID orgId, Set<UUID> assigneeIds) {
+        if (assigneeIds.isEmpty()) {
+            return;
+        }
+        Map<UUID, OrgMembershipEntity> memberships = membershipRepository
+                .findAllByIdOrgIdAndIdUserIdIn(orgId, assigneeIds)
+                .stream()
+                .collect(Collectors.toMap(m -> m.getId().getUserId(), Function.identity()));
+        for (UUID assigneeId : assigneeIds) {
+            OrgMembershipEntity membership = memberships.get(assigneeId);
+            if (membership == null) {
+                throw new ApiException(ErrorCode.NOT_FOUND, "Assignee not in org", HttpStatus.NOT_FOUND.value());
+            }
+            if (membership.getStatus() != null && "DISABLED".equalsIgnoreCase(membership.getStatus())) {
+                throw new ApiException(ErrorCode.BAD_REQUEST, "Assignee is disabled", HttpStatus.BAD_REQUEST.value());
+            }
+        }
+    }
+
     private void writeAudit(String action, String entityType, String entityId, String details) {
-        TenantContext ctx = TenantContextHolder.getRequired();
         try {
-            AuditLogEntity log = new AuditLogEntity();
-            log.setId(UUID.randomUUID());
-            log.setTenantId(UUID.fromString(ctx.orgId()));
-            log.setActorUserId(parseUuidOrNull(ctx.userId()));
-            log.setAction(action);
-            log.setEntityType(entityType);
-            log.setEntityId(entityId);
-            log.setDetails(details);
-            log.setCreatedAt(OffsetDateTime.now());
-            auditLogRepository.save(log);
+            auditLogRepository.save(auditEntry(action, entityType, entityId, details));
         } catch (Exception ignored) {
         }
     }
 
+    // Not best-effort like writeAudit: insertAll flushes, and a failed flush already dooms the transaction
+    private void writeAudits(List<AuditLogEntity> entries) {
+        auditLogRepository.insertAll(entries);
+    }
+
+    private AuditLogEntity auditEntry(String action, String entityType, String entityId, String details) {
+        TenantContext ctx = TenantContextHolder.getRequired();
+        AuditLogEntity log = new AuditLogEntity();
+        log.setId(UUID.randomUUID());
+        log.setTenantId(UUID.fromString(ctx.orgId()));
+        log.setActorUserId(parseUuidOrNull(ctx.userId()));
+        log.setAction(action);
+        log.setEntityType(entityType);
+        log.setEntityId(entityId);
+        log.setDetails(details);
+        log.setCreatedAt(OffsetDateTime.now());
+        return log;
+    }
+
     private String formatAssignee(UUID id) {
         return id == null ? "Unassigned" : id.toString();
     }
@@ -487,6 +875,39 @@ public class TicketService {
         return normalized;
     }
 
+    /**
+     * Turn free text into a to_tsquery expression: word tokens AND-ed together,
+     * last token as prefix. Only letters/digits survive, so the result is always
+     * valid tsquery syntax. Returns null when nothing searchable remains.
+     */
+    static String toPrefixTsQuery(String keyword) {
+        if (keyword == null) {
+            return null;
+        }
+        List<String> tokens = SEARCH_TOKEN.matcher(keyword.toLowerCase(Locale.ROOT))
+                .results()
+                .map(MatchResult::group)
+                .limit(MAX_SEARCH_TOKENS)
+                .toList();
+        if (tokens.isEmpty()) {
+            return null;
+        }
+        return String.join(" & ", tokens) + ":*";
+    }
+
+    /**
+     * HTML-escapes a ts_headline fragment and marks its matches with
+     * &lt;mark&gt; tags, the only markup in the result.
+     */
+    static String toHighlightHtml(String fragment) {
+        if (fragment == null) {
+            return null;
+        }
+        return HtmlUtils.htmlEscape(fragment, StandardCharsets.UTF_8.name())
+                .replace(MATCH_START, "<mark>")
+                .replace(MATCH_END, "</mark>");
+    }
+
     private boolean isValidTransition(String current, String next) {
         if (current == null) {
             return false;
@@ -502,6 +923,54 @@ public class TicketService {
         };
     }
 
+    /**
+     * Filters shared by list, export and other read paths: current org, not in
+     * trash, optional status/priority/project.
+     */
+    Specification<TicketEntity> listSpec(String status, String priority, UUID projectId) {
+        UUID orgId = getOrgId();
+        Specification<TicketEntity> spec = (root, query, cb) -> cb.conjunction();
+        spec = spec.and(orgEquals(orgId));
+        // Exclude deleted tickets
+        spec = spec.and(notDeleted());
+        Specification<TicketEntity> statusSpec = statusEquals(status);
+        if (statusSpec != null) {
+            spec = spec.and(statusSpec);
+        }
+        Specification<TicketEntity> prioritySpec = priorityEquals(priority);
+        if (prioritySpec != null) {
+            spec = spec.and(prioritySpec);
+        }
+        Specification<TicketEntity> projectSpec = projectEquals(projectId);
+        if (projectSpec != null) {
+            spec = spec.and(projectSpec);
+        }
+        return spec;
+    }
+
+    /**
+     * Seek predicate for keyset paging. Written as a range on created_at plus a
+     * tie-break on id so the planner can use idx_tickets_org_created_at.
+     */
+    private Specification<TicketEntity> seekAfter(TicketCursor cursor) {
+        return (root, query, cb) -> {
+            Path<OffsetDateTime> createdAt = root.get("createdAt");
+            Path<UUID> id = root.get("id");
+            if (cursor.direction() == Sort.Direction.ASC) {
+                return cb.and(
+                        cb.greaterThanOrEqualTo(createdAt, cursor.createdAt()),
+                        cb.or(cb.greaterThan(createdAt, cursor.createdAt()), cb.greaterThan(id, cursor.id())));
+            }
+            return cb.and(
+                    cb.lessThanOrEqualTo(createdAt, cursor.createdAt()),
+                    cb.or(cb.lessThan(createdAt, cursor.createdAt()), cb.lessThan(id, cursor.id())));
+        };
+    }
+
+    private Specification<TicketEntity> idIn(List<UUID> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
     private Specification<TicketEntity> orgEquals(UUID orgId) {
         return (root, query, cb) -> cb.equal(root.get("orgId"), orgId);
     }
@@ -510,7 +979,8 @@ public class TicketService {
         if (status == null || status.isBlank()) {
             return null;
         }
-        String normalized = status.toUpperCase(Locale.ROOT);
+        // Unknown values would fail in the smallint converter mid-query; reject them up front
+        String normalized = normalizeStatus(status);
         return (root, query, cb) -> cb.equal(root.get("status"), normalized);
     }
 
@@ -518,7 +988,7 @@ public class TicketService {
         if (priority == null || priority.isBlank()) {
             return null;
         }
-        String normalized = priority.toUpperCase(Locale.ROOT);
+        String normalized = normalizePriority(priority);
         return (root, query, cb) -> cb.equal(root.get("priority"), normalized);
     }
 
@@ -0,0 +1,39 @@
+package com.jiralite.backend.service;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import com.jiralite.backend.entity.TicketEntity;
+
+/**
+ * The ticket attributes a query can filter on, captured before and after a
+ * write so saved-filter counts can be adjusted without re-querying.
+ */
+record TicketSnapshot(
+        UUID projectId,
+        String ticketKey,
+        String title,
+        String status,
+        String priority,
+        UUID assigneeId,
+        UUID createdBy,
+        OffsetDateTime createdAt,
+        OffsetDateTime updatedAt) {
+
+    /**
+     * Snapshot of a live ticket; null for a deleted one (it matches no filter).
+     */
+    static TicketSnapshot of(TicketEntity ticket) {
+        if (ticket.getDeletedAt() != null) {
+            return null;
+        }
+        return new TicketSnapshot(ticket.getProjectId(), ticket.getTicketKey(), ticket.getTitle(),
+                ticket.getStatus(), ticket.getPriority(), ticket.getAssigneeId(), ticket.getCreatedBy(),
+                ticket.getCreatedAt(), ticket.getUpdatedAt());
+    }
+
+    TicketSnapshot withStatus(String nextStatus, OffsetDateTime now) {
+        return new TicketSnapshot(projectId, ticketKey, title, nextStatus, priority, assigneeId, createdBy,
+                createdAt, now);
+    }
+}
@@ -1,6 +1,8 @@
 package com.jiralite.backend.service;
 
 import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -12,6 +14,7 @@ import com.jiralite.backend.audit.LogAudit;
 import com.jiralite.backend.dto.ErrorCode;
 import com.jiralite.backend.dto.UpdateProfileRequest;
 import com.jiralite.backend.dto.AvatarPresignResponse;
+import com.jiralite.backend.dto.TicketBundleResponse;
 import com.jiralite.backend.dto.UserProfileResponse;
 import com.jiralite.backend.entity.UserEntity;
 import com.jiralite.backend.exception.ApiException;
@@ -86,6 +89,25 @@ public class UserService {
                 .map(key -> s3PresignService.presignDownload(key, null, null).url().toString());
     }
 
+    /**
+     * Display name and presigned avatar URL for each known user, loaded with
+     * one query.
+     */
+    @Transactional(readOnly = true)
+    public List<TicketBundleResponse.User> summaries(Collection<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        return userRepository.findAllById(userIds).stream()
+                .map(user -> new TicketBundleResponse.User(
+                        user.getId(),
+                        user.getDisplayName(),
+                        user.getAvatarS3Key() == null || user.getAvatarS3Key().isBlank() ? null
+                                : s3PresignService.presignDownload(user.getAvatarS3Key(), null, null).url()
+                                        .toString()))
+                .toList();
+    }
+
     private String buildKey(UUID userId, String fileName) {
         return "avatars/" + userId + "/" + fileName;
     }
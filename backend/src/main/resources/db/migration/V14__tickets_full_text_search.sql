@@ -0,0 +1,13 @@
+-- V14: Full-text search for tickets
+-- - search_vector is generated from title (weight A) and description (weight B)
+-- - GIN index serves @@ matches; replaces the unindexable lower(...) LIKE '%kw%' scan
+-- Note: adding a STORED generated column rewrites the tickets table once.
+
+ALTER TABLE tickets
+  ADD COLUMN IF NOT EXISTS search_vector tsvector
+  GENERATED ALWAYS AS (
+    setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('english', coalesce(description, '')), 'B')
+  ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_tickets_search_vector ON tickets USING GIN (search_vector);
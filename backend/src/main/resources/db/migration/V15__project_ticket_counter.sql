@@ -0,0 +1,17 @@
+-- V15: Per-project ticket number counter
+-- Replaces "count(*) + 1" key derivation, which scanned on every create,
+-- collided under concurrent creates and reused numbers after purges.
+
+ALTER TABLE projects
+  ADD COLUMN IF NOT EXISTS next_ticket_number BIGINT NOT NULL DEFAULT 1;
+
+-- Seed from the highest numeric suffix already issued per project
+UPDATE projects p
+SET next_ticket_number = seeded.max_number + 1
+FROM (
+  SELECT project_id, max(substring(ticket_key FROM '-([0-9]+)$')::bigint) AS max_number
+  FROM tickets
+  GROUP BY project_id
+) seeded
+WHERE seeded.project_id = p.id
+  AND seeded.max_number IS NOT NULL;
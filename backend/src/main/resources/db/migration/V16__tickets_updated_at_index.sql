@@ -0,0 +1,4 @@
+-- V16: Version stamp for conditional GET on ticket lists
+-- count(*) + max(updated_at) per org is answered from this index alone.
+
+CREATE INDEX IF NOT EXISTS idx_tickets_org_updated_at ON tickets(org_id, updated_at);
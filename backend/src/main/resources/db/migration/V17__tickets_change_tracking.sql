@@ -0,0 +1,28 @@
+-- V17: Change tracking for GET /tickets/changes
+-- Every insert/update stamps the row with the writing transaction id (xid8).
+-- Readers only consume rows from transactions older than the oldest one still
+-- running (pg_snapshot_xmin), so a slow transaction committing late can never
+-- be skipped by a cursor that has already moved past it. The trigger catches
+-- set-based updates and cascades as well as entity writes.
+-- The column is added nullable and backfilled before the default and NOT NULL
+-- are set: a volatile default on ADD COLUMN would rewrite the whole table.
+
+ALTER TABLE tickets ADD COLUMN IF NOT EXISTS change_xid xid8;
+
+CREATE OR REPLACE FUNCTION tickets_stamp_change_xid() RETURNS trigger AS $$
+BEGIN
+    NEW.change_xid := pg_current_xact_id();
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_tickets_change_xid
+    BEFORE INSERT OR UPDATE ON tickets
+    FOR EACH ROW EXECUTE FUNCTION tickets_stamp_change_xid();
+
+UPDATE tickets SET change_xid = pg_current_xact_id() WHERE change_xid IS NULL;
+
+ALTER TABLE tickets ALTER COLUMN change_xid SET DEFAULT pg_current_xact_id();
+ALTER TABLE tickets ALTER COLUMN change_xid SET NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_tickets_org_change_xid ON tickets(org_id, change_xid, id);
@@ -0,0 +1,6 @@
+-- V18: Kanban board (one window-function query per project board)
+-- Partial index: the board only shows tickets that are not in trash.
+
+CREATE INDEX IF NOT EXISTS idx_tickets_board
+    ON tickets(org_id, project_id, status, created_at DESC, id)
+    WHERE deleted_at IS NULL;
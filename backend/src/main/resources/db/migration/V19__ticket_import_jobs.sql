@@ -0,0 +1,30 @@
+-- V19: Ticket import jobs (POST /tickets/imports)
+-- One row per uploaded file. The worker loads tickets, comments and attachment
+-- metadata with COPY, committing in chunks, and records progress here from a
+-- separate connection, so the status endpoint can be polled while it runs.
+
+CREATE TABLE IF NOT EXISTS ticket_import_jobs (
+  id                    UUID PRIMARY KEY,
+  org_id                UUID NOT NULL,
+  project_id            UUID NOT NULL,
+  created_by            UUID,
+  format                VARCHAR(16) NOT NULL,
+  file_name             TEXT,
+  status                VARCHAR(16) NOT NULL,
+  rows_read             BIGINT NOT NULL DEFAULT 0,
+  rows_rejected         BIGINT NOT NULL DEFAULT 0,
+  tickets_imported      BIGINT NOT NULL DEFAULT 0,
+  comments_imported     BIGINT NOT NULL DEFAULT 0,
+  attachments_imported  BIGINT NOT NULL DEFAULT 0,
+  errors                TEXT,
+  created_at            TIMESTAMPTZ NOT NULL DEFAULT now(),
+  started_at            TIMESTAMPTZ,
+  finished_at           TIMESTAMPTZ,
+  updated_at            TIMESTAMPTZ NOT NULL DEFAULT now(),
+
+  CONSTRAINT fk_ticket_import_jobs_org FOREIGN KEY (org_id) REFERENCES orgs(id) ON DELETE CASCADE,
+  CONSTRAINT fk_ticket_import_jobs_project FOREIGN KEY (project_id) REFERENCES projects(id) ON DELETE CASCADE,
+  CONSTRAINT ck_ticket_import_jobs_status CHECK (status IN ('PENDING', 'RUNNING', 'COMPLETED', 'FAILED'))
+);
+
+CREATE INDEX IF NOT EXISTS idx_ticket_import_jobs_org_created ON ticket_import_jobs(org_id, created_at DESC);
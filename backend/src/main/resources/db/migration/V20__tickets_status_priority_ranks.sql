@@ -0,0 +1,37 @@
+-- V20: Store ticket status and priority as smallint ranks
+-- priority_rank: LOW=1, MEDIUM=2, HIGH=3, URGENT=4 (DESC = most urgent first)
+-- status_rank:   OPEN=1, IN_PROGRESS=2, DONE=3, CANCELLED=4 (workflow order)
+-- Sorting by rank matches business order, so "most urgent first" lists can be
+-- read straight from an index instead of sorting on a CASE expression. The
+-- entity keeps exposing the names (TicketStatusConverter / TicketPriorityConverter).
+-- Existing indexes on status are rebuilt by the type change and follow the rename.
+
+ALTER TABLE tickets DROP CONSTRAINT IF EXISTS ck_tickets_status;
+ALTER TABLE tickets DROP CONSTRAINT IF EXISTS ck_tickets_priority;
+
+-- Single ALTER so the table is rewritten once
+ALTER TABLE tickets
+    ALTER COLUMN status DROP DEFAULT,
+    ALTER COLUMN priority DROP DEFAULT,
+    ALTER COLUMN status TYPE smallint USING CASE status
+        WHEN 'OPEN' THEN 1 WHEN 'IN_PROGRESS' THEN 2 WHEN 'DONE' THEN 3 WHEN 'CANCELLED' THEN 4 END,
+    ALTER COLUMN priority TYPE smallint USING CASE priority
+        WHEN 'LOW' THEN 1 WHEN 'MEDIUM' THEN 2 WHEN 'HIGH' THEN 3 WHEN 'URGENT' THEN 4 END;
+
+ALTER TABLE tickets RENAME COLUMN status TO status_rank;
+ALTER TABLE tickets RENAME COLUMN priority TO priority_rank;
+
+ALTER TABLE tickets
+    ALTER COLUMN status_rank SET DEFAULT 1,
+    ALTER COLUMN priority_rank SET DEFAULT 2,
+    ADD CONSTRAINT ck_tickets_status_rank CHECK (status_rank BETWEEN 1 AND 4),
+    ADD CONSTRAINT ck_tickets_priority_rank CHECK (priority_rank BETWEEN 1 AND 4);
+
+-- Priority-ordered lists (org-wide and per project); trash is never listed
+CREATE INDEX IF NOT EXISTS idx_tickets_org_priority
+    ON tickets(org_id, priority_rank DESC, created_at DESC)
+    WHERE deleted_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_tickets_org_project_priority
+    ON tickets(org_id, project_id, priority_rank DESC, created_at DESC)
+    WHERE deleted_at IS NULL;
@@ -0,0 +1,7 @@
+-- V21: Index for "assignee = X" ticket queries (GET /tickets?q=...)
+-- Together with the status, project, priority and created/updated indexes this
+-- lets the query planner treat an assignee condition as index-aligned.
+
+CREATE INDEX IF NOT EXISTS idx_tickets_org_assignee
+    ON tickets(org_id, assignee_id)
+    WHERE deleted_at IS NULL;
@@ -0,0 +1,24 @@
+-- V22: Saved ticket filters (sidebar views) with cached result counts
+-- query uses the GET /tickets?q= language; "me" resolves to user_id.
+-- match_count is adjusted right after each TicketService write commits and
+-- recounted periodically (counted_at); time_relative filters ("created >= -7d")
+-- drift with the clock and are recounted more often.
+
+CREATE TABLE IF NOT EXISTS saved_filters (
+  id             UUID PRIMARY KEY,
+  org_id         UUID NOT NULL,
+  user_id        UUID NOT NULL,
+  name           VARCHAR(100) NOT NULL,
+  query          TEXT NOT NULL,
+  time_relative  BOOLEAN NOT NULL DEFAULT FALSE,
+  match_count    BIGINT NOT NULL DEFAULT 0,
+  counted_at     TIMESTAMPTZ,
+  created_at     TIMESTAMPTZ NOT NULL DEFAULT now(),
+  updated_at     TIMESTAMPTZ NOT NULL DEFAULT now(),
+
+  CONSTRAINT fk_saved_filters_org FOREIGN KEY (org_id) REFERENCES orgs(id) ON DELETE CASCADE,
+  CONSTRAINT uq_saved_filters_user_name UNIQUE (org_id, user_id, name)
+);
+
+CREATE INDEX IF NOT EXISTS idx_saved_filters_org ON saved_filters(org_id);
+CREATE INDEX IF NOT EXISTS idx_saved_filters_counted ON saved_filters(counted_at);
@@ -0,0 +1,13 @@
+-- V23: Notification outbox
+-- A row is written next to each notification in the business transaction and
+-- only becomes visible on commit. NotificationDispatcher claims rows in id order
+-- (FOR UPDATE SKIP LOCKED), deletes them and pushes the notifications to SSE,
+-- so rolled-back notifications are never delivered and ticket writes never wait
+-- on a browser connection.
+
+CREATE TABLE IF NOT EXISTS notification_outbox (
+  id               BIGSERIAL PRIMARY KEY,
+  notification_id  UUID NOT NULL,
+  user_id          UUID NOT NULL,
+  created_at       TIMESTAMPTZ NOT NULL DEFAULT now()
+);
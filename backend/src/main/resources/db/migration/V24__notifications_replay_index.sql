@@ -0,0 +1,5 @@
+-- V24: Keyset index for SSE Last-Event-ID replay
+-- Replay reads a user's notifications after (created_at, id) in ascending order.
+
+CREATE INDEX IF NOT EXISTS idx_notifications_tenant_user_created_id
+    ON notifications(tenant_id, user_id, created_at, id);
@@ -0,0 +1,10 @@
+-- V25: Coalesced notification digests
+-- Ticket notifications record their ticket so bursts of activity on one ticket
+-- can be merged into a single unread row; event_count says how many it covers.
+
+ALTER TABLE notifications ADD COLUMN IF NOT EXISTS ticket_id UUID;
+ALTER TABLE notifications ADD COLUMN IF NOT EXISTS event_count INT NOT NULL DEFAULT 1;
+
+CREATE INDEX IF NOT EXISTS idx_notifications_open_digest
+    ON notifications(tenant_id, user_id, ticket_id, created_at DESC)
+    WHERE is_read = FALSE AND ticket_id IS NOT NULL;
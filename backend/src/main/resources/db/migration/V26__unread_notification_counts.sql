@@ -0,0 +1,11 @@
+-- V26: Per-member unread notification counter
+-- Adjusted right after the transaction that inserts notifications or marks
+-- them read commits; reconciled from idx_notifications_user_read_created_at
+-- when a notification stream connects.
+
+ALTER TABLE org_memberships ADD COLUMN IF NOT EXISTS unread_notifications INT NOT NULL DEFAULT 0;
+
+UPDATE org_memberships m
+SET unread_notifications = (
+    SELECT COUNT(*) FROM notifications n
+    WHERE n.user_id = m.user_id AND n.is_read = FALSE AND n.tenant_id = m.org_id);
@@ -0,0 +1,74 @@
+-- V27: Monthly range partitions for notifications, plus per-org retention
+-- notifications becomes PARTITION BY RANGE (created_at) with one partition per
+-- UTC month (notifications_pYYYYMM) and a default partition as a safety net.
+-- NotificationPartitionScheduler creates upcoming months ahead of time and
+-- drops months older than the retention period, so expiry is a metadata
+-- operation rather than a DELETE over the whole table. Orgs may shorten (not
+-- extend) the default retention with orgs.notification_retention_days; their
+-- expired rows are deleted from the partitions still kept.
+--
+-- The primary key must contain the partition key, so it becomes (id, created_at).
+-- Coalescing moves created_at forward; Postgres moves such rows across
+-- partitions on UPDATE. Existing rows are copied over in this migration.
+
+BEGIN;
+
+ALTER TABLE orgs ADD COLUMN IF NOT EXISTS notification_retention_days INT
+    CHECK (notification_retention_days > 0);
+
+ALTER TABLE notifications RENAME TO notifications_unpartitioned;
+ALTER TABLE notifications_unpartitioned RENAME CONSTRAINT notifications_pkey TO notifications_unpartitioned_pkey;
+ALTER INDEX idx_notifications_user_read_created_at RENAME TO idx_notifications_unpartitioned_user_read;
+ALTER INDEX idx_notifications_tenant_id RENAME TO idx_notifications_unpartitioned_tenant;
+ALTER INDEX idx_notifications_tenant_user_created_id RENAME TO idx_notifications_unpartitioned_replay;
+ALTER INDEX idx_notifications_open_digest RENAME TO idx_notifications_unpartitioned_digest;
+
+CREATE TABLE notifications (
+  id           UUID NOT NULL DEFAULT gen_random_uuid(),
+  user_id      UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+  tenant_id    UUID,
+  type         VARCHAR(50) NOT NULL,
+  content      TEXT NOT NULL,
+  is_read      BOOLEAN NOT NULL DEFAULT FALSE,
+  created_at   TIMESTAMPTZ NOT NULL DEFAULT now(),
+  ticket_id    UUID,
+  event_count  INT NOT NULL DEFAULT 1,
+  PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE notifications_default PARTITION OF notifications DEFAULT;
+
+-- Months holding existing rows through three months ahead
+DO $$
+DECLARE
+  month_start TIMESTAMPTZ;
+  last_month  TIMESTAMPTZ := date_trunc('month', now() AT TIME ZONE 'UTC') AT TIME ZONE 'UTC' + INTERVAL '3 months';
+BEGIN
+  SELECT COALESCE(date_trunc('month', MIN(created_at) AT TIME ZONE 'UTC') AT TIME ZONE 'UTC',
+                  date_trunc('month', now() AT TIME ZONE 'UTC') AT TIME ZONE 'UTC')
+    INTO month_start
+    FROM notifications_unpartitioned;
+  WHILE month_start <= last_month LOOP
+    EXECUTE format('CREATE TABLE notifications_p%s PARTITION OF notifications FOR VALUES FROM (%L) TO (%L)',
+                   to_char(month_start AT TIME ZONE 'UTC', 'YYYYMM'),
+                   month_start, month_start + INTERVAL '1 month');
+    month_start := month_start + INTERVAL '1 month';
+  END LOOP;
+END $$;
+
+INSERT INTO notifications (id, user_id, tenant_id, type, content, is_read, created_at, ticket_id, event_count)
+SELECT id, user_id, tenant_id, type, content, is_read, created_at, ticket_id, event_count
+FROM notifications_unpartitioned;
+
+DROP TABLE notifications_unpartitioned;
+
+-- Created on the parent, so every current and future partition gets them
+CREATE INDEX idx_notifications_user_read_created_at
+    ON notifications (user_id, is_read, created_at DESC);
+CREATE INDEX idx_notifications_tenant_user_created_id
+    ON notifications (tenant_id, user_id, created_at, id);
+CREATE INDEX idx_notifications_open_digest
+    ON notifications (tenant_id, user_id, ticket_id, created_at DESC)
+    WHERE is_read = FALSE AND ticket_id IS NOT NULL;
+
+COMMIT;
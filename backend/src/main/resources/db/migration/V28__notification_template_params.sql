@@ -0,0 +1,8 @@
+-- V28: Templated notification storage
+-- New notifications store only their type (the template code) and a small
+-- JSON object of parameters (ticket key, dates, ...); text is rendered per
+-- locale when read (NotificationTemplates). content stays for rows written
+-- before this migration, which are shown as stored.
+
+ALTER TABLE notifications ADD COLUMN IF NOT EXISTS params TEXT;
+ALTER TABLE notifications ALTER COLUMN content DROP NOT NULL;
@@ -0,0 +1,12 @@
+-- V29: Per-member notification preferences
+-- Muted and digest-only notification types are bitmasks over the type codes
+-- in NotificationPreferences.TYPES (bit i = TYPES[i]; append-only). Muted
+-- projects are a small array. All default to "everything", so members who
+-- never set preferences cost nothing; NotificationPreferences caches the
+-- members of an org who did and consults them before any notification row
+-- is written.
+
+ALTER TABLE org_memberships
+    ADD COLUMN IF NOT EXISTS notification_muted_types BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS notification_digest_types BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS notification_muted_projects UUID[];
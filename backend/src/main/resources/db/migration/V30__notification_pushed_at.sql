@@ -0,0 +1,6 @@
+-- V30: Last push of a notification digest
+-- A digest that keeps coalescing new events is pushed again at most once per
+-- coalesce window; pushed_at records when it was last queued for SSE delivery.
+-- Nullable with no default, so adding it does not rewrite the partitions.
+
+ALTER TABLE notifications ADD COLUMN IF NOT EXISTS pushed_at TIMESTAMPTZ;
@@ -1,11 +1,16 @@
 package com.jiralite.backend;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.time.OffsetDateTime;
@@ -20,6 +25,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import com.jiralite.backend.entity.OrgEntity;
 import com.jiralite.backend.entity.OrgMembershipEntity;
@@ -78,7 +84,9 @@ class TicketsIntegrationTest {
         orgRepository.save(org("Org One", ORG_1));
         orgRepository.save(org("Org Two", ORG_2));
 
-        projectRepository.save(project(PROJECT_1, ORG_1, "JIRA", "Jira Lite"));
+        ProjectEntity jira = project(PROJECT_1, ORG_1, "JIRA", "Jira Lite");
+        jira.setNextTicketNumber(3);
+        projectRepository.save(jira);
         projectRepository.save(project(PROJECT_2, ORG_2, "OPS", "Ops Portal"));
 
         userRepository.save(user(USER_A, "user-a@example.com", "User A"));
@@ -108,6 +116,131 @@ class TicketsIntegrationTest {
                 .andExpect(jsonPath("$.page.totalElements").value(2));
     }
 
+    @Test
+    void list_sorts_priority_by_rank_not_alphabetically() throws Exception {
+        mockMvc.perform(get("/tickets")
+                        .queryParam("sort", "priority,asc")
+                        .header("Authorization", "Bearer member-token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].priority").value("MEDIUM"))
+                .andExpect(jsonPath("$.content[1].priority").value("HIGH"));
+    }
+
+    @Test
+    void list_filters_and_sorts_by_query() throws Exception {
+        mockMvc.perform(get("/tickets")
+                        .queryParam("q", "project = jira and (status = DONE or title ~ \"first\") order by priority desc")
+                        .header("Authorization", "Bearer member-token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.content[0].key").value("JIRA-2"))
+                .andExpect(jsonPath("$.content[1].key").value("JIRA-1"));
+
+        mockMvc.perform(get("/tickets")
+                        .queryParam("q", "status != DONE")
+                        .header("Authorization", "Bearer member-token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].key").value("JIRA-1"));
+    }
+
+    @Test
+    void list_rejects_invalid_query() throws Exception {
+        mockMvc.perform(get("/tickets")
+                        .queryParam("q", "status = SOMEDAY")
+                        .header("Authorization", "Bearer member-token"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("BAD_REQUEST"));
+
+        mockMvc.perform(get("/tickets")
+                        .queryParam("q", "project = NOPE")
+                        .header("Authorization", "Bearer member-token"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void list_returns_not_modified_for_matching_etag() throws Exception {
+        String etag = mockMvc.perform(get("/tickets")
+                        .header("Authorization", "Bearer member-token"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/tickets")
+                        .header("Authorization", "Bearer member-token")
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        String payload = "{\"status\":\"IN_PROGRESS\"}";
+        mockMvc.perform(post("/tickets/{ticketId}/transition", TICKET_1)
+                        .header("Authorization", "Bearer member-token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(payload))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/tickets")
+                        .header("Authorization", "Bearer member-token")
+                        .header("If-None-Match", etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void bundle_returns_ticket_with_comments_and_attachments() throws Exception {
+        mockMvc.perform(get("/tickets/{ticketId}/bundle", TICKET_1)
+                        .header("Authorization", "Bearer member-token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ticket.key").value("JIRA-1"))
+                .andExpect(jsonPath("$.comments", hasSize(0)))
+                .andExpect(jsonPath("$.attachments", hasSize(0)));
+
+        mockMvc.perform(get("/tickets/{ticketId}/bundle", TICKET_2)
+                        .header("Authorization", "Bearer member-token"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void board_groups_project_tickets_by_status() throws Exception {
+        mockMvc.perform(get("/tickets/board")
+                        .queryParam("projectId", PROJECT_1.toString())
+                        .queryParam("perColumn", "10")
+                        .header("Authorization", "Bearer member-token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.columns", hasSize(4)))
+                .andExpect(jsonPath("$.columns[0].status").value("OPEN"))
+                .andExpect(jsonPath("$.columns[0].total").value(1))
+                .andExpect(jsonPath("$.columns[0].tickets[0].id").value(TICKET_1.toString()))
+                .andExpect(jsonPath("$.columns[2].status").value("DONE"))
+                .andExpect(jsonPath("$.columns[2].tickets[0].id").value(TICKET_3.toString()))
+                .andExpect(jsonPath("$.columns[3].total").value(0));
+    }
+
+    @Test
+    void admin_can_stream_csv_export_with_filters() throws Exception {
+        MvcResult pending = mockMvc.perform(get("/tickets/export")
+                        .queryParam("format", "csv")
+                        .queryParam("status", "DONE")
+                        .header("Authorization", "Bearer admin-token"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", startsWith("text/csv")))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("id,key,");
+        assertThat(lines[1]).startsWith(TICKET_3 + ",JIRA-2,");
+    }
+
+    @Test
+    void member_cannot_export() throws Exception {
+        mockMvc.perform(get("/tickets/export")
+                        .header("Authorization", "Bearer member-token"))
+                .andExpect(status().isForbidden());
+    }
+
     @Test
     void member_cannot_access_other_org_ticket() throws Exception {
         mockMvc.perform(get("/tickets/{ticketId}", TICKET_2)
@@ -129,6 +262,22 @@ class TicketsIntegrationTest {
                 .andExpect(jsonPath("$.status").value("OPEN"));
     }
 
+    @Test
+    void member_can_bulk_create_tickets() throws Exception {
+        String payload = "{\"projectId\":\"" + PROJECT_1 + "\",\"tickets\":["
+                + "{\"title\":\"Bulk one\",\"priority\":\"LOW\"},"
+                + "{\"title\":\"Bulk two\",\"priority\":\"HIGH\",\"assigneeId\":\"" + USER_A + "\"}]}";
+        mockMvc.perform(post("/tickets/bulk")
+                        .header("Authorization", "Bearer member-token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(payload))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].key").value("JIRA-3"))
+                .andExpect(jsonPath("$[1].key").value("JIRA-4"))
+                .andExpect(jsonPath("$[1].assigneeId").value(USER_A.toString()));
+    }
+
     @Test
     void transition_rejects_invalid_status() throws Exception {
         String payload = "{\"status\":\"INVALID\"}";
@@ -152,6 +301,24 @@ class TicketsIntegrationTest {
                 .andExpect(jsonPath("$.status").value("IN_PROGRESS"));
     }
 
+    @Test
+    void bulk_transition_reports_per_ticket_outcome() throws Exception {
+        String payload = "{\"status\":\"IN_PROGRESS\",\"ticketIds\":[\"" + TICKET_1 + "\",\"" + TICKET_2 + "\"]}";
+        mockMvc.perform(post("/tickets/bulk/transition")
+                        .header("Authorization", "Bearer member-token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(payload))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].outcome").value("UPDATED"))
+                .andExpect(jsonPath("$[0].status").value("IN_PROGRESS"))
+                .andExpect(jsonPath("$[1].outcome").value("NOT_FOUND"));
+
+        mockMvc.perform(get("/tickets/{ticketId}", TICKET_1)
+                        .header("Authorization", "Bearer member-token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("IN_PROGRESS"));
+    }
+
     @Test
     void member_can_update_ticket() throws Exception {
         String payload = "{\"title\":\"Updated\",\"priority\":\"high\"}";
@@ -2,6 +2,7 @@ package com.jiralite.backend;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
 import java.util.UUID;
 
@@ -13,6 +14,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -22,6 +24,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
@@ -33,12 +37,15 @@ import com.jiralite.backend.entity.OrgMembershipEntity;
 import com.jiralite.backend.entity.OrgMembershipId;
 import com.jiralite.backend.entity.ProjectEntity;
 import com.jiralite.backend.entity.TicketEntity;
+import com.jiralite.backend.entity.TicketImportJobEntity;
 import com.jiralite.backend.entity.UserEntity;
 import com.jiralite.backend.repository.OrgMembershipRepository;
 import com.jiralite.backend.repository.OrgRepository;
 import com.jiralite.backend.repository.ProjectRepository;
+import com.jiralite.backend.repository.TicketImportJobRepository;
 import com.jiralite.backend.repository.TicketRepository;
 import com.jiralite.backend.repository.UserRepository;
+import com.jiralite.backend.scheduler.TicketImportJobScheduler;
 import com.jiralite.backend.security.TestJwtDecoderConfig;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
@@ -95,6 +102,12 @@ class TicketsTcIntegrationTest {
     @Autowired
     private OrgMembershipRepository membershipRepository;
 
+    @Autowired
+    private TicketImportJobRepository importJobRepository;
+
+    @Autowired
+    private TicketImportJobScheduler importJobScheduler;
+
     @BeforeEach
     void setUp() {
         ticketRepository.deleteAll();
@@ -106,7 +119,9 @@ class TicketsTcIntegrationTest {
         orgRepository.save(org("Org One", ORG_1));
         orgRepository.save(org("Org Two", ORG_2));
 
-        projectRepository.save(project(PROJECT_1, ORG_1, "JIRA", "Jira Lite"));
+        ProjectEntity jira = project(PROJECT_1, ORG_1, "JIRA", "Jira Lite");
+        jira.setNextTicketNumber(2);
+        projectRepository.save(jira);
         projectRepository.save(project(PROJECT_2, ORG_2, "OPS", "Ops Portal"));
 
         userRepository.save(user(USER_A, "user-a@example.com", "User A"));
@@ -130,6 +145,21 @@ class TicketsTcIntegrationTest {
         assertThat(body.get("content").get(0).get("id").asText()).isEqualTo(TICKET_1.toString());
     }
 
+    @Test
+    void list_rejects_unknown_status_and_priority_filters() throws Exception {
+        for (String filter : new String[] { "status=bogus", "priority=bogus" }) {
+            ResponseEntity<String> response = restTemplate.exchange(
+                    url("/tickets?" + filter),
+                    HttpMethod.GET,
+                    authEntity("member-token", null),
+                    String.class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+            JsonNode body = objectMapper.readTree(response.getBody());
+            assertThat(body.get("code").asText()).isEqualTo("BAD_REQUEST");
+        }
+    }
+
     @Test
     void member_can_create_ticket() throws Exception {
         String payload = "{\"projectId\":\"" + PROJECT_1 + "\",\"title\":\"New ticket\",\"priority\":\"HIGH\"}";
@@ -145,6 +175,111 @@ class TicketsTcIntegrationTest {
         assertThat(body.get("status").asText()).isEqualTo("OPEN");
     }
 
+    @Test
+    void changes_feed_returns_updates_and_tombstones_since_token() throws Exception {
+        JsonNode start = objectMapper.readTree(restTemplate.exchange(
+                url("/tickets/changes"), HttpMethod.GET, authEntity("member-token", null), String.class).getBody());
+        String token = start.get("nextToken").asText();
+
+        restTemplate.exchange(url("/tickets/" + TICKET_1 + "/transition"), HttpMethod.POST,
+                authEntity("member-token", "{\"status\":\"IN_PROGRESS\"}"), String.class);
+
+        ResponseEntity<String> response = restTemplate.exchange(
+                url("/tickets/changes?since=" + token),
+                HttpMethod.GET,
+                authEntity("member-token", null),
+                String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        JsonNode body = objectMapper.readTree(response.getBody());
+        assertThat(body.get("changes").size()).isEqualTo(1);
+        assertThat(body.get("changes").get(0).get("ticket").get("status").asText()).isEqualTo("IN_PROGRESS");
+        assertThat(body.get("hasMore").asBoolean()).isFalse();
+
+        ResponseEntity<String> again = restTemplate.exchange(
+                url("/tickets/changes?since=" + body.get("nextToken").asText()),
+                HttpMethod.GET,
+                authEntity("member-token", null),
+                String.class);
+        assertThat(objectMapper.readTree(again.getBody()).get("changes").size()).isZero();
+    }
+
+    @Test
+    void admin_imports_tickets_comments_and_attachments_from_ndjson() throws Exception {
+        String ndjson = "{\"ref\":\"T1\",\"title\":\"Imported\",\"priority\":\"high\",\"assigneeId\":\"" + USER_A
+                + "\"}\n"
+                + "{\"type\":\"comment\",\"ticketRef\":\"T1\",\"body\":\"First comment\"}\n"
+                + "{\"type\":\"attachment\",\"ticketRef\":\"T1\",\"fileName\":\"log.txt\",\"contentType\":\"text/plain\"}\n"
+                + "{\"title\":\"\",\"priority\":\"LOW\"}\n";
+        MultiValueMap<String, Object> form = new LinkedMultiValueMap<>();
+        form.add("file", new ByteArrayResource(ndjson.getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public String getFilename() {
+                return "tickets.ndjson";
+            }
+        });
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth("admin-token");
+        headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+
+        ResponseEntity<String> started = restTemplate.exchange(
+                url("/tickets/imports?projectId=" + PROJECT_1),
+                HttpMethod.POST,
+                new HttpEntity<>(form, headers),
+                String.class);
+        assertThat(started.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        String jobId = objectMapper.readTree(started.getBody()).get("id").asText();
+
+        JsonNode job = null;
+        for (int attempt = 0; attempt < 50; attempt++) {
+            job = objectMapper.readTree(restTemplate.exchange(url("/tickets/imports/" + jobId), HttpMethod.GET,
+                    authEntity("admin-token", null), String.class).getBody());
+            String status = job.get("status").asText();
+            if (status.equals("COMPLETED") || status.equals("FAILED")) {
+                break;
+            }
+            Thread.sleep(200);
+        }
+
+        assertThat(job.get("status").asText()).isEqualTo("COMPLETED");
+        assertThat(job.get("rowsRead").asLong()).isEqualTo(4);
+        assertThat(job.get("rowsRejected").asLong()).isEqualTo(1);
+        assertThat(job.get("ticketsImported").asLong()).isEqualTo(1);
+        assertThat(job.get("commentsImported").asLong()).isEqualTo(1);
+        assertThat(job.get("attachmentsImported").asLong()).isEqualTo(1);
+        assertThat(job.get("errors").get(0).asText()).startsWith("Line 4:");
+        assertThat(ticketRepository.findAll())
+                .anySatisfy(ticket -> {
+                    assertThat(ticket.getTitle()).isEqualTo("Imported");
+                    assertThat(ticket.getTicketKey()).isEqualTo("JIRA-2");
+                    assertThat(ticket.getPriority()).isEqualTo("HIGH");
+                });
+    }
+
+    @Test
+    void stale_running_import_is_failed_by_sweep() throws Exception {
+        OffsetDateTime longAgo = OffsetDateTime.now().minusHours(1);
+        TicketImportJobEntity job = new TicketImportJobEntity();
+        job.setId(UUID.randomUUID());
+        job.setOrgId(ORG_1);
+        job.setProjectId(PROJECT_1);
+        job.setFormat("NDJSON");
+        job.setStatus("RUNNING");
+        job.setTicketsImported(1000);
+        job.setCreatedAt(longAgo);
+        job.setStartedAt(longAgo);
+        job.setUpdatedAt(longAgo);
+        importJobRepository.save(job);
+
+        importJobScheduler.failStaleJobs();
+
+        JsonNode swept = objectMapper.readTree(restTemplate.exchange(url("/tickets/imports/" + job.getId()),
+                HttpMethod.GET, authEntity("admin-token", null), String.class).getBody());
+        assertThat(swept.get("status").asText()).isEqualTo("FAILED");
+        assertThat(swept.get("ticketsImported").asLong()).isEqualTo(1000);
+        assertThat(swept.get("errors").get(0).asText()).startsWith("Import interrupted");
+    }
+
     @Test
     void member_cannot_access_other_org_ticket() throws Exception {
         ResponseEntity<String> response = restTemplate.exchange(
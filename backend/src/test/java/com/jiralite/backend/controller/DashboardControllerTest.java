@@ -1,6 +1,8 @@
 package com.jiralite.backend.controller;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Set;
@@ -14,18 +16,27 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import com.jiralite.backend.dto.DashboardMetricsResponse;
 import com.jiralite.backend.service.DashboardService;
+import com.jiralite.backend.service.ResourceVersionService;
 import com.jiralite.backend.security.tenant.TenantContext;
 import com.jiralite.backend.security.tenant.TenantContextHolder;
 
 @ExtendWith(MockitoExtension.class)
 class DashboardControllerTest {
 
+    private static final String ETAG = "\"dashboard-v1\"";
+
     @Mock
     DashboardService dashboardService;
 
+    @Mock
+    ResourceVersionService resourceVersionService;
+
     @InjectMocks
     DashboardController controller;
 
@@ -44,13 +55,30 @@ class DashboardControllerTest {
 
     @Test
     void metrics_returnsCountsFromRepositories() {
+        when(resourceVersionService.dashboardTag()).thenReturn(ETAG);
         when(dashboardService.metrics()).thenReturn(new DashboardMetricsResponse(3, 5, 7));
 
-        ResponseEntity<DashboardMetricsResponse> resp = controller.metrics();
+        ResponseEntity<DashboardMetricsResponse> resp = controller.metrics(
+                new ServletWebRequest(new MockHttpServletRequest(), new MockHttpServletResponse()));
 
         assertThat(resp.getBody()).isNotNull();
         assertThat(resp.getBody().getActiveProjects()).isEqualTo(3L);
         assertThat(resp.getBody().getMyTickets()).isEqualTo(5L);
         assertThat(resp.getBody().getMembers()).isEqualTo(7L);
+        assertThat(resp.getHeaders().getETag()).isEqualTo(ETAG);
+    }
+
+    @Test
+    void metrics_matchingEtagSkipsTheMetricsQueries() {
+        when(resourceVersionService.dashboardTag()).thenReturn(ETAG);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/dashboard/metrics");
+        request.addHeader("If-None-Match", ETAG);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        ResponseEntity<DashboardMetricsResponse> resp = controller.metrics(new ServletWebRequest(request, response));
+
+        assertThat(resp).isNull();
+        assertThat(response.getStatus()).isEqualTo(304);
+        verify(dashboardService, never()).metrics();
     }
 }
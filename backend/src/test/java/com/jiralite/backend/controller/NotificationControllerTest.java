@@ -5,8 +5,13 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.domain.PageImpl;
@@ -21,7 +26,8 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.beans.factory.annotation.Autowired;
 
-import com.jiralite.backend.entity.NotificationEntity;
+import com.jiralite.backend.dto.NotificationPreferencesResponse;
+import com.jiralite.backend.dto.NotificationResponse;
 import com.jiralite.backend.service.NotificationService;
 
 @ExtendWith(SpringExtension.class)
@@ -37,14 +43,14 @@ class NotificationControllerTest {
 
     @Test
     void list_returnsOk() throws Exception {
-        NotificationEntity n = new NotificationEntity();
-        n.setId(UUID.randomUUID());
-        n.setContent("hello");
+        NotificationResponse n = new NotificationResponse(UUID.randomUUID(), "TICKET_ASSIGNED",
+                "You were assigned ticket P-1", false, OffsetDateTime.now(), null, 1);
         when(notificationService.listForCurrentUser(any()))
                 .thenReturn(new PageImpl<>(java.util.List.of(n), PageRequest.of(0, 50), 1));
 
         mockMvc.perform(get("/notifications").accept(MediaType.APPLICATION_JSON))
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].content").value("You were assigned ticket P-1"));
     }
 
     @Test
@@ -56,4 +62,63 @@ class NotificationControllerTest {
 
         verify(notificationService).markRead(id);
     }
+
+    @Test
+    void markManyRead_returnsUnreadCount() throws Exception {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        when(notificationService.markRead(List.of(first, second))).thenReturn(4L);
+
+        mockMvc.perform(post("/notifications/read")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[\"" + first + "\",\"" + second + "\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.unread").value(4));
+    }
+
+    @Test
+    void markManyRead_rejectsEmptyIds() throws Exception {
+        mockMvc.perform(post("/notifications/read")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[]}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void markAllRead_returnsUnreadCount() throws Exception {
+        when(notificationService.markAllRead()).thenReturn(0L);
+
+        mockMvc.perform(post("/notifications/read-all"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.unread").value(0));
+    }
+
+    @Test
+    void unreadCount_returnsCachedCount() throws Exception {
+        when(notificationService.unreadCount()).thenReturn(12L);
+
+        mockMvc.perform(get("/notifications/unread-count"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.unread").value(12));
+    }
+
+    @Test
+    void updatePreferences_returnsStoredPreferences() throws Exception {
+        when(notificationService.updatePreferences(any())).thenReturn(new NotificationPreferencesResponse(
+                List.of("TICKET_UPDATED"), List.of(), List.of(), List.of("TICKET_UPDATED", "TICKET_STATUS")));
+
+        mockMvc.perform(put("/notifications/preferences")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"mutedTypes\":[\"TICKET_UPDATED\"],\"digestTypes\":[],\"mutedProjectIds\":[]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.mutedTypes[0]").value("TICKET_UPDATED"));
+    }
+
+    @Test
+    void updatePreferences_rejectsNullLists() throws Exception {
+        mockMvc.perform(put("/notifications/preferences")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"mutedTypes\":null}"))
+                .andExpect(status().isBadRequest());
+    }
 }
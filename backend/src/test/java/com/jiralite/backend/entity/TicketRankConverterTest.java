@@ -0,0 +1,46 @@
+package com.jiralite.backend.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class TicketRankConverterTest {
+
+    private final TicketPriorityConverter priorityConverter = new TicketPriorityConverter();
+    private final TicketStatusConverter statusConverter = new TicketStatusConverter();
+
+    @Test
+    void priorityRanks_sortByUrgency() {
+        List<String> byRankDesc = Arrays.stream(TicketPriority.values())
+                .sorted(Comparator.comparing(TicketPriority::rank).reversed())
+                .map(Enum::name)
+                .toList();
+        assertThat(byRankDesc).containsExactly("URGENT", "HIGH", "MEDIUM", "LOW");
+    }
+
+    @Test
+    void converters_roundTripNamesThroughRanks() {
+        for (TicketPriority priority : TicketPriority.values()) {
+            Short rank = priorityConverter.convertToDatabaseColumn(priority.name());
+            assertThat(priorityConverter.convertToEntityAttribute(rank)).isEqualTo(priority.name());
+        }
+        for (TicketStatus status : TicketStatus.values()) {
+            Short rank = statusConverter.convertToDatabaseColumn(status.name());
+            assertThat(statusConverter.convertToEntityAttribute(rank)).isEqualTo(status.name());
+        }
+        assertThat(statusConverter.convertToDatabaseColumn("OPEN")).isEqualTo((short) 1);
+        assertThat(priorityConverter.convertToDatabaseColumn(null)).isNull();
+        assertThat(priorityConverter.convertToEntityAttribute(null)).isNull();
+    }
+
+    @Test
+    void unknownRank_isRejected() {
+        assertThatThrownBy(() -> statusConverter.convertToEntityAttribute((short) 9))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,136 @@
+package com.jiralite.backend.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.jiralite.backend.config.TestCognitoConfig;
+import com.jiralite.backend.security.TestJwtDecoderConfig;
+import com.jiralite.backend.entity.OrgEntity;
+import com.jiralite.backend.entity.OrgMembershipEntity;
+import com.jiralite.backend.entity.OrgMembershipId;
+import com.jiralite.backend.entity.UserEntity;
+import com.jiralite.backend.repository.NotificationRepository;
+import com.jiralite.backend.repository.OrgMembershipRepository;
+import com.jiralite.backend.repository.OrgRepository;
+import com.jiralite.backend.repository.UserRepository;
+import com.jiralite.backend.security.tenant.TenantContext;
+import com.jiralite.backend.security.tenant.TenantContextHolder;
+import com.jiralite.backend.service.NotificationService;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@Import({ TestCognitoConfig.class, TestJwtDecoderConfig.class })
+@Testcontainers
+@EnabledIfSystemProperty(named = "runTestcontainers", matches = "true")
+class NotificationIntegrationTest {
+
+    private static final UUID ORG_ID = UUID.fromString("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa");
+    private static final UUID USER_ID = UUID.fromString("bbbbbbbb-bbbb-bbbb-bbbb-bbbbbbbbbbbb");
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16")
+            .withDatabaseName("jira_lite")
+            .withUsername("jira_lite")
+            .withPassword("jira_lite_password");
+
+    @DynamicPropertySource
+    static void configureDatasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+    }
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private OrgRepository orgRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OrgMembershipRepository membershipRepository;
+
+    @BeforeEach
+    void setUp() {
+        notificationRepository.deleteAll();
+        membershipRepository.deleteAll();
+        userRepository.deleteAll();
+        orgRepository.deleteAll();
+
+        OrgEntity org = new OrgEntity();
+        org.setId(ORG_ID);
+        org.setName("Test Org");
+        org.setCreatedAt(OffsetDateTime.now());
+        org.setUpdatedAt(OffsetDateTime.now());
+        orgRepository.save(org);
+
+        UserEntity user = new UserEntity();
+        user.setId(USER_ID);
+        user.setEmail("member@example.com");
+        user.setCognitoSub(USER_ID.toString());
+        user.setCreatedAt(OffsetDateTime.now());
+        user.setUpdatedAt(OffsetDateTime.now());
+        userRepository.save(user);
+
+        OrgMembershipEntity membership = new OrgMembershipEntity();
+        membership.setId(new OrgMembershipId(ORG_ID, USER_ID));
+        membership.setRole("MEMBER");
+        membership.setStatus("ACTIVE");
+        membership.setCreatedAt(OffsetDateTime.now());
+        membership.setUpdatedAt(OffsetDateTime.now());
+        membershipRepository.save(membership);
+
+        TenantContextHolder.set(new TenantContext(ORG_ID.toString(), USER_ID.toString(), Set.of("MEMBER"), "t"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContextHolder.clear();
+    }
+
+    @Test
+    void markAllReadReturnsCountAfterItsOwnChange() {
+        notificationService.createNotification(USER_ID, "ORG_MEMBER_ADDED", Map.of());
+        notificationService.createNotification(USER_ID, "ORG_MEMBER_UPDATED", Map.of());
+        assertThat(notificationService.unreadCount()).isEqualTo(2);
+
+        assertThat(notificationService.markAllRead()).isZero();
+        assertThat(notificationService.unreadCount()).isZero();
+    }
+
+    @Test
+    void markReadReturnsCountAfterItsOwnChange() {
+        notificationService.createNotification(USER_ID, "ORG_MEMBER_ADDED", Map.of());
+        notificationService.createNotification(USER_ID, "ORG_MEMBER_UPDATED", Map.of());
+        UUID first = notificationRepository.findAll().get(0).getId();
+
+        assertThat(notificationService.markRead(List.of(first))).isEqualTo(1);
+        assertThat(notificationService.unreadCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,94 @@
+package com.jiralite.backend.scheduler;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.jiralite.backend.repository.NotificationRepository;
+import com.jiralite.backend.service.NotificationRetention;
+
+class NotificationPartitionSchedulerTest {
+
+    private final NotificationRepository notificationRepository = mock(NotificationRepository.class);
+    private final NotificationRetention retention = mock(NotificationRetention.class);
+    private NotificationPartitionScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        DataSourceProperties dataSourceProperties = new DataSourceProperties();
+        dataSourceProperties.setUrl("jdbc:postgresql://localhost/jira_lite");
+        scheduler = new NotificationPartitionScheduler(notificationRepository, retention,
+                mock(PlatformTransactionManager.class), dataSourceProperties, true, 2);
+    }
+
+    @Test
+    void createUpcoming_createsOnlyMissingMonthsAhead() {
+        YearMonth current = YearMonth.of(2026, 11);
+        when(notificationRepository.findPartitionMonths()).thenReturn(List.of(current, current.plusMonths(1)));
+
+        scheduler.createUpcoming(current);
+
+        verify(notificationRepository).createPartition(YearMonth.of(2027, 1));
+        verify(notificationRepository, times(1)).createPartition(any());
+    }
+
+    @Test
+    void dropExpired_dropsOnlyMonthsEndedBeforeCutoff() {
+        when(notificationRepository.findPartitionMonths()).thenReturn(List.of(
+                YearMonth.of(2026, 3), YearMonth.of(2026, 4), YearMonth.of(2026, 5)));
+
+        scheduler.dropExpired(OffsetDateTime.of(2026, 5, 1, 0, 0, 0, 0, ZoneOffset.UTC));
+
+        verify(notificationRepository).dropPartition(YearMonth.of(2026, 3));
+        verify(notificationRepository).dropPartition(YearMonth.of(2026, 4));
+        verify(notificationRepository, never()).dropPartition(YearMonth.of(2026, 5));
+    }
+
+    @Test
+    void maintain_failedStepDoesNotSkipTheRest() {
+        UUID orgId = UUID.randomUUID();
+        OffsetDateTime now = OffsetDateTime.of(2026, 10, 17, 3, 0, 0, 0, ZoneOffset.UTC);
+        when(retention.defaultRetention()).thenReturn(Duration.ofDays(90));
+        when(retention.overrides()).thenReturn(Map.of(orgId, Duration.ofDays(30)));
+        when(notificationRepository.findPartitionMonths()).thenReturn(List.of());
+        doThrow(new IllegalStateException("relation already exists"))
+                .when(notificationRepository).createPartition(YearMonth.of(2026, 10));
+
+        scheduler.maintain(now);
+
+        verify(notificationRepository).createPartition(YearMonth.of(2026, 11));
+        verify(notificationRepository).createPartition(YearMonth.of(2026, 12));
+        verify(notificationRepository).deleteExpired(eq(orgId), eq(now.minusDays(30)), any(Integer.class));
+        verify(notificationRepository).hasRowsInDefaultPartition();
+    }
+
+    @Test
+    void purgeShortRetention_deletesInBatchesUntilDone() {
+        UUID orgId = UUID.randomUUID();
+        OffsetDateTime now = OffsetDateTime.of(2026, 10, 17, 3, 0, 0, 0, ZoneOffset.UTC);
+        when(notificationRepository.deleteExpired(eq(orgId), eq(now.minusDays(30)), any(Integer.class)))
+                .thenReturn(5_000, 12);
+
+        scheduler.purgeShortRetention(now, Map.of(orgId, Duration.ofDays(30)));
+
+        verify(notificationRepository, times(2)).deleteExpired(eq(orgId), eq(now.minusDays(30)), any(Integer.class));
+    }
+}
@@ -0,0 +1,49 @@
+package com.jiralite.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class NotificationBusTest {
+
+    @Test
+    void encode_packsEventsIntoPayloadsUnderTheNotifyLimit() {
+        List<NotificationBus.Event> events = IntStream.range(0, NotificationBus.MAX_EVENTS_PER_PAYLOAD * 2 + 1)
+                .mapToObj(i -> new NotificationBus.Event(UUID.randomUUID(), UUID.randomUUID()))
+                .toList();
+
+        List<String> payloads = NotificationBus.encode(events);
+
+        assertThat(payloads).hasSize(3);
+        assertThat(payloads).allSatisfy(payload -> assertThat(payload.length()).isLessThan(8000));
+        assertThat(payloads.stream().flatMap(payload -> NotificationBus.decode(payload).stream()).toList())
+                .containsExactlyElementsOf(events);
+    }
+
+    @Test
+    void encode_roundTripsUnreadEventsAtFullPayload() {
+        List<NotificationBus.Event> events = IntStream.range(0, NotificationBus.MAX_EVENTS_PER_PAYLOAD)
+                .mapToObj(i -> NotificationBus.Event.unreadChanged(UUID.randomUUID(), UUID.randomUUID()))
+                .toList();
+
+        List<String> payloads = NotificationBus.encode(events);
+
+        assertThat(payloads).hasSize(1);
+        assertThat(payloads.get(0).length()).isLessThan(8000);
+        assertThat(NotificationBus.decode(payloads.get(0))).containsExactlyElementsOf(events);
+    }
+
+    @Test
+    void decode_skipsMalformedPairs() {
+        UUID notificationId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        List<NotificationBus.Event> events = NotificationBus.decode("garbage," + notificationId + ":" + userId);
+
+        assertThat(events).containsExactly(new NotificationBus.Event(notificationId, userId));
+    }
+}
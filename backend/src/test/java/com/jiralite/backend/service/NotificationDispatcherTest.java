@@ -0,0 +1,161 @@
+package com.jiralite.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.jiralite.backend.entity.NotificationEntity;
+import com.jiralite.backend.entity.NotificationOutboxEntity;
+import com.jiralite.backend.repository.NotificationOutboxRepository;
+import com.jiralite.backend.repository.NotificationRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class NotificationDispatcherTest {
+
+    private final NotificationOutboxRepository outboxRepository = mock(NotificationOutboxRepository.class);
+    private final NotificationRepository notificationRepository = mock(NotificationRepository.class);
+    private final NotificationEmitters emitters = mock(NotificationEmitters.class);
+    private final NotificationBus bus = mock(NotificationBus.class);
+    private final NotificationUnreadCounter unreadCounter = mock(NotificationUnreadCounter.class);
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = new NotificationDispatcher(outboxRepository, notificationRepository, emitters, bus,
+                unreadCounter, mock(PlatformTransactionManager.class), meterRegistry, 10, Duration.ofMinutes(1),
+                100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.stop();
+    }
+
+    @Test
+    void claim_deletesRowsAndPublishesThemInOutboxOrder() {
+        NotificationEntity first = notification(UUID.randomUUID());
+        NotificationEntity second = notification(UUID.randomUUID());
+        List<NotificationOutboxEntity> rows = List.of(row(first), row(second));
+        when(outboxRepository.claimBatch(any(Pageable.class))).thenReturn(rows);
+
+        int claimed = dispatcher.claim();
+
+        assertThat(claimed).isEqualTo(2);
+        verify(outboxRepository).deleteAllInBatch(rows);
+        verify(bus).publish(List.of(
+                new NotificationBus.Event(first.getId(), first.getUserId()),
+                new NotificationBus.Event(second.getId(), second.getUserId())));
+    }
+
+    @Test
+    void deliver_loadsOnlyNotificationsForLocallyConnectedUsers() {
+        UUID online = UUID.randomUUID();
+        NotificationEntity first = notification(online);
+        NotificationEntity purged = notification(online);
+        NotificationEntity elsewhere = notification(UUID.randomUUID());
+        NotificationEntity second = notification(online);
+        when(emitters.hasSubscribers(online)).thenReturn(true);
+        when(notificationRepository.findAllById(List.of(first.getId(), purged.getId(), second.getId())))
+                .thenReturn(List.of(second, first));
+
+        dispatcher.deliver(List.of(event(first), event(purged), event(elsewhere), event(second)));
+
+        InOrder order = inOrder(emitters);
+        order.verify(emitters).send(online, first);
+        order.verify(emitters).send(online, second);
+        verify(emitters, never()).send(any(), eq(elsewhere));
+    }
+
+    @Test
+    void deliver_pushesUnreadCountsAfterNotificationsAndOnReadEvents() {
+        UUID orgId = UUID.randomUUID();
+        UUID recipient = UUID.randomUUID();
+        UUID reader = UUID.randomUUID();
+        NotificationEntity notification = notification(recipient);
+        notification.setTenantId(orgId);
+        when(emitters.hasSubscribers(recipient)).thenReturn(true);
+        when(emitters.hasSubscribers(reader)).thenReturn(true);
+        when(notificationRepository.findAllById(List.of(notification.getId()))).thenReturn(List.of(notification));
+        when(unreadCounter.counts(orgId, Set.of(reader, recipient))).thenReturn(Map.of(recipient, 3L, reader, 0L));
+
+        dispatcher.deliver(List.of(NotificationBus.Event.unreadChanged(reader, orgId), event(notification)));
+
+        InOrder order = inOrder(emitters);
+        order.verify(emitters).send(recipient, notification);
+        order.verify(emitters).sendUnread(recipient, orgId, 3L);
+        verify(emitters).sendUnread(reader, orgId, 0L);
+    }
+
+    @Test
+    void received_deliversOffTheListenerThread() {
+        UUID online = UUID.randomUUID();
+        NotificationEntity notification = notification(online);
+        Thread listener = Thread.currentThread();
+        when(emitters.hasSubscribers(online)).thenReturn(true);
+        when(notificationRepository.findAllById(List.of(notification.getId()))).thenAnswer(invocation -> {
+            assertThat(Thread.currentThread()).isNotSameAs(listener);
+            return List.of(notification);
+        });
+
+        dispatcher.received(List.of(event(notification)));
+
+        verify(emitters, timeout(1000)).send(online, notification);
+    }
+
+    @Test
+    void dispatch_queuesInOrderAndRecordsMetrics() {
+        UUID userId = UUID.randomUUID();
+        NotificationEntity first = notification(userId);
+        NotificationEntity second = notification(userId);
+
+        dispatcher.dispatch(List.of(first, second));
+
+        InOrder order = inOrder(emitters);
+        order.verify(emitters).send(userId, first);
+        order.verify(emitters).send(userId, second);
+        assertThat(meterRegistry.get("notifications.dispatch.sent").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("notifications.dispatch.lag").timer().count()).isEqualTo(2);
+    }
+
+    private static NotificationEntity notification(UUID userId) {
+        NotificationEntity entity = new NotificationEntity();
+        entity.setId(UUID.randomUUID());
+        entity.setUserId(userId);
+        entity.setCreatedAt(OffsetDateTime.now());
+        return entity;
+    }
+
+    private static NotificationBus.Event event(NotificationEntity notification) {
+        return new NotificationBus.Event(notification.getId(), notification.getUserId());
+    }
+
+    private static NotificationOutboxEntity row(NotificationEntity notification) {
+        NotificationOutboxEntity row = new NotificationOutboxEntity();
+        row.setNotificationId(notification.getId());
+        row.setUserId(notification.getUserId());
+        return row;
+    }
+}
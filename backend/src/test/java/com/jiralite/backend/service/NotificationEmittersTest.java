@@ -0,0 +1,90 @@
+package com.jiralite.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.jiralite.backend.entity.NotificationEntity;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class NotificationEmittersTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationEmitters emitters;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        emitters = new NotificationEmitters(meterRegistry, new NotificationTemplates(), Duration.ofMinutes(1), 4, 1, Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        emitters.shutdown();
+    }
+
+    @Test
+    void subscribe_registersEachStreamSeparately() {
+        UUID userId = UUID.randomUUID();
+
+        emitters.subscribe(userId, UUID.randomUUID());
+        emitters.subscribe(userId, UUID.randomUUID());
+
+        assertThat(emitters.hasSubscribers(userId)).isTrue();
+        assertThat(emitters.hasSubscribers(UUID.randomUUID())).isFalse();
+        assertThat(meterRegistry.get("notifications.sse.connections").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void send_coalescesBurstsInsteadOfClosingTheStream() {
+        UUID userId = UUID.randomUUID();
+        UUID orgId = UUID.randomUUID();
+        emitters.subscribe(userId, orgId);
+
+        for (int i = 0; i < 1000; i++) {
+            emitters.send(userId, notification(userId, orgId));
+        }
+
+        assertThat(emitters.hasSubscribers(userId)).isTrue();
+        assertThat(meterRegistry.get("notifications.sse.dropped").counter().count()).isPositive();
+        assertThat(meterRegistry.get("notifications.sse.evicted").counter().count()).isZero();
+    }
+
+    @Test
+    void send_skipsStreamsOpenedInOtherOrganizations() {
+        UUID userId = UUID.randomUUID();
+        emitters.subscribe(userId, UUID.randomUUID());
+
+        UUID otherOrg = UUID.randomUUID();
+        for (int i = 0; i < 1000; i++) {
+            emitters.send(userId, notification(userId, otherOrg));
+            emitters.sendUnread(userId, otherOrg, i);
+        }
+
+        assertThat(meterRegistry.get("notifications.sse.dropped").counter().count()).isZero();
+    }
+
+    @Test
+    void send_toUserWithoutStreamsIsNoOp() {
+        NotificationEntity notification = new NotificationEntity();
+        notification.setId(UUID.randomUUID());
+
+        emitters.send(UUID.randomUUID(), notification);
+
+        assertThat(meterRegistry.get("notifications.sse.queued").gauge().value()).isZero();
+    }
+
+    private static NotificationEntity notification(UUID userId, UUID orgId) {
+        NotificationEntity notification = new NotificationEntity();
+        notification.setId(UUID.randomUUID());
+        notification.setUserId(userId);
+        notification.setTenantId(orgId);
+        return notification;
+    }
+}
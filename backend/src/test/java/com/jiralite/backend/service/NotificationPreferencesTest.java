@@ -0,0 +1,97 @@
+package com.jiralite.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.jiralite.backend.entity.OrgMembershipEntity;
+import com.jiralite.backend.entity.OrgMembershipId;
+import com.jiralite.backend.repository.OrgMembershipRepository;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationPreferencesTest {
+
+    @Mock
+    private OrgMembershipRepository membershipRepository;
+
+    private NotificationPreferences preferences;
+
+    private final UUID orgId = UUID.randomUUID();
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        preferences = new NotificationPreferences(membershipRepository, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void bits_roundTripInTypeOrder() {
+        long bits = NotificationPreferences.toBits(List.of("COMMENT_CREATED", "TICKET_ASSIGNED"));
+
+        assertThat(bits).isEqualTo(0b100001L);
+        assertThat(NotificationPreferences.toTypes(bits)).containsExactly("TICKET_ASSIGNED", "COMMENT_CREATED");
+    }
+
+    @Test
+    void toBits_rejectsUnknownType() {
+        assertThatThrownBy(() -> NotificationPreferences.toBits(List.of("NOPE")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void preferences_muteByTypeOrProjectAndNeverMuteUnknownTypes() {
+        UUID project = UUID.randomUUID();
+        NotificationPreferences.Preferences prefs = new NotificationPreferences.Preferences(
+                NotificationPreferences.toBits(List.of("TICKET_UPDATED")),
+                NotificationPreferences.toBits(List.of("COMMENT_CREATED")), Set.of(project));
+
+        assertThat(prefs.mutes("TICKET_UPDATED", null)).isTrue();
+        assertThat(prefs.mutes("TICKET_STATUS", project)).isTrue();
+        assertThat(prefs.mutes("TICKET_STATUS", UUID.randomUUID())).isFalse();
+        assertThat(prefs.mutes("SOMETHING_NEW", null)).isFalse();
+        assertThat(prefs.digestOnly("COMMENT_CREATED")).isTrue();
+        assertThat(prefs.digestOnly("TICKET_STATUS")).isFalse();
+    }
+
+    @Test
+    void get_loadsEachOrgOnceAndDefaultsMembersWithoutPreferences() {
+        when(membershipRepository.findNotificationPreferences(orgId)).thenReturn(List.of());
+
+        assertThat(preferences.get(orgId, userId)).isEqualTo(NotificationPreferences.Preferences.DEFAULT);
+        assertThat(preferences.get(orgId, UUID.randomUUID())).isEqualTo(NotificationPreferences.Preferences.DEFAULT);
+
+        verify(membershipRepository).findNotificationPreferences(orgId);
+    }
+
+    @Test
+    void save_updatesMembershipAndReloadsOrg() {
+        OrgMembershipEntity membership = new OrgMembershipEntity();
+        membership.setId(new OrgMembershipId(orgId, userId));
+        when(membershipRepository.findById(new OrgMembershipId(orgId, userId))).thenReturn(Optional.of(membership));
+        when(membershipRepository.findNotificationPreferences(orgId)).thenReturn(List.of());
+        UUID project = UUID.randomUUID();
+
+        preferences.get(orgId, userId);
+        preferences.save(orgId, userId, new NotificationPreferences.Preferences(1, 2, Set.of(project)));
+        preferences.get(orgId, userId);
+
+        assertThat(membership.getNotificationMutedTypes()).isEqualTo(1);
+        assertThat(membership.getNotificationDigestTypes()).isEqualTo(2);
+        assertThat(membership.getNotificationMutedProjects()).containsExactly(project);
+        verify(membershipRepository, times(2)).findNotificationPreferences(orgId);
+    }
+}
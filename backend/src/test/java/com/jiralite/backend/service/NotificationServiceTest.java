@@ -1,10 +1,16 @@
 package com.jiralite.backend.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import java.util.Optional;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
@@ -19,7 +25,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 
 import com.jiralite.backend.entity.NotificationEntity;
+import com.jiralite.backend.repository.NotificationOutboxRepository;
 import com.jiralite.backend.repository.NotificationRepository;
+import com.jiralite.backend.repository.OrgMembershipRepository;
 import com.jiralite.backend.security.tenant.TenantContext;
 import com.jiralite.backend.security.tenant.TenantContextHolder;
 
@@ -29,6 +37,24 @@ class NotificationServiceTest {
     @Mock
     private NotificationRepository notificationRepository;
 
+    @Mock
+    private NotificationOutboxRepository outboxRepository;
+
+    @Mock
+    private NotificationDispatcher dispatcher;
+
+    @Mock
+    private NotificationEmitters emitters;
+
+    @Mock
+    private NotificationUnreadCounter unreadCounter;
+
+    @Mock
+    private NotificationRetention retention;
+
+    @Mock
+    private OrgMembershipRepository membershipRepository;
+
     private NotificationService notificationService;
 
     private UUID orgId;
@@ -36,7 +62,10 @@ class NotificationServiceTest {
 
     @BeforeEach
     void setUp() {
-        notificationService = new NotificationService(notificationRepository);
+        notificationService = new NotificationService(notificationRepository, outboxRepository, dispatcher, emitters,
+                unreadCounter, retention, new NotificationTemplates(),
+                new NotificationPreferences(membershipRepository, Duration.ofMinutes(1)),
+                2, Duration.ofHours(1), Duration.ofMinutes(10));
         orgId = UUID.randomUUID();
         userId = UUID.randomUUID();
         TenantContextHolder.set(new TenantContext(orgId.toString(), userId.toString(), Set.of("ADMIN"), "trace"));
@@ -49,7 +78,7 @@ class NotificationServiceTest {
 
     @Test
     void createNotification_persistsWithTenantAndUser() {
-        notificationService.createNotification(userId, "TYPE", "hello");
+        notificationService.createNotification(userId, "TYPE", Map.of("ticket", "P-1"));
 
         ArgumentCaptor<NotificationEntity> captor = ArgumentCaptor.forClass(NotificationEntity.class);
         verify(notificationRepository).save(captor.capture());
@@ -57,35 +86,256 @@ class NotificationServiceTest {
         assertThat(saved.getTenantId()).isEqualTo(orgId);
         assertThat(saved.getUserId()).isEqualTo(userId);
         assertThat(saved.getType()).isEqualTo("TYPE");
-        assertThat(saved.getContent()).isEqualTo("hello");
+        assertThat(saved.getParams()).isEqualTo(Map.of("ticket", "P-1"));
+        assertThat(saved.getContent()).isNull();
         assertThat(saved.isRead()).isFalse();
         assertThat(saved.getCreatedAt()).isNotNull();
         assertThat(saved.getId()).isNotNull();
+        verify(outboxRepository).enqueue(List.of(saved.getId()));
+        verify(unreadCounter).added(orgId, Map.of(userId, 1L));
+        verify(dispatcher).wakeUp();
+    }
+
+    @Test
+    void createNotification_coalescesIntoOpenDigestForSameTicket() {
+        UUID ticketId = UUID.randomUUID();
+        NotificationEntity digest = notification(OffsetDateTime.now().minusMinutes(2));
+        digest.setUserId(userId);
+        digest.setTicketId(ticketId);
+        digest.setType("TICKET_UPDATED");
+        digest.setParams(Map.of("ticket", "P-1", "changes", "title"));
+        when(notificationRepository.findOpenDigests(eq(orgId), any(), any(), any(), any())).thenReturn(List.of(
+                new Candidate(digest.getId(), userId, ticketId, "TICKET_UPDATED"),
+                // Older row for the same key, and one for another ticket: neither is locked
+                new Candidate(UUID.randomUUID(), userId, ticketId, "TICKET_STATUS"),
+                new Candidate(UUID.randomUUID(), userId, UUID.randomUUID(), "TICKET_UPDATED")));
+        when(notificationRepository.lockOpenDigests(eq(orgId), eq(Set.of(digest.getId())), any()))
+                .thenReturn(List.of(digest));
+
+        notificationService.createNotification(userId, "TICKET_STATUS",
+                Map.of("ticket", "P-1", "from", "OPEN", "to", "DONE"), null, ticketId);
+
+        assertThat(digest.getEventCount()).isEqualTo(2);
+        assertThat(digest.getType()).isEqualTo("TICKET_STATUS");
+        assertThat(digest.getParams()).isEqualTo(Map.of("ticket", "P-1", "from", "OPEN", "to", "DONE"));
+        assertThat(digest.getCreatedAt()).isAfter(OffsetDateTime.now().minusMinutes(1));
+        verify(notificationRepository, never()).save(any());
+        verify(outboxRepository).enqueue(List.of(digest.getId()));
+        verify(unreadCounter, never()).added(any(), any());
+    }
+
+    @Test
+    void createNotification_pushesCoalescedDigestOncePerWindow() {
+        UUID ticketId = UUID.randomUUID();
+        NotificationEntity digest = notification(OffsetDateTime.now().minusMinutes(2));
+        digest.setUserId(userId);
+        digest.setTicketId(ticketId);
+        digest.setType("TICKET_UPDATED");
+        OffsetDateTime pushedAt = OffsetDateTime.now().minusMinutes(2);
+        digest.setPushedAt(pushedAt);
+        when(notificationRepository.findOpenDigests(eq(orgId), any(), any(), any(), any())).thenReturn(List.of(
+                new Candidate(digest.getId(), userId, ticketId, "TICKET_UPDATED")));
+        when(notificationRepository.lockOpenDigests(eq(orgId), eq(Set.of(digest.getId())), any()))
+                .thenReturn(List.of(digest));
+
+        notificationService.createNotification(userId, "TICKET_UPDATED", Map.of("ticket", "P-1"), null, ticketId);
+
+        assertThat(digest.getEventCount()).isEqualTo(2);
+        assertThat(digest.getPushedAt()).isEqualTo(pushedAt);
+        verify(outboxRepository, never()).enqueue(any());
+        verify(dispatcher, never()).wakeUp();
+
+        // Once the window since the last push has passed, the next event is pushed again
+        digest.setPushedAt(OffsetDateTime.now().minusMinutes(11));
+        notificationService.createNotification(userId, "TICKET_UPDATED", Map.of("ticket", "P-1"), null, ticketId);
+
+        assertThat(digest.getEventCount()).isEqualTo(3);
+        assertThat(digest.getPushedAt()).isAfter(OffsetDateTime.now().minusMinutes(1));
+        verify(outboxRepository).enqueue(List.of(digest.getId()));
+    }
+
+    @Test
+    void createNotifications_mergesDraftsForSameTicketWithinBatch() {
+        UUID ticketId = UUID.randomUUID();
+        when(notificationRepository.findOpenDigests(eq(orgId), any(), any(), any(), any())).thenReturn(List.of());
+
+        notificationService.createNotifications(List.of(
+                new NotificationService.Draft(userId, "TICKET_UPDATED", Map.of("changes", "title"), null, ticketId),
+                new NotificationService.Draft(userId, "TICKET_STATUS", Map.of("to", "DONE"), null, ticketId),
+                new NotificationService.Draft(userId, "TICKET_ASSIGNED", Map.of("ticket", "P-1"), null, ticketId)));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<NotificationEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(notificationRepository).insertAll(captor.capture());
+        assertThat(captor.getValue()).extracting(NotificationEntity::getParams)
+                .containsExactly(Map.of("to", "DONE"), Map.of("ticket", "P-1"));
+        assertThat(captor.getValue().get(0).getEventCount()).isEqualTo(2);
+        verify(notificationRepository, never()).flush();
+        verify(unreadCounter).added(orgId, Map.of(userId, 2L));
     }
 
     @Test
-    void listForCurrentUser_queriesRepositoryWithContext() {
+    void createNotification_skipsMutedType() {
+        when(membershipRepository.findNotificationPreferences(orgId)).thenReturn(List.of(
+                new PreferenceRow(userId, NotificationPreferences.toBits(List.of("TICKET_STATUS")), 0, null)));
+
+        notificationService.createNotification(userId, "TICKET_STATUS", Map.of("ticket", "P-1"), null,
+                UUID.randomUUID());
+
+        verify(notificationRepository, never()).save(any());
+        verify(outboxRepository, never()).enqueue(any());
+        verify(unreadCounter, never()).added(any(), any());
+    }
+
+    @Test
+    void createNotifications_skipsMutedProjectAndDoesNotPushDigestOnly() {
+        UUID mutedProject = UUID.randomUUID();
+        UUID otherProject = UUID.randomUUID();
+        when(membershipRepository.findNotificationPreferences(orgId)).thenReturn(List.of(
+                new PreferenceRow(userId, 0, NotificationPreferences.toBits(List.of("TICKET_ASSIGNED")),
+                        new UUID[] { mutedProject })));
+
+        notificationService.createNotifications(List.of(
+                new NotificationService.Draft(userId, "TICKET_ASSIGNED", Map.of("ticket", "A-1"), mutedProject,
+                        UUID.randomUUID()),
+                new NotificationService.Draft(userId, "TICKET_ASSIGNED", Map.of("ticket", "B-1"), otherProject,
+                        UUID.randomUUID())));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<NotificationEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(notificationRepository).insertAll(captor.capture());
+        assertThat(captor.getValue()).extracting(NotificationEntity::getParams)
+                .containsExactly(Map.of("ticket", "B-1"));
+        verify(unreadCounter).added(orgId, Map.of(userId, 1L));
+        verify(unreadCounter).changed(orgId, Set.of(userId));
+        verify(outboxRepository, never()).enqueue(any());
+    }
+
+    @Test
+    void listForCurrentUser_queriesRepositoryWithContextWithinRetention() {
         PageRequest pr = PageRequest.of(0, 50);
-        when(notificationRepository.findByTenantIdAndUserIdOrderByCreatedAtDesc(orgId, userId, pr))
-                .thenReturn(Page.empty());
+        OffsetDateTime notBefore = OffsetDateTime.now().minusDays(30);
+        when(retention.notBefore(orgId)).thenReturn(notBefore);
+        when(notificationRepository.findByTenantIdAndUserIdAndCreatedAtGreaterThanEqualOrderByCreatedAtDesc(
+                orgId, userId, notBefore, pr)).thenReturn(Page.empty());
 
         notificationService.listForCurrentUser(pr);
 
         verify(notificationRepository)
-                .findByTenantIdAndUserIdOrderByCreatedAtDesc(orgId, userId, pr);
+                .findByTenantIdAndUserIdAndCreatedAtGreaterThanEqualOrderByCreatedAtDesc(orgId, userId, notBefore, pr);
+    }
+
+    @Test
+    void markRead_updatesInOneStatementAndAdjustsCounter() {
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        OffsetDateTime notBefore = OffsetDateTime.now().minusDays(30);
+        when(retention.notBefore(orgId)).thenReturn(notBefore);
+        when(notificationRepository.markRead(orgId, userId, notBefore, ids)).thenReturn(2);
+        when(unreadCounter.get(orgId, userId)).thenReturn(5L);
+
+        long unread = notificationService.markRead(ids);
+
+        assertThat(unread).isEqualTo(5);
+        verify(unreadCounter).read(orgId, userId, 2);
+        verify(notificationRepository, never()).save(any());
+    }
+
+    @Test
+    void markAllRead_updatesInOneStatementAndAdjustsCounter() {
+        OffsetDateTime notBefore = OffsetDateTime.now().minusDays(30);
+        when(retention.notBefore(orgId)).thenReturn(notBefore);
+        when(notificationRepository.markAllRead(orgId, userId, notBefore)).thenReturn(7);
+
+        long unread = notificationService.markAllRead();
+
+        assertThat(unread).isZero();
+        verify(unreadCounter).read(orgId, userId, 7);
+    }
+
+    @Test
+    void replay_returnsMissedNotificationsAfterEventId() {
+        NotificationEntity last = notification(OffsetDateTime.now().minusMinutes(5));
+        NotificationEntity missed = notification(OffsetDateTime.now().minusMinutes(1));
+        NotificationEventId since = NotificationEventId.decode(NotificationEventId.of(last).encode());
+        when(notificationRepository.findAfter(eq(orgId), eq(userId), eq(since.createdAt()), eq(last.getId()),
+                any(), eq(PageRequest.of(0, 3)))).thenReturn(List.of(missed));
+
+        NotificationEmitters.Replay replay = notificationService.replay(orgId, userId, since);
+
+        assertThat(replay.complete()).isTrue();
+        assertThat(replay.notifications()).containsExactly(missed);
     }
 
     @Test
-    void markRead_updatesEntityWhenFound() {
-        UUID notificationId = UUID.randomUUID();
+    void replay_asksForResyncWhenGapExceedsLimit() {
+        NotificationEventId since = NotificationEventId.of(notification(OffsetDateTime.now().minusMinutes(5)));
+        when(notificationRepository.findAfter(eq(orgId), eq(userId), any(), any(), any(), any()))
+                .thenReturn(List.of(new NotificationEntity(), new NotificationEntity(), new NotificationEntity()));
+
+        assertThat(notificationService.replay(orgId, userId, since).complete()).isFalse();
+    }
+
+    @Test
+    void replay_asksForResyncForUnknownOrExpiredEventIds() {
+        NotificationEventId expired = NotificationEventId.of(notification(OffsetDateTime.now().minusDays(2)));
+
+        assertThat(notificationService.replay(orgId, userId, null).complete()).isFalse();
+        assertThat(notificationService.replay(orgId, userId, expired).complete()).isFalse();
+        verify(notificationRepository, never()).findAfter(any(), any(), any(), any(), any(), any());
+    }
+
+    private static NotificationEntity notification(OffsetDateTime createdAt) {
         NotificationEntity entity = new NotificationEntity();
-        entity.setIsRead(false);
-        when(notificationRepository.findByIdAndTenantIdAndUserId(notificationId, orgId, userId))
-                .thenReturn(Optional.of(entity));
+        entity.setId(UUID.randomUUID());
+        entity.setCreatedAt(createdAt);
+        return entity;
+    }
+
+    private record PreferenceRow(UUID userId, long mutedTypes, long digestTypes, UUID[] mutedProjects)
+            implements OrgMembershipRepository.NotificationPreferenceRow {
+
+        @Override
+        public UUID getUserId() {
+            return userId;
+        }
+
+        @Override
+        public long getMutedTypes() {
+            return mutedTypes;
+        }
+
+        @Override
+        public long getDigestTypes() {
+            return digestTypes;
+        }
+
+        @Override
+        public UUID[] getMutedProjects() {
+            return mutedProjects;
+        }
+    }
+
+    private record Candidate(UUID id, UUID userId, UUID ticketId, String type)
+            implements NotificationRepository.DigestCandidate {
+
+        @Override
+        public UUID getId() {
+            return id;
+        }
+
+        @Override
+        public UUID getUserId() {
+            return userId;
+        }
 
-        notificationService.markRead(notificationId);
+        @Override
+        public UUID getTicketId() {
+            return ticketId;
+        }
 
-        assertThat(entity.isRead()).isTrue();
-        verify(notificationRepository).save(entity);
+        @Override
+        public String getType() {
+            return type;
+        }
     }
 }
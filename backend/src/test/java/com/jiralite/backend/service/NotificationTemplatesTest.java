@@ -0,0 +1,83 @@
+package com.jiralite.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.OffsetDateTime;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.jiralite.backend.dto.NotificationResponse;
+import com.jiralite.backend.entity.NotificationEntity;
+
+class NotificationTemplatesTest {
+
+    private final NotificationTemplates templates = new NotificationTemplates();
+
+    @Test
+    void render_fillsTemplateFromParams() {
+        NotificationEntity notification = notification("TICKET_STATUS",
+                Map.of("ticket", "P-1", "from", "OPEN", "to", "DONE"));
+
+        assertThat(templates.render(notification, Locale.ENGLISH)).isEqualTo("Ticket P-1 moved OPEN -> DONE");
+    }
+
+    @Test
+    void render_addsTicketIdFromColumn() {
+        UUID ticketId = UUID.randomUUID();
+        NotificationEntity notification = notification("TICKET_RESTORED", Map.of("ticket", "P-1"));
+        notification.setTicketId(ticketId);
+
+        assertThat(templates.render(notification, Locale.ENGLISH)).isEqualTo(
+                "Ticket P-1 has been restored from trash. [View Ticket](/tickets/" + ticketId + ")");
+    }
+
+    @Test
+    void render_appendsCountOfCoalescedEvents() {
+        NotificationEntity notification = notification("COMMENT_CREATED", Map.of("ticket", "P-1"));
+        notification.setEventCount(3);
+
+        assertThat(templates.render(notification, Locale.ENGLISH)).isEqualTo("New comment on P-1 (+2 more)");
+    }
+
+    @Test
+    void render_keepsStoredContentOfLegacyRows() {
+        NotificationEntity notification = notification("TICKET_ASSIGNED", null);
+        notification.setContent("You were assigned ticket OLD-1");
+
+        assertThat(templates.render(notification, Locale.ENGLISH)).isEqualTo("You were assigned ticket OLD-1");
+    }
+
+    @Test
+    void render_unknownTypeFallsBackToCode() {
+        NotificationEntity notification = notification("SOMETHING_NEW", Map.of());
+
+        assertThat(templates.render(notification, Locale.forLanguageTag("xx"))).isEqualTo("SOMETHING_NEW");
+    }
+
+    @Test
+    void toResponse_copiesFieldsWithRenderedContent() {
+        NotificationEntity notification = notification("ORG_REMOVED", Map.of());
+        notification.setCreatedAt(OffsetDateTime.now());
+
+        NotificationResponse response = templates.toResponse(notification, Locale.ENGLISH);
+
+        assertThat(response.id()).isEqualTo(notification.getId());
+        assertThat(response.type()).isEqualTo("ORG_REMOVED");
+        assertThat(response.content()).isEqualTo("You have been removed from the organization");
+        assertThat(response.read()).isFalse();
+        assertThat(response.createdAt()).isEqualTo(notification.getCreatedAt());
+        assertThat(response.eventCount()).isEqualTo(1);
+    }
+
+    private static NotificationEntity notification(String type, Map<String, String> params) {
+        NotificationEntity notification = new NotificationEntity();
+        notification.setId(UUID.randomUUID());
+        notification.setType(type);
+        notification.setParams(params);
+        notification.setEventCount(1);
+        return notification;
+    }
+}
@@ -0,0 +1,79 @@
+package com.jiralite.backend.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.jiralite.backend.repository.OrgMembershipRepository;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationUnreadCounterTest {
+
+    private static final UUID ORG_ID = UUID.fromString("11111111-1111-1111-1111-111111111111");
+    private static final UUID FIRST = UUID.fromString("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa");
+    private static final UUID SECOND = UUID.fromString("bbbbbbbb-bbbb-bbbb-bbbb-bbbbbbbbbbbb");
+
+    @Mock
+    private OrgMembershipRepository membershipRepository;
+    @Mock
+    private NotificationBus bus;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void inTransaction_appliesNetDeltasAfterCommitInUserOrder() {
+        NotificationUnreadCounter counter = new NotificationUnreadCounter(membershipRepository, bus, transactionManager);
+        TransactionSynchronizationManager.initSynchronization();
+
+        counter.added(ORG_ID, Map.of(SECOND, 1L, FIRST, 2L));
+        counter.read(ORG_ID, FIRST, 1);
+        counter.added(ORG_ID, Map.of(SECOND, 1L));
+        verify(membershipRepository, never()).adjustUnreadNotifications(any(), any(), anyLong());
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        InOrder order = inOrder(membershipRepository, bus);
+        order.verify(membershipRepository).adjustUnreadNotifications(ORG_ID, FIRST, 1L);
+        order.verify(membershipRepository).adjustUnreadNotifications(ORG_ID, SECOND, 2L);
+        order.verify(bus).publish(List.of(NotificationBus.Event.unreadChanged(FIRST, ORG_ID)));
+    }
+
+    @Test
+    void rolledBack_appliesNothing() {
+        NotificationUnreadCounter counter = new NotificationUnreadCounter(membershipRepository, bus, transactionManager);
+        TransactionSynchronizationManager.initSynchronization();
+
+        counter.added(ORG_ID, Map.of(FIRST, 1L));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        verify(membershipRepository, never()).adjustUnreadNotifications(any(), any(), anyLong());
+        verify(bus, never()).publish(any());
+    }
+}
@@ -98,7 +98,8 @@ class ProjectServiceTest {
         assertThat(project.getDeletedBy()).isEqualTo(userId);
         assertThat(project.getPurgeAfter()).isNotNull();
         verify(ticketRepository).softDeleteByProjectId(eq(project.getId()), any(), eq(userId), any());
-        verify(notificationService).createNotification(eq(project.getCreatedBy()), eq("PROJECT_DELETED"), any());
+        verify(notificationService).createNotification(eq(project.getCreatedBy()), eq("PROJECT_DELETED"), any(),
+                eq(project.getId()), eq(null));
     }
 
     private ProjectEntity baseProject() {
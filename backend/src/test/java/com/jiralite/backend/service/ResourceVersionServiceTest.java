@@ -0,0 +1,90 @@
+package com.jiralite.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.jiralite.backend.repository.OrgMembershipRepository;
+import com.jiralite.backend.repository.ProjectRepository;
+import com.jiralite.backend.repository.TicketRepository;
+import com.jiralite.backend.repository.VersionStamp;
+import com.jiralite.backend.security.tenant.TenantContext;
+import com.jiralite.backend.security.tenant.TenantContextHolder;
+
+@ExtendWith(MockitoExtension.class)
+class ResourceVersionServiceTest {
+
+    @Mock
+    private TicketRepository ticketRepository;
+    @Mock
+    private ProjectRepository projectRepository;
+    @Mock
+    private OrgMembershipRepository membershipRepository;
+
+    private ResourceVersionService service;
+
+    private final UUID orgId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        service = new ResourceVersionService(ticketRepository, projectRepository, membershipRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContextHolder.clear();
+    }
+
+    @Test
+    void ticketListTag_variesByCallerOnlyForUserRelativeQueries() {
+        VersionStamp version = new Stamp(3, OffsetDateTime.parse("2026-01-01T00:00:00Z"));
+        when(ticketRepository.versionByOrgId(orgId)).thenReturn(version);
+        String variant = "q=assignee%20%3D%20me";
+
+        actAs(UUID.randomUUID());
+        String firstShared = service.ticketListTag(variant, false);
+        String firstMine = service.ticketListTag(variant, true);
+        actAs(UUID.randomUUID());
+        String secondShared = service.ticketListTag(variant, false);
+        String secondMine = service.ticketListTag(variant, true);
+
+        assertThat(secondShared).isEqualTo(firstShared);
+        assertThat(secondMine).isNotEqualTo(firstMine);
+    }
+
+    @Test
+    void dashboardTag_probesLatestTicketWriteInsteadOfCounting() {
+        actAs(UUID.randomUUID());
+        when(projectRepository.countByOrgId(orgId)).thenReturn(2L);
+        when(membershipRepository.countByIdOrgId(orgId)).thenReturn(4L);
+        when(ticketRepository.findLatestChangeXid(orgId)).thenReturn(Optional.of("100"), Optional.of("101"));
+
+        String before = service.dashboardTag();
+        String after = service.dashboardTag();
+
+        assertThat(after).isNotEqualTo(before);
+        verify(ticketRepository, never()).countByOrgIdAndAssigneeId(any(), any());
+        verify(ticketRepository, never()).versionByOrgId(any());
+    }
+
+    private void actAs(UUID userId) {
+        TenantContextHolder.set(new TenantContext(orgId.toString(), userId.toString(), Set.of("MEMBER"), "trace"));
+    }
+
+    private record Stamp(long getCount, OffsetDateTime getLastModified) implements VersionStamp {
+    }
+}
@@ -0,0 +1,141 @@
+package com.jiralite.backend.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.jiralite.backend.entity.SavedFilterEntity;
+import com.jiralite.backend.repository.ProjectRepository;
+import com.jiralite.backend.repository.SavedFilterRepository;
+import com.jiralite.backend.repository.TicketRepository;
+
+@ExtendWith(MockitoExtension.class)
+class SavedFilterCounterTest {
+
+    private static final UUID ORG_ID = UUID.fromString("11111111-1111-1111-1111-111111111111");
+    private static final UUID OWNER = UUID.fromString("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa");
+    private static final UUID OTHER = UUID.fromString("bbbbbbbb-bbbb-bbbb-bbbb-bbbbbbbbbbbb");
+    private static final UUID MY_OPEN = UUID.fromString("cccccccc-cccc-cccc-cccc-cccccccccccc");
+    private static final UUID NOT_MINE = UUID.fromString("dddddddd-dddd-dddd-dddd-dddddddddddd");
+
+    @Mock
+    private SavedFilterRepository savedFilterRepository;
+    @Mock
+    private TicketRepository ticketRepository;
+    @Mock
+    private ProjectRepository projectRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SavedFilterCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        TicketQueryPlanner planner = new TicketQueryPlanner(ticketRepository, projectRepository, 20000);
+        counter = new SavedFilterCounter(savedFilterRepository, planner, transactionManager,
+                Duration.ofMinutes(1));
+        when(savedFilterRepository.findAllByOrgId(ORG_ID)).thenReturn(List.of(
+                filter(MY_OPEN, "status = OPEN and assignee = me"),
+                filter(NOT_MINE, "assignee != me")));
+    }
+
+    @Test
+    void create_incrementsMatchingFilters() {
+        counter.changed(ORG_ID, null, ticket("OPEN", OWNER));
+
+        verify(savedFilterRepository).adjustCount(MY_OPEN, 1L);
+        verify(savedFilterRepository, never()).adjustCount(NOT_MINE, 1L);
+    }
+
+    @Test
+    void transition_movesTicketOutOfFilter() {
+        TicketSnapshot before = ticket("OPEN", OWNER);
+
+        counter.changed(ORG_ID, before, before.withStatus("DONE", OffsetDateTime.now()));
+
+        verify(savedFilterRepository).adjustCount(MY_OPEN, -1L);
+        verify(savedFilterRepository, times(1)).adjustCount(any(), anyLong());
+    }
+
+    @Test
+    void reassign_andDelete_adjustBothWays() {
+        counter.changed(ORG_ID, ticket("OPEN", OWNER), ticket("OPEN", OTHER));
+        InOrder order = inOrder(savedFilterRepository);
+        order.verify(savedFilterRepository).adjustCount(MY_OPEN, -1L);
+        order.verify(savedFilterRepository).adjustCount(NOT_MINE, 1L);
+
+        // Unassigned tickets match "assignee != me", as in SQL
+        counter.changed(ORG_ID, ticket("DONE", null), null);
+        verify(savedFilterRepository).adjustCount(NOT_MINE, -1L);
+    }
+
+    @Test
+    void bulkChanges_areNettedIntoOneUpdatePerFilter() {
+        counter.changed(ORG_ID, List.of(
+                new SavedFilterCounter.Change(null, ticket("OPEN", OWNER)),
+                new SavedFilterCounter.Change(null, ticket("OPEN", OWNER)),
+                new SavedFilterCounter.Change(null, ticket("IN_PROGRESS", OWNER))));
+
+        verify(savedFilterRepository).adjustCount(MY_OPEN, 2L);
+        verify(savedFilterRepository, times(1)).adjustCount(any(), anyLong());
+        // Definitions are loaded once and reused
+        counter.changed(ORG_ID, null, ticket("DONE", OTHER));
+        verify(savedFilterRepository, times(1)).findAllByOrgId(ORG_ID);
+    }
+
+    @Test
+    void inTransaction_appliesNetDeltasAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            counter.changed(ORG_ID, null, ticket("OPEN", OWNER));
+            counter.changed(ORG_ID, ticket("OPEN", OWNER), ticket("OPEN", OTHER));
+            counter.changed(ORG_ID, null, ticket("OPEN", OWNER));
+            verify(savedFilterRepository, never()).adjustCount(any(), anyLong());
+
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+            synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(savedFilterRepository).adjustCount(MY_OPEN, 1L);
+        verify(savedFilterRepository).adjustCount(NOT_MINE, 1L);
+        verify(savedFilterRepository, times(2)).adjustCount(any(), anyLong());
+    }
+
+    private SavedFilterEntity filter(UUID id, String query) {
+        SavedFilterEntity filter = new SavedFilterEntity();
+        filter.setId(id);
+        filter.setOrgId(ORG_ID);
+        filter.setUserId(OWNER);
+        filter.setName(query);
+        filter.setQuery(query);
+        return filter;
+    }
+
+    private TicketSnapshot ticket(String status, UUID assignee) {
+        OffsetDateTime now = OffsetDateTime.now();
+        return new TicketSnapshot(UUID.randomUUID(), "JIRA-1", "Ticket", status, "MEDIUM", assignee, OWNER,
+                now, now);
+    }
+}
@@ -0,0 +1,132 @@
+package com.jiralite.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.MDC;
+
+import com.jiralite.backend.dto.CommentResponse;
+import com.jiralite.backend.dto.ErrorCode;
+import com.jiralite.backend.dto.TicketBundleResponse;
+import com.jiralite.backend.dto.TicketResponse;
+import com.jiralite.backend.exception.ApiException;
+import com.jiralite.backend.security.tenant.TenantContext;
+import com.jiralite.backend.security.tenant.TenantContextHolder;
+
+@ExtendWith(MockitoExtension.class)
+class TicketBundleServiceTest {
+
+    private static final UUID ORG_ID = UUID.fromString("11111111-1111-1111-1111-111111111111");
+    private static final UUID TICKET_ID = UUID.fromString("cccccccc-3333-3333-3333-333333333333");
+    private static final UUID ASSIGNEE = UUID.fromString("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa");
+    private static final UUID AUTHOR = UUID.fromString("bbbbbbbb-bbbb-bbbb-bbbb-bbbbbbbbbbbb");
+
+    @Mock
+    private TicketService ticketService;
+    @Mock
+    private TicketCommentService commentService;
+    @Mock
+    private TicketAttachmentService attachmentService;
+    @Mock
+    private UserService userService;
+
+    private TicketBundleService bundleService;
+
+    @BeforeEach
+    void setUp() {
+        bundleService = new TicketBundleService(ticketService, commentService, attachmentService, userService, 4,
+                Duration.ofSeconds(5));
+        TenantContextHolder.set(new TenantContext(ORG_ID.toString(), ASSIGNEE.toString(), Set.of("MEMBER"), "t"));
+        MDC.put("traceId", "trace-1");
+    }
+
+    @AfterEach
+    void tearDown() {
+        bundleService.shutdown();
+        TenantContextHolder.clear();
+        MDC.clear();
+    }
+
+    @Test
+    void getBundle_propagatesContextAndCollectsUsers() {
+        when(ticketService.getTicket(TICKET_ID)).thenAnswer(invocation -> {
+            assertThat(TenantContextHolder.getRequired().orgId()).isEqualTo(ORG_ID.toString());
+            assertThat(MDC.get("traceId")).isEqualTo("trace-1");
+            return ticket();
+        });
+        when(commentService.listComments(TICKET_ID)).thenAnswer(invocation -> {
+            assertThat(TenantContextHolder.getRequired().orgId()).isEqualTo(ORG_ID.toString());
+            return List.of(new CommentResponse(UUID.randomUUID(), AUTHOR, "Hi", OffsetDateTime.now(),
+                    OffsetDateTime.now()));
+        });
+        when(attachmentService.listAttachmentsWithDownloads(TICKET_ID)).thenReturn(List.of());
+        when(userService.summaries(any())).thenAnswer(invocation -> ((Collection<UUID>) invocation.getArgument(0))
+                .stream().map(id -> new TicketBundleResponse.User(id, "User", null)).toList());
+
+        TicketBundleResponse bundle = bundleService.getBundle(TICKET_ID);
+
+        assertThat(bundle.ticket().id()).isEqualTo(TICKET_ID);
+        assertThat(bundle.comments()).hasSize(1);
+        assertThat(bundle.users()).extracting(TicketBundleResponse.User::id).containsExactly(ASSIGNEE, AUTHOR);
+        // The request thread keeps its own context
+        assertThat(TenantContextHolder.getRequired().orgId()).isEqualTo(ORG_ID.toString());
+        assertThat(MDC.get("traceId")).isEqualTo("trace-1");
+    }
+
+    @Test
+    void getBundle_rethrowsApiErrors() {
+        when(ticketService.getTicket(TICKET_ID)).thenThrow(
+                new ApiException(ErrorCode.NOT_FOUND, "Ticket not found", 404));
+
+        assertThatThrownBy(() -> bundleService.getBundle(TICKET_ID))
+                .isInstanceOf(ApiException.class)
+                .hasMessageContaining("Ticket not found");
+    }
+
+    @Test
+    void getBundle_cancelsOtherBranchesWhenTicketLookupFails() throws InterruptedException {
+        CountDownLatch commentsStarted = new CountDownLatch(1);
+        CountDownLatch commentsInterrupted = new CountDownLatch(1);
+        when(commentService.listComments(TICKET_ID)).thenAnswer(invocation -> {
+            commentsStarted.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException ex) {
+                commentsInterrupted.countDown();
+            }
+            return List.of();
+        });
+        lenient().when(attachmentService.listAttachmentsWithDownloads(TICKET_ID)).thenReturn(List.of());
+        when(ticketService.getTicket(TICKET_ID)).thenAnswer(invocation -> {
+            commentsStarted.await(1, TimeUnit.SECONDS);
+            throw new ApiException(ErrorCode.NOT_FOUND, "Ticket not found", 404);
+        });
+
+        assertThatThrownBy(() -> bundleService.getBundle(TICKET_ID)).isInstanceOf(ApiException.class);
+
+        assertThat(commentsInterrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private TicketResponse ticket() {
+        return new TicketResponse(TICKET_ID, UUID.randomUUID(), "JIRA-1", "First", null, "OPEN", "MEDIUM",
+                ASSIGNEE, null, OffsetDateTime.now(), OffsetDateTime.now());
+    }
+}
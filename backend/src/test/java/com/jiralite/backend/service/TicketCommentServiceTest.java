@@ -4,6 +4,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -42,6 +43,7 @@ class TicketCommentServiceTest {
     private final UUID orgId = UUID.randomUUID();
     private final UUID assigneeId = UUID.randomUUID();
     private final UUID ticketId = UUID.randomUUID();
+    private final UUID projectId = UUID.randomUUID();
     private final UUID userId = UUID.randomUUID();
 
     @BeforeEach
@@ -61,6 +63,7 @@ class TicketCommentServiceTest {
         ticket.setOrgId(orgId);
         ticket.setAssigneeId(assigneeId);
         ticket.setTicketKey("PROJ-1");
+        ticket.setProjectId(projectId);
         when(ticketRepository.findByIdAndOrgId(ticketId, orgId)).thenReturn(Optional.of(ticket));
 
         TicketCommentEntity saved = new TicketCommentEntity();
@@ -73,7 +76,8 @@ class TicketCommentServiceTest {
 
         service.createComment(ticketId, req);
 
-        verify(notificationService).createNotification(assigneeId, "COMMENT_CREATED", "New comment on PROJ-1");
+        verify(notificationService).createNotification(assigneeId, "COMMENT_CREATED", Map.of("ticket", "PROJ-1"), projectId,
+                ticketId);
         verify(commentRepository).save(any(TicketCommentEntity.class));
     }
 }
@@ -0,0 +1,144 @@
+package com.jiralite.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.jiralite.backend.dto.TicketResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TicketDetailCacheTest {
+
+    private final NotificationBus bus = mock(NotificationBus.class);
+    private SimpleMeterRegistry meterRegistry;
+    private TicketDetailCache cache;
+
+    private final UUID orgId = UUID.randomUUID();
+    private final UUID ticketId = UUID.randomUUID();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new TicketDetailCache(bus, meterRegistry, true, Duration.ofMinutes(1), 2);
+    }
+
+    @Test
+    void get_loadsOnceThenServesFromCache() {
+        cache.get(orgId, ticketId, this::load);
+        cache.get(orgId, ticketId, this::load);
+
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void get_isScopedByOrg() {
+        cache.get(orgId, ticketId, this::load);
+        cache.get(UUID.randomUUID(), ticketId, this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void evict_forcesReload() {
+        cache.get(orgId, ticketId, this::load);
+        cache.evict(orgId, ticketId);
+        cache.get(orgId, ticketId, this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void evict_isPublishedToOtherNodes() {
+        cache.evict(orgId, ticketId);
+
+        verify(bus).listenEvictions(cache);
+        verify(bus).publishEviction(orgId, ticketId);
+    }
+
+    @Test
+    void remoteEviction_forcesReloadOfThatTicketOnly() {
+        UUID other = UUID.randomUUID();
+        cache.get(orgId, ticketId, this::load);
+        cache.get(orgId, other, this::load);
+
+        cache.evicted(orgId, ticketId);
+        cache.get(orgId, ticketId, this::load);
+        cache.get(orgId, other, this::load);
+
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void evictOfAnotherTicket_duringLoad_stillCaches() {
+        cache.get(orgId, ticketId, () -> {
+            cache.evict(orgId, UUID.randomUUID());
+            return load();
+        });
+        cache.get(orgId, ticketId, this::load);
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void evictOfSameTicket_duringLoad_isNotCached() {
+        cache.get(orgId, ticketId, () -> {
+            TicketResponse stale = load();
+            cache.evict(orgId, ticketId);
+            return stale;
+        });
+        cache.get(orgId, ticketId, this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void missedEvictions_clearEverything() {
+        cache.get(orgId, ticketId, this::load);
+
+        cache.missed();
+        cache.get(orgId, ticketId, this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void get_dropsLeastRecentlyUsedPastMaxSize() {
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        cache.get(orgId, ticketId, this::load);
+        cache.get(orgId, second, this::load);
+        cache.get(orgId, third, this::load);
+        cache.get(orgId, ticketId, this::load);
+
+        assertThat(loads).hasValue(4);
+        assertThat(meterRegistry.get("cache.size").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void disabled_alwaysLoads() {
+        TicketDetailCache disabled = new TicketDetailCache(bus, meterRegistry, false, Duration.ofMinutes(1), 10);
+        disabled.get(orgId, ticketId, this::load);
+        disabled.get(orgId, ticketId, this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    private TicketResponse load() {
+        loads.incrementAndGet();
+        OffsetDateTime now = OffsetDateTime.now();
+        return new TicketResponse(ticketId, UUID.randomUUID(), "JIRA-1", "Title", null, "OPEN", "LOW", null, null,
+                now, now);
+    }
+}
@@ -0,0 +1,28 @@
+package com.jiralite.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+import com.jiralite.backend.exception.ApiException;
+
+class TicketExportServiceTest {
+
+    @Test
+    void csv_quotesOnlyWhenNeeded() {
+        assertThat(TicketExportService.csv("plain")).isEqualTo("plain");
+        assertThat(TicketExportService.csv(null)).isEmpty();
+        assertThat(TicketExportService.csv("a,b")).isEqualTo("\"a,b\"");
+        assertThat(TicketExportService.csv("say \"hi\"")).isEqualTo("\"say \"\"hi\"\"\"");
+        assertThat(TicketExportService.csv("line1\nline2")).isEqualTo("\"line1\nline2\"");
+    }
+
+    @Test
+    void parseFormat_rejectsUnknown() {
+        assertThat(TicketExportService.parseFormat("ndjson")).isEqualTo(TicketExportService.Format.NDJSON);
+        assertThatThrownBy(() -> TicketExportService.parseFormat("xml"))
+                .isInstanceOf(ApiException.class)
+                .hasMessageContaining("Invalid export format");
+    }
+}
@@ -0,0 +1,108 @@
+package com.jiralite.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.StringWriter;
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+class TicketImportMapperTest {
+
+    private static final UUID MEMBER = UUID.fromString("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa");
+    private static final UUID IMPORTER = UUID.fromString("bbbbbbbb-bbbb-bbbb-bbbb-bbbbbbbbbbbb");
+    private static final OffsetDateTime NOW = OffsetDateTime.parse("2026-01-01T00:00:00Z");
+
+    private final TicketImportMapper mapper = new TicketImportMapper(Set.of(MEMBER, IMPORTER), IMPORTER, NOW);
+
+    @Test
+    void ticket_appliesDefaultsAndNormalizes() throws Exception {
+        TicketImportMapper.TicketRow row = mapper.ticket(fields("title", " Fix login ", "priority", "high",
+                "assigneeid", MEMBER.toString()));
+
+        assertThat(row.title()).isEqualTo("Fix login");
+        assertThat(row.priority()).isEqualTo("HIGH");
+        assertThat(row.status()).isEqualTo("OPEN");
+        assertThat(row.assigneeId()).isEqualTo(MEMBER);
+        assertThat(row.createdAt()).isEqualTo(NOW);
+    }
+
+    @Test
+    void ticket_rejectsInvalidValues() {
+        assertThatThrownBy(() -> mapper.ticket(fields("priority", "LOW")))
+                .hasMessage("Missing title");
+        assertThatThrownBy(() -> mapper.ticket(fields("title", "A", "priority", "SOMEDAY")))
+                .hasMessageContaining("Invalid priority");
+        assertThatThrownBy(() -> mapper.ticket(fields("title", "A", "priority", "LOW", "status", "BLOCKED")))
+                .hasMessageContaining("Invalid status");
+        assertThatThrownBy(() -> mapper.ticket(fields("title", "A", "priority", "LOW",
+                "assigneeid", UUID.randomUUID().toString())))
+                .hasMessageContaining("not an active member");
+        assertThatThrownBy(() -> mapper.ticket(fields("title", "A", "priority", "LOW", "createdat", "yesterday")))
+                .hasMessageContaining("Invalid createdAt");
+    }
+
+    @Test
+    void commentsAndAttachments_resolveTicketRefs() throws Exception {
+        TicketImportMapper.TicketRow ticket = mapper.ticket(fields("ref", "T1", "title", "A", "priority", "LOW"));
+
+        TicketImportMapper.CommentRow comment = mapper.comment(fields("ticketref", "T1", "body", "Looks good"));
+        assertThat(comment.ticketId()).isEqualTo(ticket.id());
+        assertThat(comment.authorId()).isEqualTo(IMPORTER);
+
+        TicketImportMapper.AttachmentRow attachment = mapper.attachment(fields("ticketref", "T1",
+                "filename", "log.txt", "contenttype", "text/plain", "filesize", "42"));
+        assertThat(attachment.ticketId()).isEqualTo(ticket.id());
+        assertThat(attachment.fileSize()).isEqualTo(42);
+
+        assertThatThrownBy(() -> mapper.comment(fields("ticketref", "T9", "body", "x")))
+                .hasMessageContaining("Unknown ticketRef");
+        assertThatThrownBy(() -> mapper.ticket(fields("ref", "T1", "title", "B", "priority", "LOW")))
+                .hasMessageContaining("Duplicate ref");
+    }
+
+    @Test
+    void attachment_ignoresImportedS3Key() throws Exception {
+        mapper.ticket(fields("ref", "T1", "title", "A", "priority", "LOW"));
+        UUID orgId = UUID.randomUUID();
+        String foreignKey = "org/" + UUID.randomUUID() + "/tickets/" + UUID.randomUUID() + "/secret.pdf";
+
+        TicketImportMapper.AttachmentRow attachment = mapper.attachment(fields("ticketref", "T1",
+                "filename", "secret.pdf", "contenttype", "application/pdf", "s3key", foreignKey));
+        StringWriter out = new StringWriter();
+        TicketImportWorker.writeAttachment(out, orgId, attachment, NOW);
+
+        assertThat(out.toString())
+                .doesNotContain(foreignKey)
+                .doesNotContain("UPLOADED")
+                .contains(",\"0\",,\"" + TicketImportWorker.IMPORTED_ATTACHMENT_STATUS + "\",");
+    }
+
+    @Test
+    void type_defaultsToTicketAndRejectsUnknown() throws Exception {
+        assertThat(TicketImportMapper.type(fields())).isEqualTo("ticket");
+        assertThat(TicketImportMapper.type(fields("type", " Comment "))).isEqualTo("comment");
+        assertThatThrownBy(() -> TicketImportMapper.type(fields("type", "epic")))
+                .hasMessageContaining("Unknown type");
+    }
+
+    @Test
+    void writeRecord_quotesValuesAndLeavesNullsEmpty() throws Exception {
+        StringWriter out = new StringWriter();
+        TicketImportWorker.writeRecord(out, "a", null, "", "say \"hi\"", 3L);
+        assertThat(out.toString()).isEqualTo("\"a\",,\"\",\"say \"\"hi\"\"\",\"3\"\n");
+    }
+
+    private static Map<String, String> fields(String... pairs) {
+        Map<String, String> fields = new HashMap<>();
+        for (int i = 0; i < pairs.length; i += 2) {
+            fields.put(pairs[i], pairs[i + 1]);
+        }
+        return fields;
+    }
+}
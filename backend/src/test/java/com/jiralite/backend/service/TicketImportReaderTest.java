@@ -0,0 +1,65 @@
+package com.jiralite.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class TicketImportReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void csv_handlesQuotesMultilineFieldsAndBlankCells() throws Exception {
+        String csv = "\uFEFFType,Ref,Title,Description,Priority\n"
+                + "ticket,T1,\"Login, broken\",\"line one\nline \"\"two\"\"\",HIGH\n"
+                + "\n"
+                + "ticket,T2,Plain,,LOW\n";
+        try (TicketImportReader reader = reader(csv, TicketExportService.Format.CSV)) {
+            TicketImportReader.Row first = reader.next();
+            assertThat(first.line()).isEqualTo(2);
+            assertThat(first.error()).isNull();
+            assertThat(first.fields()).containsEntry("type", "ticket")
+                    .containsEntry("title", "Login, broken")
+                    .containsEntry("description", "line one\nline \"two\"");
+
+            TicketImportReader.Row second = reader.next();
+            assertThat(second.line()).isEqualTo(5);
+            assertThat(second.fields()).containsEntry("title", "Plain").containsEntry("description", null);
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @Test
+    void csv_reportsWrongColumnCount() throws Exception {
+        try (TicketImportReader reader = reader("title,priority\nonly-title\n", TicketExportService.Format.CSV)) {
+            TicketImportReader.Row row = reader.next();
+            assertThat(row.error()).contains("Expected 2 columns");
+        }
+    }
+
+    @Test
+    void ndjson_readsObjectsAndFlagsInvalidLines() throws Exception {
+        String ndjson = "{\"title\":\"A\",\"priority\":\"LOW\",\"assigneeId\":null}\n"
+                + "\n"
+                + "not json\n"
+                + "[1,2]\n";
+        try (TicketImportReader reader = reader(ndjson, TicketExportService.Format.NDJSON)) {
+            TicketImportReader.Row first = reader.next();
+            assertThat(first.fields()).containsEntry("title", "A").containsEntry("assigneeid", null);
+
+            assertThat(reader.next().error()).isEqualTo("Invalid JSON");
+            TicketImportReader.Row array = reader.next();
+            assertThat(array.line()).isEqualTo(4);
+            assertThat(array.error()).isEqualTo("Expected a JSON object");
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    private TicketImportReader reader(String content, TicketExportService.Format format) {
+        return new TicketImportReader(new StringReader(content), format, objectMapper);
+    }
+}
@@ -0,0 +1,74 @@
+package com.jiralite.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.jiralite.backend.exception.ApiException;
+import com.jiralite.backend.repository.ProjectRepository;
+
+@ExtendWith(MockitoExtension.class)
+class TicketKeyAllocatorTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TicketKeyAllocator allocator;
+
+    private final UUID orgId = UUID.randomUUID();
+    private final UUID projectId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        allocator = new TicketKeyAllocator(projectRepository, transactionManager, 3);
+    }
+
+    @Test
+    void next_servesNumbersFromReservedBlock() {
+        when(projectRepository.advanceNextTicketNumber(orgId, projectId, 3)).thenReturn(1);
+        when(projectRepository.findNextTicketNumber(projectId)).thenReturn(4L, 7L);
+
+        assertThat(allocator.next(orgId, projectId)).isEqualTo(1);
+        assertThat(allocator.next(orgId, projectId)).isEqualTo(2);
+        assertThat(allocator.next(orgId, projectId)).isEqualTo(3);
+        assertThat(allocator.next(orgId, projectId)).isEqualTo(4);
+
+        verify(projectRepository, times(2)).advanceNextTicketNumber(orgId, projectId, 3);
+    }
+
+    @Test
+    void reserve_throwsWhenProjectNotInOrg() {
+        when(projectRepository.advanceNextTicketNumber(orgId, projectId, 5)).thenReturn(0);
+
+        assertThatThrownBy(() -> allocator.reserve(orgId, projectId, 5))
+                .isInstanceOf(ApiException.class)
+                .hasMessageContaining("Project not found");
+    }
+
+    @Test
+    void reserve_refusesToRunInsideTransaction() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            assertThatThrownBy(() -> allocator.reserve(orgId, projectId, 5))
+                    .isInstanceOf(IllegalStateException.class);
+            verify(projectRepository, never()).advanceNextTicketNumber(orgId, projectId, 5);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.jiralite.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.jiralite.backend.exception.ApiException;
+import com.jiralite.backend.service.TicketQuery.And;
+import com.jiralite.backend.service.TicketQuery.Clause;
+import com.jiralite.backend.service.TicketQuery.Field;
+import com.jiralite.backend.service.TicketQuery.Not;
+import com.jiralite.backend.service.TicketQuery.Operator;
+import com.jiralite.backend.service.TicketQuery.OrderBy;
+
+class TicketQueryParserTest {
+
+    @Test
+    void parse_buildsTreeAndOrderBy() {
+        TicketQuery query = TicketQueryParser.parse(
+                "status in (open, in_progress) AND assignee = me order by priority desc, created");
+
+        assertThat(query.where()).isEqualTo(new And(List.of(
+                new Clause(Field.STATUS, Operator.IN, List.of("OPEN", "IN_PROGRESS")),
+                new Clause(Field.ASSIGNEE, Operator.EQ, List.of("me")))));
+        assertThat(query.orderBy()).containsExactly(
+                new OrderBy(Field.PRIORITY, true),
+                new OrderBy(Field.CREATED, false));
+    }
+
+    @Test
+    void parse_handlesNotQuotedTextAndEmptyChecks() {
+        assertThat(TicketQueryParser.parse("not title ~ \"login bug\"").where())
+                .isEqualTo(new Not(new Clause(Field.TITLE, Operator.CONTAINS, List.of("login bug"))));
+        assertThat(TicketQueryParser.parse("assignee is empty").where())
+                .isEqualTo(new Clause(Field.ASSIGNEE, Operator.IS_EMPTY, List.of()));
+        assertThat(TicketQueryParser.parse("order by updated desc").where()).isNull();
+    }
+
+    @Test
+    void parse_rejectsInvalidQueries() {
+        assertThatThrownBy(() -> TicketQueryParser.parse("(status = OPEN"))
+                .isInstanceOf(ApiException.class)
+                .hasMessageContaining("Expected ')'");
+        assertThatThrownBy(() -> TicketQueryParser.parse("status = SOMEDAY"))
+                .hasMessageContaining("Unknown status");
+        assertThatThrownBy(() -> TicketQueryParser.parse("foo = 1"))
+                .hasMessageContaining("Unknown field");
+        assertThatThrownBy(() -> TicketQueryParser.parse("title = x"))
+                .hasMessageContaining("not supported for title");
+        assertThatThrownBy(() -> TicketQueryParser.parse("created >= yesterday"))
+                .isInstanceOf(ApiException.class);
+        assertThatThrownBy(() -> TicketQueryParser.parse("status = OPEN or ".repeat(60) + "status = DONE"))
+                .isInstanceOf(ApiException.class);
+    }
+
+    @Test
+    void isIndexed_requiresAnIndexedTermOnEveryOrBranch() {
+        assertThat(indexed("status = OPEN and title ~ login")).isTrue();
+        assertThat(indexed("priority > medium")).isTrue();
+        assertThat(indexed("created >= -7d or project = WEB")).isTrue();
+        assertThat(indexed("status = OPEN or title ~ login")).isFalse();
+        assertThat(indexed("not status = OPEN")).isFalse();
+        assertThat(indexed("assignee is empty")).isFalse();
+    }
+
+    @Test
+    void relative_parsesUnits() {
+        assertThat(TicketQueryPlanner.relative("-7d")).isEqualTo(Duration.ofDays(-7));
+        assertThat(TicketQueryPlanner.relative("2w")).isEqualTo(Duration.ofDays(14));
+        assertThat(TicketQueryPlanner.relative("+90m")).isEqualTo(Duration.ofMinutes(90));
+    }
+
+    private static boolean indexed(String source) {
+        return TicketQueryPlanner.isIndexed(TicketQueryParser.parse(source).where());
+    }
+}
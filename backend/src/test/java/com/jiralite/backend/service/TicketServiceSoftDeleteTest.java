@@ -13,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.OffsetDateTime;
 import java.util.Optional;
@@ -41,6 +42,16 @@ class TicketServiceSoftDeleteTest {
     private NotificationService notificationService;
     @Mock
     private AuditLogRepository auditLogRepository;
+    @Mock
+    private TicketKeyAllocator ticketKeyAllocator;
+    @Mock
+    private TicketDetailCache ticketDetailCache;
+    @Mock
+    private TicketQueryPlanner ticketQueryPlanner;
+    @Mock
+    private SavedFilterCounter savedFilterCounter;
+    @Mock
+    private PlatformTransactionManager transactionManager;
 
     private TicketService service;
     private final UUID orgId = UUID.fromString("11111111-1111-1111-1111-111111111111");
@@ -50,7 +61,8 @@ class TicketServiceSoftDeleteTest {
     @BeforeEach
     void setUp() {
         service = new TicketService(ticketRepository, projectRepository, membershipRepository,
-                commentRepository, attachmentRepository, notificationService, auditLogRepository);
+                commentRepository, attachmentRepository, notificationService, auditLogRepository, ticketKeyAllocator,
+                ticketDetailCache, ticketQueryPlanner, savedFilterCounter, transactionManager);
         TenantContextHolder.set(new TenantContext(orgId.toString(), userId.toString(), Set.of("MEMBER"), "trace"));
     }
 
@@ -1,10 +1,19 @@
 package com.jiralite.backend.service;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -13,8 +22,20 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import com.jiralite.backend.dto.BulkCreateTicketsRequest;
+import com.jiralite.backend.dto.BulkTicketResult;
+import com.jiralite.backend.dto.BulkTransitionTicketsRequest;
 import com.jiralite.backend.dto.CreateTicketRequest;
+import com.jiralite.backend.dto.PageMeta;
+import com.jiralite.backend.dto.PagedResponse;
+import com.jiralite.backend.dto.TicketChangesResponse;
+import com.jiralite.backend.dto.TicketResponse;
+import com.jiralite.backend.dto.TicketSearchResult;
 import com.jiralite.backend.dto.TransitionTicketRequest;
 import com.jiralite.backend.entity.ProjectEntity;
 import com.jiralite.backend.entity.TicketEntity;
@@ -28,6 +49,8 @@ import com.jiralite.backend.repository.TicketAttachmentRepository;
 import com.jiralite.backend.security.tenant.TenantContext;
 import com.jiralite.backend.security.tenant.TenantContextHolder;
 
+import jakarta.persistence.PersistenceException;
+
 @ExtendWith(MockitoExtension.class)
 class TicketServiceTest {
 
@@ -45,6 +68,16 @@ class TicketServiceTest {
     private NotificationService notificationService;
     @Mock
     private AuditLogRepository auditLogRepository;
+    @Mock
+    private TicketKeyAllocator ticketKeyAllocator;
+    @Mock
+    private TicketDetailCache ticketDetailCache;
+    @Mock
+    private TicketQueryPlanner ticketQueryPlanner;
+    @Mock
+    private SavedFilterCounter savedFilterCounter;
+    @Mock
+    private PlatformTransactionManager transactionManager;
 
     private TicketService ticketService;
 
@@ -54,7 +87,8 @@ class TicketServiceTest {
     @BeforeEach
     void setUp() {
         ticketService = new TicketService(ticketRepository, projectRepository, membershipRepository,
-                commentRepository, attachmentRepository, notificationService, auditLogRepository);
+                commentRepository, attachmentRepository, notificationService, auditLogRepository, ticketKeyAllocator,
+                ticketDetailCache, ticketQueryPlanner, savedFilterCounter, transactionManager);
         TenantContextHolder.set(new TenantContext(ORG_ID.toString(), USER_ID.toString(),
                 java.util.Set.of("user"), "access_token"));
     }
@@ -110,4 +144,212 @@ class TicketServiceTest {
                 .isInstanceOf(ApiException.class)
                 .hasMessageContaining("Invalid status transition");
     }
+
+    @Test
+    void listTickets_CursorMode_ReturnsNextCursorWithoutCount() {
+        OffsetDateTime now = OffsetDateTime.now();
+        List<TicketResponse> rows = List.of(responseAt(now), responseAt(now.minusMinutes(1)),
+                responseAt(now.minusMinutes(2)));
+        when(ticketRepository.findResponses(any(), any(), eq(0L), eq(3), eq(true))).thenReturn(rows);
+
+        PagedResponse<TicketResponse> result = ticketService.listTickets(null, null, null, null,
+                PageRequest.of(0, 2), "", false, true);
+
+        assertThat(result.content()).hasSize(2);
+        assertThat(result.page().totalElements()).isEqualTo(PageMeta.NOT_COMPUTED);
+        TicketCursor next = TicketCursor.decode(result.page().nextCursor());
+        assertThat(next.id()).isEqualTo(rows.get(1).id());
+        assertThat(next.direction()).isEqualTo(Sort.Direction.DESC);
+        verify(ticketRepository, never()).count(any(Specification.class));
+    }
+
+    @Test
+    void listTickets_InvalidCursor_ThrowsException() {
+        assertThatThrownBy(() -> ticketService.listTickets(null, null, null, null,
+                PageRequest.of(0, 20), "not-a-cursor", true, false))
+                .isInstanceOf(ApiException.class)
+                .hasMessageContaining("Invalid cursor");
+    }
+
+    @Test
+    void listTickets_ShortFirstPage_SkipsCount() {
+        when(ticketRepository.findResponses(any(), any(), eq(0L), eq(20), eq(false)))
+                .thenReturn(List.of(responseAt(OffsetDateTime.now())));
+
+        PagedResponse<TicketResponse> result = ticketService.listTickets(null, null, null, null,
+                PageRequest.of(0, 20), null, true, false);
+
+        assertThat(result.page().totalElements()).isEqualTo(1);
+        verify(ticketRepository, never()).count(any(Specification.class));
+    }
+
+    private TicketResponse responseAt(OffsetDateTime createdAt) {
+        return new TicketResponse(UUID.randomUUID(), UUID.randomUUID(), "JIRA-1", "Title", null, "OPEN", "LOW",
+                null, null, createdAt, createdAt);
+    }
+
+    private TicketEntity ticketAt(OffsetDateTime createdAt) {
+        TicketEntity ticket = new TicketEntity();
+        ticket.setId(UUID.randomUUID());
+        ticket.setOrgId(ORG_ID);
+        ticket.setStatus("OPEN");
+        ticket.setPriority("LOW");
+        ticket.setCreatedAt(createdAt);
+        ticket.setUpdatedAt(createdAt);
+        return ticket;
+    }
+
+    @Test
+    void toPrefixTsQuery_KeepsWordTokensAndPrefixesLast() {
+        assertThat(TicketService.toPrefixTsQuery("Login  fails & crash!")).isEqualTo("login & fails & crash:*");
+        assertThat(TicketService.toPrefixTsQuery("  ':*|  ")).isNull();
+        assertThat(TicketService.toPrefixTsQuery(null)).isNull();
+    }
+
+    @Test
+    void toHighlightHtml_EscapesTextAndMarksOnlyMatches() {
+        assertThat(TicketService.toHighlightHtml("<img src=x onerror=alert(1)> \u0002crash\u0003 & <mark>"))
+                .isEqualTo("&lt;img src=x onerror=alert(1)&gt; <mark>crash</mark> &amp; &lt;mark&gt;");
+        assertThat(TicketService.toHighlightHtml(null)).isNull();
+    }
+
+    @Test
+    void search_ShortFirstPage_SkipsCount() {
+        when(ticketRepository.searchRanked(eq(ORG_ID), eq("crash:*"), eq(20), eq(0L))).thenReturn(List.of());
+
+        PagedResponse<TicketSearchResult> result = ticketService.search("crash", PageRequest.of(0, 20));
+
+        assertThat(result.content()).isEmpty();
+        assertThat(result.page().totalElements()).isZero();
+        verify(ticketRepository, never()).countSearchMatches(any(), any());
+    }
+
+    @Test
+    void createTickets_ReservesOneKeyBlockAndBatchInserts() {
+        UUID projectId = UUID.randomUUID();
+        ProjectEntity project = new ProjectEntity();
+        project.setId(projectId);
+        project.setProjectKey("JIRA");
+        when(projectRepository.findByIdAndOrgId(projectId, ORG_ID)).thenReturn(Optional.of(project));
+        when(ticketKeyAllocator.reserve(ORG_ID, projectId, 2)).thenReturn(41L);
+
+        BulkCreateTicketsRequest request = new BulkCreateTicketsRequest();
+        request.setProjectId(projectId);
+        request.setTickets(List.of(bulkItem("First", "low"), bulkItem("Second", "HIGH")));
+
+        List<TicketResponse> result = ticketService.createTickets(request);
+
+        assertThat(result).extracting(TicketResponse::key).containsExactly("JIRA-41", "JIRA-42");
+        assertThat(result).extracting(TicketResponse::priority).containsExactly("LOW", "HIGH");
+        verify(ticketRepository).insertAll(anyList());
+        verify(auditLogRepository).insertAll(anyList());
+        verify(ticketRepository, never()).save(any());
+    }
+
+    @Test
+    void createTickets_AuditFailure_FailsTheRequest() {
+        UUID projectId = UUID.randomUUID();
+        ProjectEntity project = new ProjectEntity();
+        project.setId(projectId);
+        project.setProjectKey("JIRA");
+        when(projectRepository.findByIdAndOrgId(projectId, ORG_ID)).thenReturn(Optional.of(project));
+        when(ticketKeyAllocator.reserve(ORG_ID, projectId, 1)).thenReturn(1L);
+        doThrow(new PersistenceException("flush failed")).when(auditLogRepository).insertAll(anyList());
+
+        BulkCreateTicketsRequest request = new BulkCreateTicketsRequest();
+        request.setProjectId(projectId);
+        request.setTickets(List.of(bulkItem("First", "low")));
+
+        assertThatThrownBy(() -> ticketService.createTickets(request)).isInstanceOf(PersistenceException.class);
+    }
+
+    @Test
+    void createTickets_InvalidPriority_AllocatesNoKeys() {
+        UUID projectId = UUID.randomUUID();
+        when(projectRepository.findByIdAndOrgId(projectId, ORG_ID)).thenReturn(Optional.of(new ProjectEntity()));
+
+        BulkCreateTicketsRequest request = new BulkCreateTicketsRequest();
+        request.setProjectId(projectId);
+        request.setTickets(List.of(bulkItem("Ok", "LOW"), bulkItem("Bad", "SUPER_URGENT")));
+
+        assertThatThrownBy(() -> ticketService.createTickets(request))
+                .isInstanceOf(ApiException.class)
+                .hasMessageContaining("Invalid priority");
+        verify(ticketKeyAllocator, never()).reserve(any(), any(), anyInt());
+    }
+
+    private BulkCreateTicketsRequest.Item bulkItem(String title, String priority) {
+        BulkCreateTicketsRequest.Item item = new BulkCreateTicketsRequest.Item();
+        item.setTitle(title);
+        item.setPriority(priority);
+        return item;
+    }
+
+    @Test
+    void transitionTickets_ReportsPerTicketOutcomeAndUpdatesValidOnes() {
+        TicketEntity open = ticketAt(OffsetDateTime.now());
+        TicketEntity cancelled = ticketAt(OffsetDateTime.now());
+        cancelled.setStatus("CANCELLED");
+        UUID missing = UUID.randomUUID();
+        when(ticketRepository.findActiveForUpdate(eq(ORG_ID), any())).thenReturn(List.of(open, cancelled));
+
+        BulkTransitionTicketsRequest request = new BulkTransitionTicketsRequest();
+        request.setTicketIds(List.of(open.getId(), cancelled.getId(), missing));
+        request.setStatus("done");
+
+        List<BulkTicketResult> results = ticketService.transitionTickets(request);
+
+        assertThat(results).extracting(BulkTicketResult::outcome).containsExactly(
+                BulkTicketResult.Outcome.UPDATED,
+                BulkTicketResult.Outcome.INVALID_TRANSITION,
+                BulkTicketResult.Outcome.NOT_FOUND);
+        verify(ticketRepository).updateStatus(eq(ORG_ID), eq(List.of(open.getId())), eq("DONE"), any());
+    }
+
+    @Test
+    void changesSince_WithoutToken_ReturnsCurrentPositionOnly() {
+        when(ticketRepository.currentChangeWatermark(anyLong())).thenReturn(watermark("1042", false));
+
+        TicketChangesResponse result = ticketService.changesSince(null, 100);
+
+        assertThat(result.changes()).isEmpty();
+        assertThat(result.stalled()).isFalse();
+        assertThat(TicketChangeToken.decode(result.nextToken()).xid()).isEqualTo("1042");
+        verify(ticketRepository, never()).findChanges(any(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void changesSince_ReportsFeedHeldBackByLongTransaction() {
+        when(ticketRepository.currentChangeWatermark(anyLong())).thenReturn(watermark("1042", true));
+        when(ticketRepository.findChanges(eq(ORG_ID), eq("1042"), any(), eq("1042"), anyInt())).thenReturn(List.of());
+
+        TicketChangesResponse result = ticketService.changesSince(TicketChangeToken.watermark("1042").encode(), 100);
+
+        assertThat(result.changes()).isEmpty();
+        assertThat(result.stalled()).isTrue();
+    }
+
+    @Test
+    void changesSince_InvalidToken_ThrowsException() {
+        when(ticketRepository.currentChangeWatermark(anyLong())).thenReturn(watermark("1042", false));
+        String token = java.util.Base64.getUrlEncoder().encodeToString("1;DROP|x".getBytes());
+
+        assertThatThrownBy(() -> ticketService.changesSince(token, 100))
+                .isInstanceOf(ApiException.class)
+                .hasMessageContaining("Invalid change token");
+    }
+
+    private static TicketRepository.ChangeWatermark watermark(String xid, boolean stalled) {
+        return new TicketRepository.ChangeWatermark() {
+            @Override
+            public String getXid() {
+                return xid;
+            }
+
+            @Override
+            public Boolean getStalled() {
+                return stalled;
+            }
+        };
+    }
 }
@@ -34,6 +34,11 @@ class TicketServiceTransitionTest {
     @Mock
     private OrgMembershipRepository membershipRepository;
 
+    @Mock
+    private TicketDetailCache ticketDetailCache;
+    @Mock
+    private SavedFilterCounter savedFilterCounter;
+
     @InjectMocks
     private TicketService ticketService;
 
@@ -24,20 +24,60 @@ export async function markNotificationRead(id: string): Promise<void> {
   await apiRequest(`/notifications/${id}/read`, { method: 'PATCH' });
 }
 
+export type UnreadCount = { unread: number };
+
+export async function getUnreadCount(): Promise<UnreadCount> {
+  return apiRequest('/notifications/unread-count', { method: 'GET' });
+}
+
+// One request (and one UPDATE) for any number of notifications; returns the new count
+export async function markNotificationsRead(ids: string[]): Promise<UnreadCount> {
+  return apiRequest('/notifications/read', { method: 'POST', body: JSON.stringify({ ids }) });
+}
+
+export async function markAllNotificationsRead(): Promise<UnreadCount> {
+  return apiRequest('/notifications/read-all', { method: 'POST' });
+}
+
+export type NotificationPreferences = {
+  mutedTypes: string[];
+  digestTypes: string[];
+  mutedProjectIds: string[];
+  types?: string[];
+};
+
+// Muted types/projects are never stored; digest-only types are stored but not pushed live
+export async function getNotificationPreferences(): Promise<NotificationPreferences> {
+  return apiRequest('/notifications/preferences', { method: 'GET' });
+}
+
+export async function updateNotificationPreferences(
+  preferences: Omit<NotificationPreferences, 'types'>
+): Promise<NotificationPreferences> {
+  return apiRequest('/notifications/preferences', { method: 'PUT', body: JSON.stringify(preferences) });
+}
+
 export type NotificationEvent =
-  | { type: "notification"; data: Notification }
-  | { type: "connected" };
+  | { type: "notification"; id?: string; data: Notification }
+  | { type: "connected" }
+  | { type: "resync" }
+  | { type: "unread"; unread: number };
 
 // Manual SSE using fetch so we can attach Authorization header.
-export async function connectNotificationStream(accessToken: string, onEvent: (ev: NotificationEvent) => void) {
+// Pass the id of the last event received to have missed notifications replayed.
+export async function connectNotificationStream(
+  accessToken: string,
+  onEvent: (ev: NotificationEvent) => void,
+  lastEventId?: string
+) {
   const path = "/notifications/stream";
   const url = baseUrl ? `${baseUrl.replace(/\/$/, "")}${path}` : path;
-  const resp = await fetch(url, {
-    headers: {
-      Authorization: `Bearer ${accessToken}`,
-      Accept: "text/event-stream"
-    }
-  });
+  const headers: Record<string, string> = {
+    Authorization: `Bearer ${accessToken}`,
+    Accept: "text/event-stream"
+  };
+  if (lastEventId) headers["Last-Event-ID"] = lastEventId;
+  const resp = await fetch(url, { headers });
   // 即便后端未显式发送 connected 事件，先行触发一次，便于前端状态
   onEvent({ type: "connected" });
   if (!resp.ok || !resp.body) {
@@ -47,6 +87,24 @@ export async function connectNotificationStream(accessToken: string, onEvent: (e
   const decoder = new TextDecoder();
   let buffer = "";
   let done = false;
+  // Fields accumulate across chunks; a blank line ends the event
+  let eventType = "message";
+  let eventId: string | undefined;
+  let dataStr = "";
+  const dispatch = () => {
+    if (eventType === "notification" && dataStr) {
+      onEvent({ type: "notification", id: eventId, data: JSON.parse(dataStr) });
+    } else if (eventType === "connected") {
+      onEvent({ type: "connected" });
+    } else if (eventType === "resync") {
+      onEvent({ type: "resync" });
+    } else if (eventType === "unread" && dataStr) {
+      onEvent({ type: "unread", unread: JSON.parse(dataStr).unread });
+    }
+    eventType = "message";
+    eventId = undefined;
+    dataStr = "";
+  };
   while (!done) {
     const { value, done: isDone } = await reader.read();
     done = isDone;
@@ -54,16 +112,11 @@ export async function connectNotificationStream(accessToken: string, onEvent: (e
     buffer += decoder.decode(value, { stream: true });
     const lines = buffer.split("\n");
     buffer = lines.pop() ?? "";
-    let eventType = "message";
-    let dataStr = "";
     for (const line of lines) {
+      if (line === "" || line === "\r") dispatch();
       if (line.startsWith("event:")) eventType = line.slice(6).trim();
+      if (line.startsWith("id:")) eventId = line.slice(3).trim();
       if (line.startsWith("data:")) dataStr += line.slice(5).trim();
     }
-    if (eventType === "notification" && dataStr) {
-      onEvent({ type: "notification", data: JSON.parse(dataStr) });
-    } else if (eventType === "connected") {
-      onEvent({ type: "connected" });
-    }
   }
 }
@@ -1,13 +1,15 @@
 import { apiRequest } from "./client";
-import { PagedResponse, Ticket } from "./types";
+import { PagedResponse, Ticket, TicketBoard, TicketSearchResult } from "./types";
 
 export type TicketFilters = {
   status?: string;
   priority?: string;
   projectId?: string;
+  q?: string;
   page?: number;
   size?: number;
   sort?: string;
+  summary?: boolean;
 };
 
 function buildQuery(filters: TicketFilters): string {
@@ -21,6 +23,9 @@ function buildQuery(filters: TicketFilters): string {
   if (filters.projectId) {
     params.set("projectId", filters.projectId);
   }
+  if (filters.q) {
+    params.set("q", filters.q);
+  }
   if (filters.page !== undefined) {
     params.set("page", String(filters.page));
   }
@@ -30,6 +35,9 @@ function buildQuery(filters: TicketFilters): string {
   if (filters.sort) {
     params.set("sort", filters.sort);
   }
+  if (filters.summary) {
+    params.set("summary", "true");
+  }
   const query = params.toString();
   return query ? `?${query}` : "";
 }
@@ -38,9 +46,13 @@ export async function listTickets(filters: TicketFilters): Promise<PagedResponse
   return apiRequest<PagedResponse<Ticket>>(`/tickets${buildQuery(filters)}`);
 }
 
-export async function searchTickets(keyword: string): Promise<Ticket[]> {
-  const params = new URLSearchParams({ keyword });
-  return apiRequest<Ticket[]>(`/tickets/search?${params.toString()}`);
+export async function searchTickets(
+  keyword: string,
+  page = 0,
+  size = 20
+): Promise<PagedResponse<TicketSearchResult>> {
+  const params = new URLSearchParams({ keyword, page: String(page), size: String(size) });
+  return apiRequest<PagedResponse<TicketSearchResult>>(`/tickets/search?${params.toString()}`);
 }
 
 export async function getTicket(ticketId: string): Promise<Ticket> {
@@ -76,3 +88,8 @@ export async function transitionTicket(ticketId: string, status: string): Promis
     body: JSON.stringify({ status })
   });
 }
+
+export async function getTicketBoard(projectId: string, perColumn = 50): Promise<TicketBoard> {
+  const params = new URLSearchParams({ projectId, perColumn: String(perColumn) });
+  return apiRequest<TicketBoard>(`/tickets/board?${params.toString()}`);
+}
@@ -41,6 +41,24 @@ export type Ticket = {
   updatedAt: string;
 };
 
+export type TicketSearchResult = {
+  ticket: Ticket;
+  rank: number;
+  highlightedTitle: string;
+  snippet: string;
+};
+
+export type TicketBoardColumn = {
+  status: string;
+  total: number;
+  tickets: Ticket[];
+};
+
+export type TicketBoard = {
+  projectId: string;
+  columns: TicketBoardColumn[];
+};
+
 export type Comment = {
   id: string;
   authorId?: string | null;
@@ -25,7 +25,15 @@ import { useMemo, useState, useEffect, useCallback } from "react";
 import { useQuery, useMutation, useQueryClient } from "@tanstack/react-query";
 import { getProfile, getAvatarUrl } from "../api/profile";
 import { useOrgMembers } from "../query/memberQueries";
-import { listNotifications, markNotificationRead, Notification, connectNotificationStream } from "../api/notifications";
+import {
+  listNotifications,
+  markNotificationsRead,
+  markAllNotificationsRead,
+  getUnreadCount,
+  Notification,
+  UnreadCount,
+  connectNotificationStream
+} from "../api/notifications";
 
 export default function Layout() {
   const { logout, state } = useAuth();
@@ -47,6 +55,17 @@ export default function Layout() {
     refetchInterval: 15000
   });
 
+  // Badge count is cached server-side and pushed over SSE ("unread" events)
+  const unreadQuery = useQuery({
+    queryKey: ["notification-unread-count"],
+    queryFn: () => getUnreadCount(),
+    staleTime: 60000
+  });
+  const setUnread = useCallback(
+    (count: UnreadCount) => queryClient.setQueryData(["notification-unread-count"], count),
+    [queryClient]
+  );
+
   const profileQuery = useQuery({
     queryKey: ["profile"],
     queryFn: () => getProfile()
@@ -61,26 +80,38 @@ export default function Layout() {
   useEffect(() => {
     if (!state.tokens?.accessToken) return;
     let cancelled = false;
+    // 重连时带上 Last-Event-ID，后端只补发漏掉的通知
+    let lastEventId: string | undefined;
     const start = async () => {
       try {
-        await connectNotificationStream(state.tokens!.accessToken, (ev) => {
-          if (cancelled) return;
-          if (ev.type === "notification") {
-            queryClient.invalidateQueries({ queryKey: ["notifications"] });
-          }
-        });
+        await connectNotificationStream(
+          state.tokens!.accessToken,
+          (ev) => {
+            if (cancelled) return;
+            if (ev.type === "notification") {
+              if (ev.id) lastEventId = ev.id;
+              queryClient.invalidateQueries({ queryKey: ["notifications"] });
+            } else if (ev.type === "resync") {
+              queryClient.invalidateQueries({ queryKey: ["notifications"] });
+            } else if (ev.type === "unread") {
+              setUnread({ unread: ev.unread });
+            }
+          },
+          lastEventId
+        );
       } catch {
         // 连接失败则稍后重试
-        setTimeout(() => {
-          if (!cancelled) start();
-        }, 5000);
       }
+      // 连接断开（含正常结束）后稍后重连
+      setTimeout(() => {
+        if (!cancelled) start();
+      }, 5000);
     };
     start();
     return () => {
       cancelled = true;
     };
-  }, [state.tokens?.accessToken, state.tokens, queryClient]);
+  }, [state.tokens?.accessToken, state.tokens, queryClient, setUnread]);
 
   const memberMap = useMemo(() => {
     const map = new Map<string, string>();
@@ -113,22 +144,32 @@ export default function Layout() {
     return [];
   }, [notificationsQuery.data]);
 
-  const unread = useMemo(
-    () => notifications.filter((n: Notification) => !n.read && !n.isRead).length,
-    [notifications]
-  );
+  const markLocallyRead = (ids: string[] | null) => {
+    queryClient.setQueryData(["notifications"], (prev: any) => {
+      if (!prev) return prev;
+      const list = Array.isArray(prev) ? prev : prev.content;
+      if (!list) return prev;
+      const nextList = list.map((n: Notification) =>
+        ids === null || ids.includes(n.id) ? { ...n, read: true, isRead: true } : n
+      );
+      return Array.isArray(prev) ? nextList : { ...prev, content: nextList };
+    });
+    queryClient.invalidateQueries({ queryKey: ["notifications"] });
+  };
 
   const markReadMutation = useMutation({
-    mutationFn: (id: string) => markNotificationRead(id),
-    onSuccess: (_, id) => {
-      queryClient.setQueryData(["notifications"], (prev: any) => {
-        if (!prev) return prev;
-        const list = Array.isArray(prev) ? prev : prev.content;
-        if (!list) return prev;
-        const nextList = list.map((n: Notification) => (n.id === id ? { ...n, read: true, isRead: true } : n));
-        return Array.isArray(prev) ? nextList : { ...prev, content: nextList };
-      });
-      queryClient.invalidateQueries({ queryKey: ["notifications"] });
+    mutationFn: (id: string) => markNotificationsRead([id]),
+    onSuccess: (count, id) => {
+      setUnread(count);
+      markLocallyRead([id]);
+    }
+  });
+
+  const markAllReadMutation = useMutation({
+    mutationFn: () => markAllNotificationsRead(),
+    onSuccess: (count) => {
+      setUnread(count);
+      markLocallyRead(null);
     }
   });
 
@@ -138,7 +179,7 @@ export default function Layout() {
     const list = unreadOnly.length > 0 ? unreadOnly : notifications;
     return list.slice(0, 5);
   }, [notifications]);
-  const badgeCount = unread;
+  const badgeCount = unreadQuery.data?.unread ?? 0;
 
   const displayName = profileQuery.data?.displayName || state.profile?.email || state.profile?.sub || "";
   const accountLabel = displayName || "Account";
@@ -232,6 +273,11 @@ export default function Layout() {
                 <ListItemText primary="No notifications" />
               </MenuItem>
             )}
+            {badgeCount > 0 && (
+              <MenuItem dense onClick={() => markAllReadMutation.mutate()} disabled={markAllReadMutation.isPending}>
+                <ListItemText primary="Mark all read" />
+              </MenuItem>
+            )}
             {notifications.length > 0 && (
               <MenuItem
                 dense
@@ -64,11 +64,14 @@ describe("Layout", () => {
   it("shows unread notifications and marks them as read", async () => {
     mockedApiRequest.mockImplementation(async (url, options) => {
       const path = url.toString();
+      if (path === "/notifications/unread-count") {
+        return { unread: 1 };
+      }
       if (path.startsWith("/notifications") && (!options || options.method === "GET")) {
         return [{ id: "1", content: "Message", isRead: false, createdAt: new Date().toISOString() }];
       }
-      if (path === "/notifications/1/read" && options?.method === "PATCH") {
-        return [];
+      if (path === "/notifications/read" && options?.method === "POST") {
+        return { unread: 0 };
       }
       if (path === "/org/members/lookup") {
         return [];
@@ -91,7 +94,31 @@ describe("Layout", () => {
     fireEvent.click(screen.getByText("Message"));
 
     await waitFor(() => {
-      expect(mockedApiRequest).toHaveBeenCalledWith("/notifications/1/read", { method: "PATCH" });
+      expect(mockedApiRequest).toHaveBeenCalledWith("/notifications/read", {
+        method: "POST",
+        body: JSON.stringify({ ids: ["1"] })
+      });
+    });
+  });
+
+  it("marks all notifications read from the menu", async () => {
+    mockedApiRequest.mockImplementation(async (url, options) => {
+      const path = url.toString();
+      if (path === "/notifications/unread-count") return { unread: 3 };
+      if (path === "/notifications/read-all" && options?.method === "POST") return { unread: 0 };
+      if (path.startsWith("/notifications")) return [];
+      if (path === "/org/members/lookup") return [];
+      if (path === "/users/me/profile") return { displayName: "user@test.com" };
+      return [];
+    });
+
+    renderWithProviders();
+
+    fireEvent.click(screen.getByRole("button", { name: /notifications/i }));
+    fireEvent.click(await screen.findByText("Mark all read"));
+
+    await waitFor(() => {
+      expect(mockedApiRequest).toHaveBeenCalledWith("/notifications/read-all", { method: "POST" });
     });
   });
 
@@ -3,7 +3,13 @@ import { Card, CardContent, Container, List, ListItem, ListItemText, Stack, Typo
 import { useState } from "react";
 import { useNotify } from "../components/Notifications";
 import { useNavigate } from "react-router-dom";
-import { listNotifications, markNotificationRead, Notification } from "../api/notifications";
+import {
+  listNotifications,
+  markNotificationsRead,
+  markAllNotificationsRead,
+  Notification,
+  UnreadCount
+} from "../api/notifications";
 import { PagedResponse } from "../api/types";
 
 export default function NotificationsPage() {
@@ -18,14 +24,18 @@ export default function NotificationsPage() {
     queryFn: () => listNotifications({ page: page - 1, size: pageSize })
   });
 
+  // ids: null marks everything read
   const markRead = useMutation({
-    mutationFn: (id: string) => markNotificationRead(id),
-    onSuccess: (_data, id) => {
+    mutationFn: (ids: string[] | null) => (ids === null ? markAllNotificationsRead() : markNotificationsRead(ids)),
+    onSuccess: (count, ids) => {
+      queryClient.setQueryData<UnreadCount>(["notification-unread-count"], count);
       queryClient.setQueryData<PagedResponse<Notification> | undefined>(["notifications", page], (prev) => {
         if (!prev?.content) return prev;
         return {
           ...prev,
-          content: prev.content.map((n) => (n.id === id ? { ...n, read: true, isRead: true } : n))
+          content: prev.content.map((n) =>
+            ids === null || ids.includes(n.id) ? { ...n, read: true, isRead: true } : n
+          )
         };
       });
       queryClient.invalidateQueries({ queryKey: ["notifications"] });
@@ -34,12 +44,27 @@ export default function NotificationsPage() {
   });
 
   const data = query.data?.content ?? [];
+  const unreadOnPage = data.filter((n) => !n.read && !n.isRead).map((n) => n.id);
   const pageCount = query.data?.page?.totalPages ?? 1;
 
   return (
     <Container sx={{ maxWidth: 720, py: 3 }}>
       <Stack spacing={2}>
-        <Typography variant="h5" fontWeight={700}>Notifications</Typography>
+        <Stack direction="row" justifyContent="space-between" alignItems="center">
+          <Typography variant="h5" fontWeight={700}>Notifications</Typography>
+          <Stack direction="row" spacing={1}>
+            <Button
+              size="small"
+              onClick={() => markRead.mutate(unreadOnPage)}
+              disabled={markRead.isPending || unreadOnPage.length === 0}
+            >
+              Mark page read
+            </Button>
+            <Button size="small" onClick={() => markRead.mutate(null)} disabled={markRead.isPending}>
+              Mark all read
+            </Button>
+          </Stack>
+        </Stack>
         <Card>
           <CardContent>
             <List>
@@ -49,7 +74,7 @@ export default function NotificationsPage() {
                   divider
                   secondaryAction={
                     !n.read && !n.isRead ? (
-                      <Button size="small" onClick={() => markRead.mutate(n.id)} disabled={markRead.isPending}>
+                      <Button size="small" onClick={() => markRead.mutate([n.id])} disabled={markRead.isPending}>
                         Mark read
                       </Button>
                     ) : null
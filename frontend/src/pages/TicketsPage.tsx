@@ -55,7 +55,7 @@ export default function TicketsPage() {
 
   const isSearching = keyword.trim().length > 0;
   const baseTickets = isSearching
-    ? (searchQuery.data as any[] | undefined) ?? []
+    ? (searchQuery.data?.content.map((result) => result.ticket) ?? [])
     : (listQuery.data?.content ?? []);
   const myUserId = state.profile?.sub || state.profile?.email;
   const isMyTickets = assignedTo === "me" && myUserId;
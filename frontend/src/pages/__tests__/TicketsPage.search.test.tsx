@@ -19,9 +19,17 @@ vi.mock("../../query/ticketQueries", async (importOriginal) => {
   return {
     ...actual,
     useSearchTickets: vi.fn((keyword: string) => ({
-      data: [
-        { id: "s1", key: "T-1", title: `Match ${keyword}`, description: "", status: "OPEN", priority: "LOW", projectId: "p1", assigneeId: null }
-      ],
+      data: {
+        content: [
+          {
+            ticket: { id: "s1", key: "T-1", title: `Match ${keyword}`, description: "", status: "OPEN", priority: "LOW", projectId: "p1", assigneeId: null },
+            rank: 0.5,
+            highlightedTitle: `Match <mark>${keyword}</mark>`,
+            snippet: ""
+          }
+        ],
+        page: { number: 0, size: 20, totalElements: 1, totalPages: 1 }
+      },
       isLoading: false
     })),
     useTickets: vi.fn(() => ({ data: { content: [] }, isLoading: false }))